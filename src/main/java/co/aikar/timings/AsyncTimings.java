@@ -0,0 +1,156 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package co.aikar.timings;
+
+import co.aikar.util.JSONUtil;
+import com.google.gson.JsonObject;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
+
+/**
+ * Timings of work done off the main thread. Every thread records into its
+ * own {@link TimingData}, which is merged into a record per thread pool on
+ * the main thread whenever a history snapshot is taken.
+ */
+final class AsyncTimings {
+
+    // Numbered threads of the same pool share a record
+    private static final Pattern THREAD_NUMBER = Pattern.compile("[\\s#-]*\\d+$");
+
+    private static final Collection<ThreadRecord> THREADS = new ConcurrentLinkedQueue<>();
+    private static final ThreadLocal<ThreadRecord> CURRENT = ThreadLocal.withInitial(() -> {
+        final ThreadRecord record = new ThreadRecord(Thread.currentThread());
+        THREADS.add(record);
+        return record;
+    });
+    // Only touched by the main thread
+    private static final Map<String, Map<TimingHandler, TimingData>> POOLS = new HashMap<>();
+
+    private AsyncTimings() {
+    }
+
+    static void startTiming(TimingHandler handler) {
+        CURRENT.get().start(handler);
+    }
+
+    static void stopTiming(TimingHandler handler) {
+        CURRENT.get().stop(handler);
+    }
+
+    /**
+     * Merges what the threads recorded since the last call into the records
+     * of their pools.
+     */
+    static void merge() {
+        for (Iterator<ThreadRecord> it = THREADS.iterator(); it.hasNext(); ) {
+            final ThreadRecord thread = it.next();
+            final Map<TimingHandler, TimingData> pool = POOLS.computeIfAbsent(thread.pool, name -> new HashMap<>());
+            synchronized (thread) {
+                for (Map.Entry<TimingHandler, TimingData> entry : thread.data.entrySet()) {
+                    entry.getKey().timed = true;
+                    pool.computeIfAbsent(entry.getKey(), handler -> new TimingData(handler.id)).merge(entry.getValue());
+                }
+                thread.data.clear();
+            }
+            if (!thread.thread.isAlive()) {
+                it.remove();
+            }
+        }
+    }
+
+    /**
+     * Exports the records of all pools, merging what the threads recorded
+     * so far first.
+     *
+     * @return The records per pool
+     */
+    static JsonObject export() {
+        merge();
+        return JSONUtil.mapArrayToObject(POOLS.entrySet(), (entry) ->
+                JSONUtil.singleObjectPair(entry.getKey(), JSONUtil.mapArray(entry.getValue().values(), TimingData::export)));
+    }
+
+    static void reset(boolean full) {
+        POOLS.clear();
+        if (full) {
+            for (ThreadRecord thread : THREADS) {
+                synchronized (thread) {
+                    thread.data.clear();
+                }
+            }
+        }
+    }
+
+    private static final class ThreadRecord {
+
+        final Thread thread;
+        final String pool;
+        // Guarded by this record, as the main thread merges it
+        final Map<TimingHandler, TimingData> data = new HashMap<>();
+        // The timings started and not yet stopped, only touched by the recording thread
+        private TimingHandler[] handlers = new TimingHandler[8];
+        private long[] starts = new long[8];
+        private int depth;
+
+        ThreadRecord(Thread thread) {
+            this.thread = thread;
+            this.pool = THREAD_NUMBER.matcher(thread.getName()).replaceFirst("");
+        }
+
+        void start(TimingHandler handler) {
+            if (this.depth == this.handlers.length) {
+                this.handlers = Arrays.copyOf(this.handlers, this.depth * 2);
+                this.starts = Arrays.copyOf(this.starts, this.depth * 2);
+            }
+            this.handlers[this.depth] = handler;
+            this.starts[this.depth++] = System.nanoTime();
+        }
+
+        void stop(TimingHandler handler) {
+            // Timings started after this one and never stopped are dropped
+            int index = this.depth - 1;
+            while (index >= 0 && this.handlers[index] != handler) {
+                index--;
+            }
+            if (index < 0) {
+                return;
+            }
+            final long diff = System.nanoTime() - this.starts[index];
+            while (this.depth > index) {
+                this.handlers[--this.depth] = null;
+            }
+            synchronized (this) {
+                this.data.computeIfAbsent(handler, key -> new TimingData(key.id)).addAsync(diff);
+            }
+        }
+    }
+
+}
@@ -29,12 +29,22 @@
 import static co.aikar.timings.TimingsManager.TIMINGS_TICK;
 import static co.aikar.timings.TimingsManager.TIMING_MAP;
 
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.metrics.ServerMetrics;
+
+import javax.annotation.Nullable;
+
 public class FullServerTickHandler extends TimingHandler {
 
     private static final TimingIdentifier IDENTITY = new TimingIdentifier("Minecraft", "Full Server Tick", null, false);
     final TimingData minuteData;
     double avgFreeMemory = -1D;
     double avgUsedMemory = -1D;
+    // Tracked even while timings are disabled, for the tick budget of sliced tasks and the lag spike watchdog
+    private volatile long tickStart;
+    private volatile boolean ticking;
+    @Nullable private volatile Thread tickThread;
+    private long lastTickDuration;
 
     FullServerTickHandler() {
         super(IDENTITY);
@@ -45,6 +55,9 @@ public class FullServerTickHandler extends TimingHandler {
 
     @Override
     public TimingHandler startTiming() {
+        this.tickStart = System.nanoTime();
+        this.tickThread = Thread.currentThread();
+        this.ticking = true;
         if (TimingsManager.needsFullReset) {
             TimingsManager.resetTimings();
         } else if (TimingsManager.needsRecheckEnabled) {
@@ -56,6 +69,9 @@ public TimingHandler startTiming() {
 
     @Override
     public void stopTiming() {
+        this.ticking = false;
+        this.lastTickDuration = System.nanoTime() - this.tickStart;
+        ServerMetrics.INSTANCE.onServerTick(this.tickStart, this.lastTickDuration);
         super.stopTiming();
         if (!this.enabled) {
             return;
@@ -99,10 +115,60 @@ public void stopTiming() {
         }
         if (TimingHistory.timedTicks % Timings.getHistoryInterval() == 0) {
             TimingsManager.HISTORY.add(new TimingHistory());
+            if (SpongeImpl.getGlobalConfig().getConfig().getTimings().isRollingExports()) {
+                TimingsExport.exportRollingTimings();
+            }
             TimingsManager.resetTimings();
         }
     }
 
+    /**
+     * Gets the time the current server tick has taken so far.
+     *
+     * @return The time in nanoseconds
+     */
+    public long getTickElapsedNanos() {
+        return this.tickStart == 0 ? 0 : System.nanoTime() - this.tickStart;
+    }
+
+    /**
+     * Gets whether the server is in the middle of a tick.
+     *
+     * @return True if a tick is running
+     */
+    public boolean isTicking() {
+        return this.ticking;
+    }
+
+    /**
+     * Gets the {@link System#nanoTime()} the current or last server tick
+     * started at.
+     *
+     * @return The start time in nanoseconds
+     */
+    public long getTickStartNanos() {
+        return this.tickStart;
+    }
+
+    /**
+     * Gets the thread running the server ticks.
+     *
+     * @return The thread, or null if no tick ran yet
+     */
+    @Nullable
+    public Thread getTickThread() {
+        return this.tickThread;
+    }
+
+    /**
+     * Gets the time the last completed server tick took.
+     *
+     * @return The time in nanoseconds
+     */
+    public long getLastTickNanos() {
+        return this.lastTickDuration;
+    }
+
     boolean isViolated() {
         return this.record.curTickTotal > 50000000;
     }
@@ -40,6 +40,10 @@ public final class SpongeTimings {
     public static final Timing tickablesTimer = SpongeTimingsFactory.ofSafe("Tickables");
     public static final Timing schedulerTimer = SpongeTimingsFactory.ofSafe("Scheduler");
     public static final Timing chunkIOTickTimer = SpongeTimingsFactory.ofSafe("ChunkIOTick");
+    public static final Timing asyncEntitySpawnTimer = SpongeTimingsFactory.ofSafe("Async Entity Spawns");
+    public static final Timing asyncLightingTimer = SpongeTimingsFactory.ofSafe("Async Lighting");
+    public static final Timing asyncChunkLoadTimer = SpongeTimingsFactory.ofSafe("Async Chunk Load");
+    public static final Timing asyncChunkSaveTimer = SpongeTimingsFactory.ofSafe("Async Chunk Save");
     public static final Timing timeUpdateTimer = SpongeTimingsFactory.ofSafe("Time Update");
     public static final Timing serverCommandTimer = SpongeTimingsFactory.ofSafe("Server Command");
     public static final Timing worldSaveTimer = SpongeTimingsFactory.ofSafe("World Save");
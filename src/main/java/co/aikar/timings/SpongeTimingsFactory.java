@@ -58,9 +58,11 @@ public void init() {
         setTimingsEnabled(this.moduleEnabled && config.isEnabled());
         setHistoryInterval(config.getHistoryInterval());
         setHistoryLength(config.getHistoryLength());
+        TimingsManager.setTrackAllocations(config.isTrackAllocations());
 
         SpongeImpl.getLogger().debug("Sponge Timings: " + this.timingsEnabled +
                                     " - Verbose: " + this.verboseEnabled +
+                                    " - Allocations: " + TimingsManager.trackAllocations +
                                     " - Interval: " + timeSummary(this.historyInterval / 20) +
                                     " - Length: " + timeSummary(this.historyLength / 20));
     }
@@ -174,6 +176,16 @@ public void generateReport(CommandSource sender) {
         TimingsExport.reportTimings(sender);
     }
 
+    /**
+     * Writes a timings report to the local export directory, whether or not
+     * local exports are enabled.
+     *
+     * @param sender Who to report to
+     */
+    public static void exportReport(CommandSource sender) {
+        TimingsExport.exportTimings(sender);
+    }
+
     public static long getCost() {
         return TimingsExport.getCost();
     }
@@ -51,6 +51,11 @@ public TimingData apply(Integer input) {
     int curTickCount = 0;
     int curTickTotal = 0;
 
+    // Bytes allocated by the main thread while timed, only recorded if enabled
+    long totalAllocated = 0;
+    private long lagTotalAllocated = 0;
+    private long curTickAllocated = 0;
+
     TimingData(int id) {
         this.id = id;
     }
@@ -61,6 +66,8 @@ public TimingData apply(Integer input) {
         this.lagTotalTime = data.lagTotalTime;
         this.count = data.count;
         this.lagCount = data.lagCount;
+        this.totalAllocated = data.totalAllocated;
+        this.lagTotalAllocated = data.lagTotalAllocated;
     }
 
     void add(long diff) {
@@ -68,15 +75,37 @@ void add(long diff) {
         this.curTickTotal += diff;
     }
 
+    void add(long diff, long allocated) {
+        add(diff);
+        this.curTickAllocated += allocated;
+    }
+
+    /**
+     * Adds a timing not tied to a server tick, as recorded off the main
+     * thread.
+     */
+    void addAsync(long diff) {
+        ++this.count;
+        this.totalTime += diff;
+    }
+
+    void merge(TimingData data) {
+        this.count += data.count;
+        this.totalTime += data.totalTime;
+    }
+
     void processTick(boolean violated) {
         this.totalTime += this.curTickTotal;
         this.count += this.curTickCount;
+        this.totalAllocated += this.curTickAllocated;
         if (violated) {
             this.lagTotalTime += this.curTickTotal;
             this.lagCount += this.curTickCount;
+            this.lagTotalAllocated += this.curTickAllocated;
         }
         this.curTickTotal = 0;
         this.curTickCount = 0;
+        this.curTickAllocated = 0;
     }
 
     void reset() {
@@ -86,6 +115,9 @@ void reset() {
         this.curTickCount = 0;
         this.totalTime = 0;
         this.lagTotalTime = 0;
+        this.totalAllocated = 0;
+        this.lagTotalAllocated = 0;
+        this.curTickAllocated = 0;
     }
 
     @Override
@@ -105,4 +137,15 @@ public JsonArray export() {
         }
         return array;
     }
+
+    /**
+     * Exports the allocations apart from the timings, so the layout of
+     * {@link #export()} stays what report parsers expect.
+     */
+    JsonArray exportAllocations() {
+        return JSONUtil.arrayOf(
+                this.id,
+                this.totalAllocated,
+                this.lagTotalAllocated);
+    }
 }
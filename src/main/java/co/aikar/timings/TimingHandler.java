@@ -43,6 +43,7 @@ class TimingHandler implements Timing {
     private final TimingHandler groupHandler;
 
     private long start = 0;
+    private long startAllocated = -1;
     private int timingDepth = 0;
     private boolean added;
     boolean timed;
@@ -88,8 +89,13 @@ public void startTimingIfSync() {
             return;
         }
 
-        if (Sponge.isServerAvailable() && SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+        if (!Sponge.isServerAvailable()) {
+            return;
+        }
+        if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
             startTiming();
+        } else {
+            AsyncTimings.startTiming(this);
         }
     }
 
@@ -99,8 +105,13 @@ public void stopTimingIfSync() {
             return;
         }
 
-        if (Sponge.isServerAvailable() && SpongeImpl.getServer().isCallingFromMinecraftThread()) {
+        if (!Sponge.isServerAvailable()) {
+            return;
+        }
+        if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
             stopTiming();
+        } else {
+            AsyncTimings.stopTiming(this);
         }
     }
 
@@ -110,8 +121,13 @@ public TimingHandler startTiming() {
             return this;
         }
 
+        if (!isMainThread()) {
+            AsyncTimings.startTiming(this);
+            return this;
+        }
         if (++this.timingDepth == 1) {
             this.start = System.nanoTime();
+            this.startAllocated = TimingsManager.trackAllocations ? TimingsManager.getAllocatedBytes() : -1;
             this.parent = TimingsManager.CURRENT;
             TimingsManager.CURRENT = this;
         }
@@ -124,18 +140,22 @@ public void stopTiming() {
             return;
         }
 
+        if (!isMainThread()) {
+            AsyncTimings.stopTiming(this);
+            return;
+        }
         if (--this.timingDepth == 0 && this.start != 0) {
-            if (!SpongeImpl.getServer().isCallingFromMinecraftThread()) {
-                SpongeImpl.getLogger().fatal("stopTiming called async for " + this.name);
-                new Throwable().printStackTrace();
-                this.start = 0;
-                return;
-            }
-            addDiff(System.nanoTime() - this.start);
+            final long diff = System.nanoTime() - this.start;
+            addDiff(diff, this.startAllocated == -1 ? 0 : TimingsManager.getAllocatedSince(this.startAllocated));
             this.start = 0;
         }
     }
 
+    private static boolean isMainThread() {
+        // Before the server is up, timings only come from the thread starting it
+        return !Sponge.isServerAvailable() || SpongeImpl.getServer().isCallingFromMinecraftThread();
+    }
+
     @Override
     public void abort() {
         if (this.enabled && this.timingDepth > 0) {
@@ -144,21 +164,25 @@ public void abort() {
     }
 
     void addDiff(long diff) {
+        addDiff(diff, 0);
+    }
+
+    void addDiff(long diff, long allocated) {
         if (TimingsManager.CURRENT == this) {
             TimingsManager.CURRENT = this.parent;
             if (this.parent != null) {
-                this.parent.children.get(this.id).add(diff);
+                this.parent.children.get(this.id).add(diff, allocated);
             }
         }
-        this.record.add(diff);
+        this.record.add(diff, allocated);
         if (!this.added) {
             this.added = true;
             this.timed = true;
             TimingsManager.HANDLERS.add(this);
         }
         if (this.groupHandler != null) {
-            this.groupHandler.addDiff(diff);
-            this.groupHandler.children.get(this.id).add(diff);
+            this.groupHandler.addDiff(diff, allocated);
+            this.groupHandler.children.get(this.id).add(diff, allocated);
         }
     }
 
@@ -173,6 +197,7 @@ void reset(boolean full) {
             this.timed = false;
         }
         this.start = 0;
+        this.startAllocated = -1;
         this.timingDepth = 0;
         this.added = false;
         this.children.clear();
@@ -71,6 +71,8 @@ public class TimingHistory {
     final Set<BlockType> blockTypeSet = Sets.newHashSet();
     final Set<EntityType> entityTypeSet = Sets.newHashSet();
     final JsonObject worlds;
+    // Timings recorded off the main thread, per thread pool
+    final JsonObject async;
 
     TimingHistory() {
         this.endTime = System.currentTimeMillis() / 1000;
@@ -87,6 +89,7 @@ public class TimingHistory {
         }
         this.totalTicks = ticks;
         this.totalTime = FULL_SERVER_TICK.record.totalTime;
+        this.async = AsyncTimings.export();
         this.entries = new TimingHistoryEntry[TimingsManager.HANDLERS.size()];
 
         int i = 0;
@@ -157,6 +160,8 @@ JsonObject export() {
                 .add("w", this.worlds)
                 .add("h", JSONUtil.mapArray(this.entries, (entry) -> entry.data.count == 0 ? null : entry.export()))
                 .add("mp", JSONUtil.mapArray(this.minuteReports, MinuteReport::export))
+                .add("a", this.async)
+                .add("al", JSONUtil.mapArray(this.entries, (entry) -> entry.data.totalAllocated == 0 ? null : entry.data.exportAllocations()))
                 .build();
     }
 
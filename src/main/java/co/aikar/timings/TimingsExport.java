@@ -31,6 +31,7 @@
 import co.aikar.util.JSONUtil.JsonObjectBuilder;
 import com.google.common.base.Joiner;
 import com.google.common.collect.Sets;
+import com.google.common.io.Resources;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
@@ -48,7 +49,10 @@
 import org.spongepowered.api.text.action.TextActions;
 import org.spongepowered.api.text.format.TextColors;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.TimingsCategory;
 import org.spongepowered.common.entity.SpongeEntityType;
+import org.spongepowered.common.scheduler.LatencyHistogram;
+import org.spongepowered.common.scheduler.TaskStatistics;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -59,25 +63,59 @@
 import java.net.HttpURLConnection;
 import java.net.InetAddress;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.zip.GZIPOutputStream;
 
+import javax.annotation.Nullable;
+
 class TimingsExport extends Thread {
 
     private static final Joiner AUTHOR_LIST_JOINER = Joiner.on(", ");
     private static final Joiner RUNTIME_FLAG_JOINER = Joiner.on(" ");
     private static final Joiner CONFIG_PATH_JOINER = Joiner.on(".");
 
-    private final CommandSource sender;
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss");
+    private static final String ROLLING_PREFIX = "rolling-";
+    private static final String VIEWER_DATA_PLACEHOLDER = "/*TIMINGS_DATA*/null";
+
+    private enum Mode {
+        /**
+         * Uploads the report to the timings site.
+         */
+        PASTE,
+        /**
+         * Writes the report to the export directory.
+         */
+        LOCAL,
+        /**
+         * Writes the report to the export directory without notifying anyone,
+         * deleting old rolling reports.
+         */
+        ROLLING
+    }
+
+    @Nullable private final CommandSource sender;
     private final JsonObject out;
     private final TimingHistory[] history;
+    private final Mode mode;
 
-    TimingsExport(CommandSource sender, JsonObject out, TimingHistory[] history) {
+    private TimingsExport(@Nullable CommandSource sender, JsonObject out, TimingHistory[] history, Mode mode) {
         super("Timings paste thread");
         this.sender = sender;
         this.out = out;
         this.history = history;
+        this.mode = mode;
     }
 
     private static String getServerName() {
@@ -85,11 +123,33 @@ private static String getServerName() {
     }
 
     /**
-     * Builds an XML report of the timings to be uploaded for parsing.
+     * Builds a report of the timings to be uploaded for parsing, or written
+     * to disk if local exports are enabled.
      *
      * @param sender Who to report to
      */
     static void reportTimings(CommandSource sender) {
+        reportTimings(sender, SpongeImpl.getGlobalConfig().getConfig().getTimings().isExportLocally() ? Mode.LOCAL : Mode.PASTE);
+    }
+
+    /**
+     * Builds a report of the timings and writes it to disk.
+     *
+     * @param sender Who to report to
+     */
+    static void exportTimings(CommandSource sender) {
+        reportTimings(sender, Mode.LOCAL);
+    }
+
+    /**
+     * Writes a report of the timings history to disk, called whenever a
+     * history snapshot was taken.
+     */
+    static void exportRollingTimings() {
+        reportTimings(null, Mode.ROLLING);
+    }
+
+    private static void reportTimings(@Nullable CommandSource sender, Mode mode) {
         Platform platform = SpongeImpl.getGame().getPlatform();
         JsonObjectBuilder builder = JSONUtil.objectBuilder()
                 // Get some basic system details about the server
@@ -124,8 +184,10 @@ static void reportTimings(CommandSource sender) {
         Set<BlockType> blockTypeSet = Sets.newHashSet();
         Set<EntityType> entityTypeSet = Sets.newHashSet();
 
+        // Rolling reports are written right after a snapshot, so there is no current one worth adding
+        final boolean addCurrent = mode != Mode.ROLLING;
         int size = HISTORY.size();
-        TimingHistory[] history = new TimingHistory[size + 1];
+        TimingHistory[] history = new TimingHistory[addCurrent ? size + 1 : size];
         int i = 0;
         for (TimingHistory timingHistory : HISTORY) {
             blockTypeSet.addAll(timingHistory.blockTypeSet);
@@ -133,9 +195,11 @@ static void reportTimings(CommandSource sender) {
             history[i++] = timingHistory;
         }
 
-        history[i] = new TimingHistory(); // Current snapshot
-        blockTypeSet.addAll(history[i].blockTypeSet);
-        entityTypeSet.addAll(history[i].entityTypeSet);
+        if (addCurrent) {
+            history[i] = new TimingHistory(); // Current snapshot
+            blockTypeSet.addAll(history[i].blockTypeSet);
+            entityTypeSet.addAll(history[i].entityTypeSet);
+        }
 
         JsonObjectBuilder handlersBuilder = JSONUtil.objectBuilder();
         for (TimingIdentifier.TimingGroup group : TimingIdentifier.GROUP_MAP.values()) {
@@ -178,12 +242,32 @@ static void reportTimings(CommandSource sender) {
             ).build();
         }));
 
+        // Lateness and duration of scheduled tasks per plugin, in nanoseconds
+
+        builder.add("scheduler", JSONUtil.objectBuilder()
+                .add("sync", exportTaskStatistics(SpongeImpl.getScheduler().getPluginStatistics(false)))
+                .add("async", exportTaskStatistics(SpongeImpl.getScheduler().getPluginStatistics(true))));
+
         // Information on the users Config
 
         builder.add("config", JSONUtil.objectBuilder()
                 .add("sponge", serializeConfigNode(SpongeImpl.getGlobalConfig().getRootNode())));
 
-        new TimingsExport(sender, builder.build(), history).start();
+        new TimingsExport(sender, builder.build(), history, mode).start();
+    }
+
+    private static JsonObject exportTaskStatistics(Map<String, TaskStatistics> statistics) {
+        return JSONUtil.mapArrayToObject(statistics.entrySet(), (entry) -> {
+            final LatencyHistogram lateness = entry.getValue().getLateness();
+            final LatencyHistogram duration = entry.getValue().getDuration();
+            return JSONUtil.singleObjectPair(entry.getKey(), JSONUtil.objectBuilder()
+                    .add("runs", entry.getValue().getRuns())
+                    .add("slices", duration.getCount())
+                    .add("overlaps", entry.getValue().getOverlaps())
+                    .add("lateness", JSONUtil.arrayOf(lateness.getPercentile(0.5), lateness.getPercentile(0.99), lateness.getMax()))
+                    .add("duration", JSONUtil.arrayOf(duration.getPercentile(0.5), duration.getPercentile(0.99), duration.getMax()))
+                    .build());
+        });
     }
 
     static long getCost() {
@@ -257,10 +341,76 @@ public synchronized void start() {
 
     @Override
     public void run() {
-        this.sender.sendMessage(Text.of(TextColors.GREEN, "Preparing Timings Report..."));
+        if (this.sender != null) {
+            this.sender.sendMessage(Text.of(TextColors.GREEN, "Preparing Timings Report..."));
+        }
 
         this.out.add("data", JSONUtil.mapArray(this.history, TimingHistory::export));
 
+        if (this.mode == Mode.PASTE) {
+            this.paste();
+        } else {
+            this.writeLocal();
+        }
+    }
+
+    private void writeLocal() {
+        final TimingsCategory config = SpongeImpl.getGlobalConfig().getConfig().getTimings();
+        final Path directory = SpongeImpl.getGameDir().resolve(config.getExportDirectory());
+        final String name = (this.mode == Mode.ROLLING ? ROLLING_PREFIX : "") + "timings-" + FILE_DATE_FORMAT.format(LocalDateTime.now());
+        try {
+            Files.createDirectories(directory);
+            final String json = JSONUtil.toString(this.out);
+            try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(directory.resolve(name + ".json.gz")))) {
+                out.write(json.getBytes(StandardCharsets.UTF_8));
+            }
+            final Path viewer = directory.resolve(name + ".html");
+            Files.write(viewer, createViewer(json).getBytes(StandardCharsets.UTF_8));
+
+            if (this.mode == Mode.ROLLING) {
+                deleteOldRollingExports(directory, config.getRollingExportRetention());
+            } else {
+                this.sender.sendMessage(Text.of(TextColors.GREEN, "Timings Report written to ", viewer.toAbsolutePath().toString()));
+                if (!(this.sender instanceof ConsoleSource)) {
+                    SpongeImpl.getLogger().info("Timings Report written to " + viewer.toAbsolutePath());
+                }
+            }
+        } catch (IOException ex) {
+            if (this.sender != null) {
+                this.sender.sendMessage(Text.of(TextColors.RED, "Error writing timings, check your logs for more information"));
+            }
+            SpongeImpl.getLogger().error("Could not write timings to " + directory, ex);
+        }
+    }
+
+    /**
+     * Creates a standalone HTML page showing the report, with the report
+     * embedded in it.
+     */
+    private static String createViewer(String json) throws IOException {
+        final String template = Resources.toString(TimingsExport.class.getResource("viewer.html"), StandardCharsets.UTF_8);
+        // Keep strings in the report from closing the script element
+        return template.replace(VIEWER_DATA_PLACEHOLDER, json.replace("</", "<\\/"));
+    }
+
+    private static void deleteOldRollingExports(Path directory, int retention) throws IOException {
+        // The file names sort by the time they were written, and every report consists of the json and the viewer
+        final TreeMap<String, List<Path>> reports = new TreeMap<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, ROLLING_PREFIX + "*")) {
+            for (Path path : stream) {
+                final String fileName = path.getFileName().toString();
+                final int extension = fileName.indexOf('.', ROLLING_PREFIX.length());
+                reports.computeIfAbsent(extension == -1 ? fileName : fileName.substring(0, extension), key -> new ArrayList<>()).add(path);
+            }
+        }
+        while (reports.size() > Math.max(1, retention)) {
+            for (Path path : reports.pollFirstEntry().getValue()) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    private void paste() {
         String response = null;
         try {
             String hostname = "localhost";
@@ -30,6 +30,8 @@
 import org.spongepowered.api.command.CommandMapping;
 import org.spongepowered.common.SpongeImpl;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
@@ -38,6 +40,8 @@
 import java.util.Map;
 import java.util.Optional;
 
+import javax.annotation.Nullable;
+
 public final class TimingsManager {
 
     static final Map<TimingIdentifier, TimingHandler> TIMING_MAP = Collections.synchronizedMap(
@@ -61,6 +65,10 @@ public final class TimingsManager {
     static long historyStart = 0;
     static boolean needsFullReset = false;
     static boolean needsRecheckEnabled = false;
+    static boolean trackAllocations = false;
+    @Nullable private static com.sun.management.ThreadMXBean threadBean;
+    // What reading the allocated bytes allocates itself, taken off every reading
+    private static long allocationBias;
 
     private TimingsManager() {
     }
@@ -94,6 +102,36 @@ static void tick() {
         }
     }
 
+    /**
+     * Enables recording the bytes the main thread allocates while timed, if
+     * the JVM is able to count them.
+     *
+     * @param enabled Whether to record allocations
+     */
+    static void setTrackAllocations(boolean enabled) {
+        if (enabled && threadBean == null) {
+            final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (!(bean instanceof com.sun.management.ThreadMXBean)
+                    || !((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+                SpongeImpl.getLogger().warn("Timings can not record allocations, this JVM does not count allocated bytes per thread");
+                return;
+            }
+            threadBean = (com.sun.management.ThreadMXBean) bean;
+            threadBean.setThreadAllocatedMemoryEnabled(true);
+            final long first = getAllocatedBytes();
+            allocationBias = getAllocatedBytes() - first;
+        }
+        trackAllocations = enabled && threadBean != null;
+    }
+
+    static long getAllocatedBytes() {
+        return threadBean == null ? 0 : threadBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    static long getAllocatedSince(long allocated) {
+        return Math.max(0, getAllocatedBytes() - allocated - allocationBias);
+    }
+
     static void stopServer() {
         Timings.setTimingsEnabled(false);
         recheckEnabled();
@@ -121,6 +159,7 @@ static void resetTimings() {
                 SpongeImpl.getLogger().info("Timings reset");
             }
             HISTORY.clear();
+            AsyncTimings.reset(true);
             needsFullReset = false;
             needsRecheckEnabled = false;
             timingStart = System.currentTimeMillis();
@@ -130,6 +169,7 @@ static void resetTimings() {
             for (TimingHandler timings : HANDLERS) {
                 timings.reset(false);
             }
+            AsyncTimings.reset(false);
         }
 
         HANDLERS.clear();
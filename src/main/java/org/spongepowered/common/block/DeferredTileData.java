@@ -0,0 +1,171 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.block;
+
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.tileentity.TileEntity;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+/**
+ * A handle on the data of a live {@link TileEntity} for {@link SpongeBlockSnapshot}s
+ * that will most likely never be looked at. The tile is only written to nbt once
+ * the data is requested, once an event is posted, or once the tile is about to be
+ * invalidated, broken, unloaded or read into, whichever comes first. Every snapshot
+ * taken of the tile before that point shares the handle, and with it the written
+ * data.
+ *
+ * <p>Since the tile is not watched for changes to its own contents, this is only
+ * used for snapshots of a block that is staying in place and that nothing is
+ * restored from, such as the final snapshot of a transaction. Original
+ * snapshots are always written right away, any change to the tile between the
+ * block change and processing it would otherwise be restored along with them.</p>
+ *
+ * <p>Handles are only created on the main thread. All pending handles are
+ * written out before an event is posted, see {@link #captureAll()}, so that
+ * snapshots handed to listeners, including those running asynchronously, never
+ * touch the live tile. Handles still pending at the end of the tick are
+ * dropped, see {@link #releaseAll()}.</p>
+ */
+public final class DeferredTileData {
+
+    // The handles not written out yet, only accessed from the main thread
+    private static final List<DeferredTileData> PENDING = new ArrayList<>();
+
+    /**
+     * Gets the pending handle for the given tile, or starts one if the tile
+     * was either written already or never captured.
+     *
+     * @param tile The tile entity
+     * @return The handle on the tile's data
+     */
+    public static DeferredTileData of(TileEntity tile) {
+        final IMixinTileEntity mixinTile = (IMixinTileEntity) tile;
+        DeferredTileData data = mixinTile.getDeferredTileData();
+        if (data == null) {
+            data = new DeferredTileData(tile);
+            mixinTile.setDeferredTileData(data);
+            PENDING.add(data);
+        }
+        return data;
+    }
+
+    /**
+     * Writes out the pending handle of the given tile, if any, before the tile
+     * can no longer be trusted to hold the data it had when it was captured.
+     *
+     * @param tile The tile entity
+     */
+    public static void capture(@Nullable TileEntity tile) {
+        if (tile != null) {
+            final DeferredTileData data = ((IMixinTileEntity) tile).getDeferredTileData();
+            if (data != null) {
+                data.capture();
+            }
+        }
+    }
+
+    /**
+     * Writes out every pending handle, before the snapshots sharing them can
+     * be passed on to anything outside of the main thread's current
+     * processing. Must be called on the main thread.
+     */
+    public static void captureAll() {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        // Indexed, writing a tile out may well start new handles
+        for (int i = 0; i < PENDING.size(); i++) {
+            PENDING.get(i).capture();
+        }
+        PENDING.clear();
+    }
+
+    /**
+     * Drops every pending handle without writing it out, at the end of a tick.
+     * The snapshots sharing them were not passed to any listener, so they are
+     * left without tile data rather than writing tiles nobody looks at or
+     * holding on to them. Must be called on the main thread.
+     */
+    public static void releaseAll() {
+        if (PENDING.isEmpty()) {
+            return;
+        }
+        for (DeferredTileData data : PENDING) {
+            final TileEntity tile = data.tile;
+            if (tile != null) {
+                ((IMixinTileEntity) tile).setDeferredTileData(null);
+                data.tile = null;
+            }
+        }
+        PENDING.clear();
+    }
+
+    // Cleared once written, after publishing the compound
+    @Nullable private volatile TileEntity tile;
+    @Nullable private volatile NBTTagCompound compound;
+
+    private DeferredTileData(TileEntity tile) {
+        this.tile = tile;
+    }
+
+    /**
+     * Writes out the tile now if it is still pending.
+     */
+    public void capture() {
+        final TileEntity tile = this.tile;
+        if (tile == null) {
+            return;
+        }
+        ((IMixinTileEntity) tile).setDeferredTileData(null);
+        final NBTTagCompound nbt = new NBTTagCompound();
+        // Some mods like OpenComputers assert if attempting to save robot while moving
+        try {
+            tile.writeToNBT(nbt);
+            this.compound = nbt;
+        } catch (Throwable t) {
+            // ignore
+        }
+        this.tile = null;
+    }
+
+    /**
+     * Gets the written data of the tile, writing it now if it is still pending.
+     * The returned compound is shared and must not be modified.
+     *
+     * @return The tile data, if the tile could be written
+     */
+    @Nullable
+    NBTTagCompound getCompound() {
+        if (this.tile != null) {
+            capture();
+        }
+        return this.compound;
+    }
+}
@@ -93,7 +93,8 @@ public class SpongeBlockSnapshot implements BlockSnapshot {
     private ImmutableList<ImmutableDataManipulator<?, ?>> blockData;
     private ImmutableMap<Key<?>, ImmutableValue<?>> blockKeyValueMap;
     private ImmutableSet<ImmutableValue<?>> blockValueSet;
-    @Nullable final NBTTagCompound compound;
+    @Nullable private final NBTTagCompound compound;
+    @Nullable private final DeferredTileData deferredTileData;
     @Nullable final UUID creatorUniqueId;
     @Nullable final UUID notifierUniqueId;
     // Internal use only
@@ -129,7 +130,13 @@ public SpongeBlockSnapshot(SpongeBlockSnapshotBuilder builder) {
         }
         this.keyValueMap = tileBuilder.build();
         this.valueSet = this.keyValueMap.isEmpty() ? ImmutableSet.of() : ImmutableSet.copyOf(this.keyValueMap.values());
-        this.compound = builder.compound == null ? null : builder.compound.copy();
+        if (builder.compound != null) {
+            this.compound = builder.compound.copy();
+            this.deferredTileData = null;
+        } else {
+            this.compound = null;
+            this.deferredTileData = builder.deferredTileData;
+        }
         this.changeFlag = BlockChangeFlag.ALL;
     }
 
@@ -197,10 +204,11 @@ public boolean restore(boolean force, BlockChangeFlag flag) {
 
             mixinWorldServer.setBlockState(pos, replaced, flag);
             world.getPlayerChunkMap().markBlockForUpdate(pos);
-            if (this.compound != null) {
+            final NBTTagCompound compound = getTileCompound();
+            if (compound != null) {
                 final TileEntity te = world.getTileEntity(pos);
                 if (te != null) {
-                    te.readFromNBT(this.compound);
+                    te.readFromNBT(compound);
                     te.markDirty();
                 }
             }
@@ -252,8 +260,9 @@ public DataContainer toContainer() {
         if (this.blockState != this.extendedState) {
             container.set(DataQueries.BLOCK_EXTENDED_STATE, this.extendedState);
         }
-        if (this.compound != null) {
-            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(this.compound));
+        final NBTTagCompound compound = getTileCompound();
+        if (compound != null) {
+            container.set(DataQueries.UNSAFE_NBT, NbtTranslator.getInstance().translateFrom(compound));
         }
         final List<DataView> dataList = DataUtil.getSerializedImmutableManipulatorList(this.extraData);
         if (!dataList.isEmpty()) {
@@ -464,7 +473,13 @@ public Set<ImmutableValue<?>> getValues() {
     }
 
     public Optional<NBTTagCompound> getCompound() {
-        return this.compound == null ? Optional.<NBTTagCompound>empty() : Optional.of(this.compound.copy());
+        final NBTTagCompound compound = getTileCompound();
+        return compound == null ? Optional.<NBTTagCompound>empty() : Optional.of(compound.copy());
+    }
+
+    @Nullable
+    NBTTagCompound getTileCompound() {
+        return this.deferredTileData != null ? this.deferredTileData.getCompound() : this.compound;
     }
 
     public SpongeBlockSnapshotBuilder createBuilder() {
@@ -476,8 +491,9 @@ public SpongeBlockSnapshotBuilder createBuilder() {
         for (ImmutableDataManipulator<?, ?> manipulator : this.extraData) {
             builder.add(manipulator);
         }
-        if (this.compound != null) {
-            builder.unsafeNbt(this.compound);
+        final NBTTagCompound compound = getTileCompound();
+        if (compound != null) {
+            builder.unsafeNbt(compound);
         }
         return builder;
     }
@@ -522,10 +538,11 @@ public Optional<TileEntityArchetype> createArchetype() {
         if (!(type instanceof ITileEntityProvider)) {
             return Optional.empty();
         }
-        if (this.compound == null) { // We can't retrieve the TileEntityType
+        final NBTTagCompound compound = getTileCompound();
+        if (compound == null) { // We can't retrieve the TileEntityType
             return Optional.empty();
         }
-        final String tileId = this.compound.getString(NbtDataUtil.BLOCK_ENTITY_ID);
+        final String tileId = compound.getString(NbtDataUtil.BLOCK_ENTITY_ID);
         final Class<? extends TileEntity> tileClass = TileEntity.REGISTRY.getObject(new ResourceLocation(tileId));
         if (tileClass == null) {
             return Optional.empty();
@@ -535,7 +552,7 @@ public Optional<TileEntityArchetype> createArchetype() {
         final TileEntityArchetype archetype = TileEntityArchetype.builder()
                 .tile(tileType)
                 .state(this.blockState)
-                .tileData(NbtTranslator.getInstance().translate(this.compound))
+                .tileData(NbtTranslator.getInstance().translate(compound))
                 .build();
         return Optional.of(archetype);
     }
@@ -554,17 +571,18 @@ public boolean equals(Object o) {
                Objects.equal(this.worldUniqueId, that.worldUniqueId) &&
                Objects.equal(this.pos, that.pos) &&
                Objects.equal(this.extraData, that.extraData) &&
-               Objects.equal(this.compound, that.compound);
+               (this.deferredTileData != null && this.deferredTileData == that.deferredTileData
+                || Objects.equal(getTileCompound(), that.getTileCompound()));
     }
 
     @Override
     public int hashCode() {
+        // The tile data is left out so hashing a snapshot never has to write out its tile
         return Objects
             .hashCode(this.extendedState,
                 this.worldUniqueId,
                 this.pos,
                 this.extraData,
-                this.changeFlag,
-                this.compound);
+                this.changeFlag);
     }
 }
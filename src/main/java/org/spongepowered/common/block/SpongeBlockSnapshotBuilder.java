@@ -71,6 +71,7 @@ public class SpongeBlockSnapshotBuilder extends AbstractDataBuilder<BlockSnapsho
     Vector3i coords;
     @Nullable List<ImmutableDataManipulator<?, ?>> manipulators;
     @Nullable NBTTagCompound compound;
+    @Nullable DeferredTileData deferredTileData;
 
 
     public SpongeBlockSnapshotBuilder() {
@@ -145,6 +146,19 @@ public SpongeBlockSnapshotBuilder unsafeNbt(NBTTagCompound compound) {
         return this;
     }
 
+    /**
+     * Lets the snapshot share the given tile's data, written out only once it
+     * is needed, see {@link DeferredTileData}. Any data set through {@link #unsafeNbt}
+     * takes precedence.
+     *
+     * @param tileData The handle on the tile entity at the snapshot's position
+     * @return This builder, for chaining
+     */
+    public SpongeBlockSnapshotBuilder deferredTileData(DeferredTileData tileData) {
+        this.deferredTileData = tileData;
+        return this;
+    }
+
     @Override
     public SpongeBlockSnapshotBuilder add(DataManipulator<?, ?> manipulator) {
         return add(checkNotNull(manipulator, "manipulator").asImmutable());
@@ -190,8 +204,9 @@ public SpongeBlockSnapshotBuilder from(BlockSnapshot holder) {
         this.coords = holder.getPosition();
         this.manipulators = Lists.newArrayList(holder.getManipulators());
         if (holder instanceof SpongeBlockSnapshot) {
-            if (((SpongeBlockSnapshot) holder).compound != null) {
-                this.compound = ((SpongeBlockSnapshot) holder).compound.copy();
+            final NBTTagCompound compound = ((SpongeBlockSnapshot) holder).getTileCompound();
+            if (compound != null) {
+                this.compound = compound.copy();
             }
         }
         return this;
@@ -206,6 +221,7 @@ public SpongeBlockSnapshotBuilder reset() {
         this.coords = null;
         this.manipulators = null;
         this.compound = null;
+        this.deferredTileData = null;
         return this;
     }
 
@@ -37,6 +37,7 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.ChunkTickCosts;
 
 import java.io.File;
 import java.io.FileWriter;
@@ -131,6 +132,11 @@ public static void writeChunks(File file, boolean logAll) {
                     writeChunkCounts(writer, "tilesByClass", classTileCounts);
                     writeChunkCounts(writer, "tilesByChunk", chunkTileCounts);
 
+                    if (ChunkTickCosts.isEnabled()) {
+                        writeTickCosts(writer, "tickCostsByChunk",
+                                ChunkTickCosts.getTopChunks(((IMixinWorldServer) spongeWorld).getDimensionId(), 20));
+                    }
+
                     writer.endObject(); // Dimension
                 }
                 writer.endArray(); // Dimensions
@@ -140,6 +146,22 @@ public static void writeChunks(File file, boolean logAll) {
         }
     }
 
+    private static void writeTickCosts(JsonWriter writer, String name, List<ChunkTickCosts.Summary> summaries) throws IOException {
+        writer.name(name).beginArray();
+        for (ChunkTickCosts.Summary summary : summaries) {
+            writer.beginObject();
+            writer.name("x").value(summary.getChunkX());
+            writer.name("z").value(summary.getChunkZ());
+            writer.name("millis").value(summary.getNanos() / 1000000L);
+            writer.name("entityTicks").value(summary.getEntityTicks());
+            writer.name("tileTicks").value(summary.getTileEntityTicks());
+            writer.name("blockTicks").value(summary.getBlockTicks());
+            writer.name("capturedBlocks").value(summary.getCapturedBlocks());
+            writer.endObject();
+        }
+        writer.endArray();
+    }
+
     private static <T> void writeChunkCounts(JsonWriter writer, String name, final Object2IntMap<T> map) throws IOException {
         writeChunkCounts(writer, name, map, 0);
     }
@@ -67,6 +67,7 @@
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.service.pagination.PaginationList;
 import org.spongepowered.api.text.Text;
 import org.spongepowered.api.text.action.ClickAction;
@@ -83,18 +84,30 @@
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.BlockUtil;
 import org.spongepowered.common.config.SpongeConfig;
+import org.spongepowered.common.config.category.WorldCategory;
 import org.spongepowered.common.config.type.DimensionConfig;
 import org.spongepowered.common.config.type.GlobalConfig;
 import org.spongepowered.common.config.type.WorldConfig;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.tracking.AsyncEntitySpawnQueue;
+import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.world.IMixinDimensionType;
 import org.spongepowered.common.interfaces.world.IMixinWorldInfo;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.scheduler.AsyncTaskExecutor;
+import org.spongepowered.common.scheduler.LatencyHistogram;
+import org.spongepowered.common.scheduler.ScheduledTask;
+import org.spongepowered.common.scheduler.SpongeScheduler;
+import org.spongepowered.common.scheduler.TaskStatistics;
+import org.spongepowered.common.util.LagSpikeWatchdog;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.ChunkTickCosts;
 import org.spongepowered.common.world.WorldManager;
+import org.spongepowered.common.world.storage.WorldStorageUtil;
 
 import java.io.File;
 import java.net.MalformedURLException;
@@ -107,6 +120,7 @@
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.TreeSet;
 import java.util.function.Function;
@@ -169,6 +183,10 @@ public static CommandSpec createSpongeCommand() {
         nonFlagChildren.register(createSpongePluginsCommand(), "plugins");
         nonFlagChildren.register(createSpongeTimingsCommand(), "timings");
         nonFlagChildren.register(createSpongeWhichCommand(), "which");
+        nonFlagChildren.register(createSpongeSchedulerCommand(), "scheduler");
+        nonFlagChildren.register(createSpongeLagSpikesCommand(), "lagspikes");
+        nonFlagChildren.register(createSpongeChunkCostsCommand(), "chunkcosts");
+        nonFlagChildren.register(createSpongeRecompressCommand(), "recompress");
         flagChildren.register(createSpongeChunksCommand(), "chunks");
         flagChildren.register(createSpongeConfigCommand(), "config");
         flagChildren.register(createSpongeReloadCommand(), "reload"); // TODO: Should these two be subcommands of config, and what is now config be set?
@@ -190,6 +208,10 @@ INDENT, title("audit"), LONG_INDENT, "Audit mixin classes for implementation\n",
                         INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
                         INDENT, title("which"), LONG_INDENT, "List plugins that own a specific command\n",
                         INDENT, title("tps"), LONG_INDENT, "Provides TPS (ticks per second) data for loaded worlds\n",
+                        INDENT, title("scheduler"), LONG_INDENT, "Provides lateness and duration data of scheduled tasks\n",
+                        INDENT, title("lagspikes"), LONG_INDENT, "Lists recent slow ticks sampled by the lag spike watchdog\n",
+                        INDENT, title("chunkcosts"), LONG_INDENT, "Lists the chunks and plugins taking the most tick time\n",
+                        INDENT, title("recompress"), LONG_INDENT, "Rewrites the saved chunks of a world with its chunk compression\n",
                         SpongeImplHooks.getAdditionalCommandDescriptions()))
                 .arguments(firstParsing(nonFlagChildren, flags()
                         .flag("-global", "g")
@@ -318,6 +340,8 @@ protected Text getChunksInfo(WorldServer worldserver) {
                         return Text.of(NEWLINE_TEXT, key("DimensionId: "), value(WorldManager.getDimensionId(worldserver)), NEWLINE_TEXT,
                                 key("Loaded chunks: "), value(worldserver.getChunkProvider().getLoadedChunkCount()), NEWLINE_TEXT,
                                 key("Active chunks: "), value(worldserver.getChunkProvider().getLoadedChunks().size()), NEWLINE_TEXT,
+                                key("Auto-save backlog: "),
+                                value(((IMixinChunkProviderServer) worldserver.getChunkProvider()).getAutoSaveBacklog()), NEWLINE_TEXT,
                                 key("Entities: "), value(worldserver.loadedEntityList.size()), NEWLINE_TEXT,
                                 key("Tile Entities: "), value(worldserver.loadedTileEntityList.size()), NEWLINE_TEXT,
                                 key("Removed Entities:"), value(worldserver.unloadedEntityList.size()), NEWLINE_TEXT,
@@ -637,6 +661,16 @@ private static CommandCallable createSpongeTimingsCommand() {
                             return CommandResult.success();
                         })
                         .build(), "report", "paste")
+                .child(CommandSpec.builder()
+                        .executor((src, args) -> {
+                            if (!Timings.isTimingsEnabled()) {
+                                src.sendMessage(Text.of("Please enable timings by typing /sponge timings on"));
+                                return CommandResult.empty();
+                            }
+                            SpongeTimingsFactory.exportReport(src);
+                            return CommandResult.success();
+                        })
+                        .build(), "export")
                 .child(CommandSpec.builder()
                         .executor((src, args) -> {
                             Timings.setTimingsEnabled(true);
@@ -714,6 +748,163 @@ private static CommandSpec createSpongeWhichCommand() {
                 .build();
     }
 
+    private static CommandSpec createSpongeSchedulerCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.scheduler")
+                .description(Text.of("Provides lateness and duration data of scheduled tasks, per plugin or per task of a plugin."))
+                .arguments(optional(plugin(Text.of("plugin"))))
+                .executor((src, args) -> {
+                    final SpongeScheduler scheduler = SpongeImpl.getScheduler();
+                    final Optional<PluginContainer> plugin = args.getOne("plugin");
+                    if (plugin.isPresent()) {
+                        src.sendMessage(Text.of(TextColors.GREEN, "Scheduled tasks of ", plugin.get().getId(), ":"));
+                        for (Task task : scheduler.getScheduledTasks(plugin.get())) {
+                            printTaskStatistics(src, task.getName() + (task.isAsynchronous() ? " (async)" : ""),
+                                    ((ScheduledTask) task).getStatistics());
+                        }
+                    } else {
+                        for (boolean async : new boolean[] {false, true}) {
+                            src.sendMessage(Text.of(TextColors.GREEN, async ? "Asynchronous tasks:" : "Synchronous tasks:"));
+                            // The plugins whose tasks start latest come first
+                            scheduler.getPluginStatistics(async).entrySet().stream()
+                                    .sorted(Comparator.comparingLong(
+                                            (Map.Entry<String, TaskStatistics> entry) -> -entry.getValue().getLateness().getPercentile(0.99)))
+                                    .forEachOrdered(entry -> printTaskStatistics(src, entry.getKey(), entry.getValue()));
+                        }
+                    }
+                    final Map<PluginContainer, AsyncTaskExecutor.Lane> lanes = scheduler.getAsyncTaskExecutor().getLanes();
+                    if (!lanes.isEmpty()) {
+                        src.sendMessage(Text.of(TextColors.GREEN, "Asynchronous lanes:"));
+                        lanes.forEach((owner, lane) -> {
+                            if (!plugin.isPresent() || plugin.get().equals(owner)) {
+                                src.sendMessage(Text.of(" ", TextColors.DARK_GREEN, owner.getId(), TextColors.RESET, ": ",
+                                        lane.getActive(), "/", lane.getParallelism(), " active, ", lane.getQueued(), " queued, ",
+                                        lane.getCompleted(), " completed, ", TextColors.RED, lane.getRejected(), " rejected",
+                                        TextColors.RESET, ", waited ", formatMillis(lane.getAverageWaitNanos()), " avg / ",
+                                        formatMillis(lane.getMaxWaitNanos()), " max"));
+                            }
+                        });
+                    }
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createSpongeLagSpikesCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.lagspikes")
+                .description(Text.of("Lists recent slow ticks sampled by the lag spike watchdog."))
+                .executor((src, args) -> {
+                    if (!SpongeImpl.getGlobalConfig().getConfig().getLagSpikeWatchdog().isEnabled()) {
+                        src.sendMessage(Text.of("The lag spike watchdog is disabled, enable it in the global config"));
+                        return CommandResult.empty();
+                    }
+                    final Collection<LagSpikeWatchdog.LagSpike> spikes = LagSpikeWatchdog.getSpikes();
+                    if (spikes.isEmpty()) {
+                        src.sendMessage(Text.of("No lag spikes so far"));
+                        return CommandResult.success();
+                    }
+                    for (LagSpikeWatchdog.LagSpike spike : spikes) {
+                        src.sendMessage(Text.of(TextColors.DARK_GREEN, spike.getTime().format(DateTimeFormatter.ISO_LOCAL_TIME), TextColors.RESET,
+                                ": ", TextColors.RED, formatMillis(spike.getDurationNanos()), TextColors.RESET, ", ", spike.getSamples(),
+                                " samples, mostly in ", TextColors.LIGHT_PURPLE, spike.getHotFrame()));
+                        src.sendMessage(Text.of("  Phase: ", spike.getPhase()));
+                        if (spike.getFile() != null) {
+                            src.sendMessage(Text.of("  Samples: ", spike.getFile().toAbsolutePath().toString()));
+                        }
+                    }
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createSpongeChunkCostsCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.chunkcosts")
+                .description(Text.of("Lists the chunks and the plugins or mods whose entities, tile entities and blocks took the most "
+                        + "time to tick in the last minute."))
+                .arguments(optional(world(Text.of("world"))))
+                .executor((src, args) -> {
+                    if (!ChunkTickCosts.isEnabled()) {
+                        src.sendMessage(Text.of("Tick cost attribution is disabled, enable it in the global config"));
+                        return CommandResult.empty();
+                    }
+                    Integer dimensionId = null;
+                    final Optional<WorldProperties> properties = args.getOne("world");
+                    if (properties.isPresent()) {
+                        final Optional<World> world = Sponge.getServer().getWorld(properties.get().getUniqueId());
+                        if (!world.isPresent()) {
+                            src.sendMessage(Text.of(properties.get().getWorldName() + " is not loaded!"));
+                            return CommandResult.empty();
+                        }
+                        dimensionId = ((IMixinWorldServer) world.get()).getDimensionId();
+                    }
+                    src.sendMessage(Text.of(TextColors.GREEN, "Most expensive chunks of the last minute:"));
+                    for (ChunkTickCosts.Summary summary : ChunkTickCosts.getTopChunks(dimensionId, 20)) {
+                        printTickCosts(src, summary);
+                    }
+                    src.sendMessage(Text.of(TextColors.GREEN, "Most expensive plugins and mods of the last minute:"));
+                    for (ChunkTickCosts.Summary summary : ChunkTickCosts.getTopOwners(20)) {
+                        printTickCosts(src, summary);
+                    }
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec createSpongeRecompressCommand() {
+        return CommandSpec.builder()
+                .permission("sponge.command.recompress")
+                .description(Text.of("Rewrites the saved chunks of a world with the chunk compression set in its config."))
+                .arguments(world(Text.of("world")))
+                .executor((src, args) -> {
+                    final WorldProperties properties = args.<WorldProperties>getOne("world").get();
+                    final Optional<World> world = Sponge.getServer().getWorld(properties.getUniqueId());
+                    if (!world.isPresent()) {
+                        throw new CommandException(Text.of("World ", properties.getWorldName(), " is not loaded, cannot work with it"));
+                    }
+                    final WorldCategory category = ((IMixinWorldServer) world.get()).getActiveConfig().getConfig().getWorld();
+                    src.sendMessage(Text.of("Recompressing the chunks of ", properties.getWorldName(), " with ",
+                            category.getChunkCompression().getName(), " (level ", category.getChunkCompressionLevel(), ")"));
+                    WorldStorageUtil.recompressRegions((WorldServer) world.get()).whenComplete((chunks, throwable) ->
+                            Sponge.getScheduler().createTaskBuilder()
+                                    .execute(() -> {
+                                        if (throwable != null) {
+                                            SpongeImpl.getLogger().error("Failed to recompress the chunks of {}", properties.getWorldName(),
+                                                    throwable);
+                                            src.sendMessage(Text.of(TextColors.RED, "Failed to recompress the chunks of ", properties.getWorldName(),
+                                                    ", see the server log"));
+                                        } else {
+                                            src.sendMessage(Text.of("Recompressed ", chunks, " chunks of ", properties.getWorldName()));
+                                        }
+                                    })
+                                    .submit(SpongeImpl.getPlugin()));
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static void printTickCosts(CommandSource src, ChunkTickCosts.Summary summary) {
+        src.sendMessage(Text.of(" ", TextColors.DARK_GREEN, summary.getName(), TextColors.RESET, ": ", TextColors.RED,
+                formatMillis(summary.getNanos()), TextColors.RESET, " for ", summary.getEntityTicks(), " entity, ",
+                summary.getTileEntityTicks(), " tile entity and ", summary.getBlockTicks(), " block ticks, ",
+                TextColors.LIGHT_PURPLE, summary.getCapturedBlocks(), TextColors.RESET, " captured block changes"));
+    }
+
+    private static void printTaskStatistics(CommandSource src, String name, TaskStatistics statistics) {
+        final LatencyHistogram lateness = statistics.getLateness();
+        final LatencyHistogram duration = statistics.getDuration();
+        src.sendMessage(Text.of(" ", TextColors.DARK_GREEN, name, TextColors.RESET, ": ", statistics.getRuns(), " runs, late ",
+                TextColors.RED, formatMillis(lateness.getPercentile(0.5)), "/", formatMillis(lateness.getPercentile(0.99)), "/",
+                formatMillis(lateness.getMax()), TextColors.RESET, ", took ", TextColors.LIGHT_PURPLE,
+                formatMillis(duration.getPercentile(0.5)), "/", formatMillis(duration.getPercentile(0.99)), "/",
+                formatMillis(duration.getMax()), TextColors.RESET, " (p50/p99/max), ", statistics.getOverlaps(), " overlaps"));
+    }
+
+    private static String formatMillis(long nanos) {
+        return THREE_DECIMAL_DIGITS_FORMATTER.format(nanos * 1.0e-6d) + "ms";
+    }
+
     private static CommandSpec createSpongeTpsCommand() {
         return CommandSpec.builder()
                 .permission("sponge.command.tps")
@@ -737,6 +928,13 @@ private static CommandSpec createSpongeTpsCommand() {
                             THREE_DECIMAL_DIGITS_FORMATTER.format(Math.min(1000.0 / (serverMeanTickTime), 20)),
                             TextColors.RESET, ", Mean: ", TextColors.RED, THREE_DECIMAL_DIGITS_FORMATTER.
                                     format(serverMeanTickTime), "ms"));
+                    final AsyncEntitySpawnQueue asyncSpawns = PhaseTracker.ASYNC_CAPTURED_ENTITIES;
+                    if (asyncSpawns.getDepth() > 0) {
+                        src.sendMessage(Text.of("Async entity spawns waiting: ", TextColors.LIGHT_PURPLE, asyncSpawns.getDepth(),
+                                TextColors.RESET, ", Last tick: ", TextColors.LIGHT_PURPLE, asyncSpawns.getLastDrainCount(),
+                                TextColors.RESET, " in ", TextColors.RED,
+                                THREE_DECIMAL_DIGITS_FORMATTER.format(asyncSpawns.getLastDrainNanos() * 1.0e-6d), "ms"));
+                    }
                     return CommandResult.success();
                 })
                 .build();
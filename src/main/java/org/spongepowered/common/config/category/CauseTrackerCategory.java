@@ -62,6 +62,26 @@ public class CauseTrackerCategory extends ConfigCategory {
                                                                   + "and emit a warning about said spawn anyways.")
     boolean captureAndSpawnEntitiesSync = true;
 
+    @Setting(value = "async-spawn-queue-capacity", comment = "The maximum amount of entities spawned off the main server thread that\n"
+                                                             + "are waiting to be spawned on the main server thread. Any entity spawned\n"
+                                                             + "off thread while this many are waiting is ignored with a warning.")
+    int asyncSpawnQueueCapacity = 100000;
+
+    @Setting(value = "async-spawns-per-tick", comment = "The maximum amount of entities spawned off the main server thread that\n"
+                                                        + "are spawned on the main server thread per tick. A larger burst is\n"
+                                                        + "spread over several ticks. 0 or less spawns all of them at once.")
+    int asyncSpawnsPerTick = 1000;
+
+    @Setting(value = "pool-phase-contexts", comment = "If true, the phase contexts created for ticking entities, tile entities,\n"
+                                                      + "blocks and for processing packets are reused instead of being\n"
+                                                      + "allocated again for every tick and packet.")
+    boolean poolPhaseContexts = true;
+
+    @Setting(value = "phase-context-pool-debug", comment = "If true, pooled phase contexts are never reused and any access to a\n"
+                                                           + "phase context after it was closed throws an exception pointing to\n"
+                                                           + "where it was closed. Only useful to track down misbehaving phases.")
+    boolean debugPhaseContextPool = false;
+
     public boolean isVerbose() {
         return this.isVerbose;
     }
@@ -78,6 +98,22 @@ public boolean captureEntitiesAsync() {
         return this.captureAndSpawnEntitiesSync;
     }
 
+    public int getAsyncSpawnQueueCapacity() {
+        return this.asyncSpawnQueueCapacity;
+    }
+
+    public int getAsyncSpawnsPerTick() {
+        return this.asyncSpawnsPerTick;
+    }
+
+    public boolean poolPhaseContexts() {
+        return this.poolPhaseContexts;
+    }
+
+    public boolean debugPhaseContextPool() {
+        return this.debugPhaseContextPool;
+    }
+
     public boolean reportWorldTickDifferences() {
         return this.reportWorldTickDifferentWorlds;
     }
@@ -0,0 +1,60 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class EventManagerCategory extends ConfigCategory {
+
+    @Setting(value = "generated-dispatchers", comment = "If enabled, the listeners of every posted event type are compiled into a single\n"
+                                                        + "generated dispatcher class which calls each listener directly. The plugin cause\n"
+                                                        + "of a listener is only pushed to the cause stack when the listener actually uses\n"
+                                                        + "the cause stack. Dispatchers are rebuilt whenever listeners change.\n"
+                                                        + "Note: This is experimental, disable it if you encounter any issues with listeners.")
+    private boolean generatedDispatchers = false;
+
+    @Setting(value = "async-threads", comment = "The amount of threads used to deliver events posted with postAsync.\n"
+                                                + "Set to 0 to use half of the available processors. (Default: 0)")
+    private int asyncThreads = 0;
+
+    @Setting(value = "async-max-pending-events", comment = "The maximum amount of asynchronously posted events which may wait for delivery.\n"
+                                                           + "Events posted beyond this limit are rejected. (Default: 10000)")
+    private int asyncMaxPendingEvents = 10000;
+
+    public boolean useGeneratedDispatchers() {
+        return this.generatedDispatchers;
+    }
+
+    public int getAsyncThreads() {
+        return this.asyncThreads;
+    }
+
+    public int getAsyncMaxPendingEvents() {
+        return this.asyncMaxPendingEvents;
+    }
+
+}
@@ -0,0 +1,75 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+@ConfigSerializable
+public class LagSpikeCategory extends ConfigCategory {
+
+    @Setting(value = "enabled", comment = "If true, a watchdog thread samples the stack of the server thread while a tick\n"
+                                          + "takes longer than the threshold, and writes the samples to the spike directory.")
+    private boolean enabled = false;
+
+    @Setting(value = "threshold", comment = "The time in milliseconds a tick has to take before it is sampled. (Default: 500)")
+    private int threshold = 500;
+
+    @Setting(value = "sample-interval", comment = "The time in milliseconds between two stack samples of a slow tick. (Default: 5)")
+    private int sampleInterval = 5;
+
+    @Setting(value = "max-samples", comment = "The maximum amount of stack samples taken of a single slow tick. (Default: 10000)")
+    private int maxSamples = 10000;
+
+    @Setting(value = "spikes-kept", comment = "The amount of recent lag spikes kept, older spike files are deleted. (Default: 20)")
+    private int spikesKept = 20;
+
+    @Setting(value = "directory", comment = "The directory lag spikes are written to, relative to the server directory.")
+    private String directory = "lag-spikes";
+
+    public boolean isEnabled() {
+        return this.enabled;
+    }
+
+    public int getThreshold() {
+        return this.threshold;
+    }
+
+    public int getSampleInterval() {
+        return this.sampleInterval;
+    }
+
+    public int getMaxSamples() {
+        return this.maxSamples;
+    }
+
+    public int getSpikesKept() {
+        return this.spikesKept;
+    }
+
+    public String getDirectory() {
+        return this.directory;
+    }
+}
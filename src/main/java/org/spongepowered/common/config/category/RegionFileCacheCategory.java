@@ -0,0 +1,55 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigSerializable
+public class RegionFileCacheCategory extends ConfigCategory {
+
+    @Setting(value = "max-open-files", comment = "The maximum amount of region files kept open for all worlds together. The least\n"
+                                                 + "recently used region file is closed once more are open. (Default: 256)")
+    private int maxOpenFiles = 256;
+
+    @Setting(value = "world-limit", comment = "The maximum amount of region files kept open per world, on top of the limit for all\n"
+                                              + "worlds. Set to 0 for no limit. (Default: 0)")
+    private int worldLimit = 0;
+
+    @Setting(value = "world-limits", comment = "Overrides the world limit for specific world folder names.")
+    private Map<String, Integer> worldLimits = new HashMap<>();
+
+    public int getMaxOpenFiles() {
+        return Math.max(1, this.maxOpenFiles);
+    }
+
+    public int getWorldLimit(String worldFolder) {
+        final int limit = this.worldLimits.getOrDefault(worldFolder, this.worldLimit);
+        return limit <= 0 ? Integer.MAX_VALUE : limit;
+    }
+}
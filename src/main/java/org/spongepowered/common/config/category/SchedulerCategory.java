@@ -0,0 +1,97 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.config.category;
+
+import ninja.leaping.configurate.objectmapping.Setting;
+import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+@ConfigSerializable
+public class SchedulerCategory extends ConfigCategory {
+
+    @Setting(value = "async-threads", comment = "The amount of threads in the shared pool running asynchronous tasks of all plugins.\n"
+                                                + "Set to 0 to use twice the available processors, as asynchronous tasks\n"
+                                                + "commonly wait on I/O. (Default: 0)")
+    private int asyncThreads = 0;
+
+    @Setting(value = "default-plugin-parallelism", comment = "The maximum amount of asynchronous tasks of a single plugin running at the\n"
+                                                             + "same time, further tasks wait for one of them to finish. Set to 0 to use\n"
+                                                             + "half of the async threads, so no plugin can take up the whole pool. (Default: 0)")
+    private int defaultPluginParallelism = 0;
+
+    @Setting(value = "plugin-parallelism", comment = "Overrides the default plugin parallelism for specific plugin ids.")
+    private Map<String, Integer> pluginParallelism = new HashMap<>();
+
+    @Setting(value = "plugin-queue-capacity", comment = "The maximum amount of asynchronous tasks of a single plugin waiting to run.\n"
+                                                        + "Set to 0 for no limit. (Default: 10000)")
+    private int pluginQueueCapacity = 10000;
+
+    @Setting(value = "caller-runs-when-full", comment = "If true, a plugin submitting an asynchronous task while its queue is full runs\n"
+                                                        + "the task itself, slowing the plugin down instead of failing the submission.\n"
+                                                        + "Tasks submitted on the main thread are queued past the limit instead, never run there.\n"
+                                                        + "If false, such a submission is rejected with an exception.\n"
+                                                        + "Delayed tasks coming due while the queue is full are queued past the limit if true,\n"
+                                                        + "or cancelled with an error if false. Repeating tasks skip that run. (Default: true)")
+    private boolean callerRunsWhenFull = true;
+
+    @Setting(value = "sliced-task-budget", comment = "The time in milliseconds all sliced synchronous tasks may take together per tick.\n"
+                                                     + "It is split evenly between the tasks with work pending, and shrinks when the\n"
+                                                     + "tick is already running long. (Default: 10)")
+    private double slicedTaskBudget = 10;
+
+    @Setting(value = "sliced-task-min-budget", comment = "The time in milliseconds sliced synchronous tasks get per tick even when the\n"
+                                                         + "server is overloaded, so their work still progresses. (Default: 1)")
+    private double slicedTaskMinBudget = 1;
+
+    public int getAsyncThreads() {
+        return this.asyncThreads;
+    }
+
+    public int getDefaultPluginParallelism() {
+        return this.defaultPluginParallelism;
+    }
+
+    public Map<String, Integer> getPluginParallelism() {
+        return this.pluginParallelism;
+    }
+
+    public int getPluginQueueCapacity() {
+        return this.pluginQueueCapacity;
+    }
+
+    public boolean callerRunsWhenFull() {
+        return this.callerRunsWhenFull;
+    }
+
+    public double getSlicedTaskBudget() {
+        return this.slicedTaskBudget;
+    }
+
+    public double getSlicedTaskMinBudget() {
+        return this.slicedTaskMinBudget;
+    }
+}
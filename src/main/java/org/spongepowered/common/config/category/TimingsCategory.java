@@ -51,6 +51,24 @@ public class TimingsCategory extends ConfigCategory {
     @Setting("history-length")
     private int historyLength = 3600;
 
+    @Setting(value = "export-locally", comment = "If true, timings reports are written to the export directory as compressed JSON\n"
+                                                + "and a standalone HTML viewer, instead of being uploaded to timings.aikar.co.")
+    private boolean exportLocally = false;
+
+    @Setting(value = "export-directory", comment = "The directory local timings reports are written to, relative to the server directory.")
+    private String exportDirectory = "timings";
+
+    @Setting(value = "rolling-exports", comment = "If true, a local timings report is written every history interval, so lag\n"
+                                                 + "periods can be looked at after the fact.")
+    private boolean rollingExports = false;
+
+    @Setting(value = "rolling-export-retention", comment = "The amount of rolling timings reports kept, older ones are deleted.")
+    private int rollingExportRetention = 48;
+
+    @Setting(value = "track-allocations", comment = "If true, the bytes allocated by the main thread while a timing runs are recorded\n"
+                                                   + "and shown as allocated MB per tick in reports. This makes timings more expensive.")
+    private boolean trackAllocations = false;
+
     public boolean isVerbose() {
         return this.verbose;
     }
@@ -83,4 +101,24 @@ public void setHistoryLength(int historyLength) {
         this.historyLength = historyLength;
     }
 
+    public boolean isExportLocally() {
+        return this.exportLocally;
+    }
+
+    public String getExportDirectory() {
+        return this.exportDirectory;
+    }
+
+    public boolean isRollingExports() {
+        return this.rollingExports;
+    }
+
+    public int getRollingExportRetention() {
+        return this.rollingExportRetention;
+    }
+
+    public boolean isTrackAllocations() {
+        return this.trackAllocations;
+    }
+
 }
\ No newline at end of file
@@ -26,6 +26,7 @@
 
 import ninja.leaping.configurate.objectmapping.Setting;
 import ninja.leaping.configurate.objectmapping.serialize.ConfigSerializable;
+import org.spongepowered.common.world.storage.ChunkCodec;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -36,6 +37,11 @@ public class WorldCategory extends ConfigCategory {
     @Setting(value = "auto-save-interval", comment = "The auto-save tick interval used to save all loaded chunks in a world. \nSet to 0 to disable. (Default: 900) \nNote: 20 ticks is equivalent to 1 second.")
     private int autoSaveInterval = 900;
 
+    @Setting(value = "incremental-auto-save", comment = "Enable to spread auto-saving chunks over the auto-save-interval instead of saving all "
+                                                        + "\nloaded chunks in one tick. Every tick a share of the loaded chunks is checked and saved if "
+                                                        + "\nchanged, so every changed chunk is still saved once per interval. (Default: false)")
+    private boolean incrementalAutoSave = false;
+
     @Setting(value = "infinite-water-source", comment = "Vanilla water source behavior - is infinite")
     private boolean infiniteWaterSource = false;
 
@@ -89,6 +95,16 @@ public class WorldCategory extends ConfigCategory {
                                                      + "\nNote: This gets reset if the chunk becomes active again.")
     private int chunkUnloadDelay = 15;
 
+    @Setting(value = "chunk-compression", comment = "The compression of chunks written to region files, 'zlib' or 'none'. (Default: zlib)"
+                                                    + "\nChunks written with 'none' take no time to compress but several times the disk space, and"
+                                                    + "\ncan not be read by servers and tools without support for it. Only use it for worlds never"
+                                                    + "\nshipped elsewhere. Chunks are read whatever they were written with, use"
+                                                    + "\n'/sponge recompress <world>' to rewrite the existing chunks of a world.")
+    private String chunkCompression = ChunkCodec.ZLIB.getName();
+
+    @Setting(value = "chunk-compression-level", comment = "The zlib compression level of chunks, from 1 (fastest) to 9 (smallest). (Default: 6)")
+    private int chunkCompressionLevel = 6;
+
     @Setting(value = "item-merge-radius", comment = "The defined merge radius for Item entities such that when two items are"
                                                     + "\nwithin the defined radius of each other, they will attempt to merge. Usually,"
                                                     + "\nthe default radius is set to 0.5 in Vanilla, however, for performance reasons"
@@ -113,6 +129,10 @@ public int getAutoSaveInterval() {
         return this.autoSaveInterval;
     }
 
+    public boolean isIncrementalAutoSave() {
+        return this.incrementalAutoSave;
+    }
+
     public boolean hasInfiniteWaterSource() {
         return this.infiniteWaterSource;
     }
@@ -145,6 +165,15 @@ public void setChunkUnloadDelay(int delay) {
         this.chunkUnloadDelay = delay;
     }
 
+    public ChunkCodec getChunkCompression() {
+        final ChunkCodec codec = ChunkCodec.byName(this.chunkCompression);
+        return codec == null || !codec.isWritable() ? ChunkCodec.ZLIB : codec;
+    }
+
+    public int getChunkCompressionLevel() {
+        return Math.max(1, Math.min(9, this.chunkCompressionLevel));
+    }
+
     public Boolean loadOnStartup() {
         return this.loadOnStartup;
     }
@@ -32,14 +32,22 @@
 import ninja.leaping.configurate.objectmapping.Setting;
 import org.spongepowered.common.config.category.BungeeCordCategory;
 import org.spongepowered.common.config.category.CauseTrackerCategory;
+import org.spongepowered.common.config.category.ChunkLoadCategory;
+import org.spongepowered.common.config.category.ChunkSaveCategory;
 import org.spongepowered.common.config.category.CommandsCategory;
+import org.spongepowered.common.config.category.EventManagerCategory;
 import org.spongepowered.common.config.category.ExploitCategory;
 import org.spongepowered.common.config.category.GlobalGeneralCategory;
 import org.spongepowered.common.config.category.GlobalWorldCategory;
+import org.spongepowered.common.config.category.LagSpikeCategory;
+import org.spongepowered.common.config.category.MetricsCategory;
 import org.spongepowered.common.config.category.ModuleCategory;
 import org.spongepowered.common.config.category.OptimizationCategory;
+import org.spongepowered.common.config.category.RegionFileCacheCategory;
+import org.spongepowered.common.config.category.SchedulerCategory;
 import org.spongepowered.common.config.category.SqlCategory;
 import org.spongepowered.common.config.category.TeleportHelperCategory;
+import org.spongepowered.common.config.category.TickCostCategory;
 import org.spongepowered.common.util.IpSet;
 
 import java.net.InetAddress;
@@ -84,6 +92,30 @@ public class GlobalConfig extends ConfigBase {
     @Setting(value = "teleport-helper", comment = "Blocks to blacklist for safe teleportation.")
     private TeleportHelperCategory teleportHelper = new TeleportHelperCategory();
 
+    @Setting(value = "event-manager", comment = "Configuration options related to how events are posted to listeners.")
+    private EventManagerCategory eventManager = new EventManagerCategory();
+
+    @Setting(value = "scheduler", comment = "Configuration options related to how the scheduler runs asynchronous tasks.")
+    private SchedulerCategory scheduler = new SchedulerCategory();
+
+    @Setting(value = "lag-spike-watchdog", comment = "Configuration options related to sampling the server thread during slow ticks.")
+    private LagSpikeCategory lagSpikeWatchdog = new LagSpikeCategory();
+
+    @Setting(value = "tick-costs", comment = "Configuration options related to attributing tick time to chunks and plugins.")
+    private TickCostCategory tickCosts = new TickCostCategory();
+
+    @Setting(value = "metrics", comment = "Configuration options related to exporting server health metrics.")
+    private MetricsCategory metrics = new MetricsCategory();
+
+    @Setting(value = "region-file-cache", comment = "Configuration options related to how many region files are kept open.")
+    private RegionFileCacheCategory regionFileCache = new RegionFileCacheCategory();
+
+    @Setting(value = "chunk-save", comment = "Configuration options related to how saved chunks are written to disk.")
+    private ChunkSaveCategory chunkSave = new ChunkSaveCategory();
+
+    @Setting(value = "chunk-load", comment = "Configuration options related to how saved chunks are loaded.")
+    private ChunkLoadCategory chunkLoad = new ChunkLoadCategory();
+
     public GlobalConfig() {
         super();
     }
@@ -151,4 +183,36 @@ public TeleportHelperCategory getTeleportHelper() {
         return this.teleportHelper;
     }
 
+    public EventManagerCategory getEventManager() {
+        return this.eventManager;
+    }
+
+    public SchedulerCategory getScheduler() {
+        return this.scheduler;
+    }
+
+    public LagSpikeCategory getLagSpikeWatchdog() {
+        return this.lagSpikeWatchdog;
+    }
+
+    public TickCostCategory getTickCosts() {
+        return this.tickCosts;
+    }
+
+    public MetricsCategory getMetrics() {
+        return this.metrics;
+    }
+
+    public RegionFileCacheCategory getRegionFileCache() {
+        return this.regionFileCache;
+    }
+
+    public ChunkSaveCategory getChunkSave() {
+        return this.chunkSave;
+    }
+
+    public ChunkLoadCategory getChunkLoad() {
+        return this.chunkLoad;
+    }
+
 }
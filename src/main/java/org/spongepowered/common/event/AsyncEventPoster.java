@@ -0,0 +1,210 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.apache.logging.log4j.Logger;
+import org.spongepowered.api.event.Cancellable;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Delivers events to their listeners on a fixed size thread pool.
+ *
+ * <p>The listeners of a single event are still called one after another in
+ * their {@link org.spongepowered.api.event.Order}. Every plugin has its own
+ * delivery lane, in which its listeners are called in the order the events
+ * were posted. A lane never occupies more than one pool thread at a time.</p>
+ */
+final class AsyncEventPoster {
+
+    private final Logger logger;
+    private final ExecutorService executor;
+    private final int maxPendingEvents;
+    private final AtomicInteger pendingEvents = new AtomicInteger();
+    private final Map<PluginContainer, Lane> lanes = new ConcurrentHashMap<>();
+
+    // Slots are reserved in all lanes at once, so that every lane sees the
+    // events in the same order. This is what prevents lanes from deadlocking.
+    private final Object reserveLock = new Object();
+
+    AsyncEventPoster(Logger logger, int threads, int maxPendingEvents) {
+        this.logger = logger;
+        this.maxPendingEvents = maxPendingEvents;
+        this.executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                .setNameFormat("Sponge - Async Event Thread #%d")
+                .setDaemon(true)
+                .build());
+    }
+
+    int getPendingEvents() {
+        return this.pendingEvents.get();
+    }
+
+    CompletableFuture<Boolean> post(Event event, List<RegisteredListener<?>> listeners) {
+        final CompletableFuture<Boolean> future = new CompletableFuture<>();
+        if (listeners.isEmpty()) {
+            future.complete(event instanceof Cancellable && ((Cancellable) event).isCancelled());
+            return future;
+        }
+        if (this.pendingEvents.incrementAndGet() > this.maxPendingEvents) {
+            this.pendingEvents.decrementAndGet();
+            future.completeExceptionally(new RejectedExecutionException("Too many pending async events, rejected "
+                    + event.getClass().getSimpleName()));
+            return future;
+        }
+
+        final Delivery delivery = new Delivery(event, listeners, future);
+        synchronized (this.reserveLock) {
+            for (int i = 0; i < delivery.tickets.length; i++) {
+                final PluginContainer plugin = delivery.listeners[i].getPlugin();
+                delivery.tickets[i] = this.lanes.computeIfAbsent(plugin, k -> new Lane()).reserve(delivery);
+            }
+        }
+        delivery.next();
+        return future;
+    }
+
+    private final class Delivery {
+
+        final Event event;
+        final RegisteredListener<?>[] listeners;
+        final Ticket[] tickets;
+        final CompletableFuture<Boolean> future;
+        private int index;
+
+        Delivery(Event event, List<RegisteredListener<?>> listeners, CompletableFuture<Boolean> future) {
+            this.event = event;
+            this.listeners = listeners.toArray(new RegisteredListener<?>[listeners.size()]);
+            this.tickets = new Ticket[this.listeners.length];
+            this.future = future;
+        }
+
+        void next() {
+            if (this.index < this.tickets.length) {
+                this.tickets[this.index].lane.ready(this.tickets[this.index]);
+                return;
+            }
+            if (this.event instanceof AbstractEvent) {
+                ((AbstractEvent) this.event).currentOrder = null;
+            }
+            AsyncEventPoster.this.pendingEvents.decrementAndGet();
+            this.future.complete(this.event instanceof Cancellable && ((Cancellable) this.event).isCancelled());
+        }
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        void deliver(long readyTime) {
+            final RegisteredListener listener = this.listeners[this.index++];
+            final long start = System.nanoTime();
+            // Recorded under the pool of the async event threads
+            listener.getTimingsHandler().startTimingIfSync();
+            try {
+                if (this.event instanceof AbstractEvent) {
+                    ((AbstractEvent) this.event).currentOrder = listener.getOrder();
+                }
+                listener.handle(this.event);
+            } catch (Throwable e) {
+                AsyncEventPoster.this.logger.error("Could not pass {} to {}", this.event.getClass().getSimpleName(), listener.getPlugin(), e);
+            } finally {
+                listener.getTimingsHandler().stopTimingIfSync();
+            }
+            listener.recordAsyncHandle(start - readyTime, System.nanoTime() - start);
+        }
+
+    }
+
+    private static final class Ticket {
+
+        final Lane lane;
+        final Delivery delivery;
+        boolean ready;
+        long readyTime;
+
+        Ticket(Lane lane, Delivery delivery) {
+            this.lane = lane;
+            this.delivery = delivery;
+        }
+
+    }
+
+    private final class Lane {
+
+        private final Deque<Ticket> tickets = new ArrayDeque<>();
+        private boolean running;
+
+        synchronized Ticket reserve(Delivery delivery) {
+            final Ticket ticket = new Ticket(this, delivery);
+            this.tickets.add(ticket);
+            return ticket;
+        }
+
+        void ready(Ticket ticket) {
+            synchronized (this) {
+                ticket.ready = true;
+                ticket.readyTime = System.nanoTime();
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            final Ticket head;
+            synchronized (this) {
+                head = this.tickets.peek();
+                if (this.running || head == null || !head.ready) {
+                    return;
+                }
+                this.running = true;
+            }
+            AsyncEventPoster.this.executor.execute(() -> run(head));
+        }
+
+        private void run(Ticket ticket) {
+            try {
+                ticket.delivery.deliver(ticket.readyTime);
+            } finally {
+                synchronized (this) {
+                    this.tickets.poll();
+                    this.running = false;
+                }
+            }
+            schedule();
+            ticket.delivery.next();
+        }
+
+    }
+
+}
@@ -0,0 +1,295 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.AALOAD;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.ASTORE;
+import static org.objectweb.asm.Opcodes.BIPUSH;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.GETSTATIC;
+import static org.objectweb.asm.Opcodes.GOTO;
+import static org.objectweb.asm.Opcodes.ICONST_0;
+import static org.objectweb.asm.Opcodes.IFEQ;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INSTANCEOF;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKESTATIC;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.ISTORE;
+import static org.objectweb.asm.Opcodes.PUTFIELD;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.SIPUSH;
+import static org.objectweb.asm.Opcodes.V1_6;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.EventListener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.impl.AbstractEvent;
+import org.spongepowered.common.event.gen.DefineableClassLoader;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Generates an {@link EventDispatcher} class for a baked list of listeners.
+ *
+ * <p>The generated dispatcher calls every listener in sequence, with the
+ * {@link Order} transitions hard-wired into the bytecode. Listeners created
+ * by the {@link ClassEventListenerFactory} are invoked directly on their
+ * generated class instead of through the {@link EventListener} interface.</p>
+ *
+ * <p>Dispatcher classes only depend on the orders and listener classes, so
+ * they are shared between all event types with the same listener shape.</p>
+ */
+public final class ClassEventDispatcherFactory {
+
+    /**
+     * The maximum amount of listeners that are compiled into a single
+     * dispatcher, larger lists fall back to the regular dispatch loop.
+     */
+    private static final int MAX_LISTENERS = 512;
+
+    private final AtomicInteger id = new AtomicInteger();
+    private final DefineableClassLoader classLoader;
+    private final LoadingCache<Shape, Class<? extends EventDispatcher>> cache = CacheBuilder.newBuilder()
+            .concurrencyLevel(1)
+            .weakValues()
+            .build(new CacheLoader<Shape, Class<? extends EventDispatcher>>() {
+
+                @Override
+                public Class<? extends EventDispatcher> load(Shape shape) throws Exception {
+                    return createClass(shape);
+                }
+            });
+
+    private final String targetPackage;
+
+    public ClassEventDispatcherFactory(String targetPackage, DefineableClassLoader classLoader) {
+        checkNotNull(targetPackage, "targetPackage");
+        checkArgument(!targetPackage.isEmpty(), "targetPackage cannot be empty");
+        this.targetPackage = targetPackage + '.';
+        this.classLoader = checkNotNull(classLoader, "classLoader");
+    }
+
+    /**
+     * Creates a dispatcher for the given, already sorted, listeners.
+     *
+     * @param listeners The listeners
+     * @return The dispatcher, or null if no dispatcher should be used
+     * @throws Exception If the dispatcher class could not be generated
+     */
+    @Nullable
+    public EventDispatcher create(List<RegisteredListener<?>> listeners) throws Exception {
+        if (listeners.isEmpty() || listeners.size() > MAX_LISTENERS) {
+            return null;
+        }
+        final RegisteredListener<?>[] array = listeners.toArray(new RegisteredListener<?>[listeners.size()]);
+        final Object[] delegates = new Object[array.length];
+        final Order[] orders = new Order[array.length];
+        final Class<?>[] types = new Class<?>[array.length];
+        for (int i = 0; i < array.length; i++) {
+            final EventListener<?> delegate = array[i].getListener();
+            orders[i] = array[i].getOrder();
+            // Only listeners generated by our own class loader can be
+            // referenced from the generated dispatcher
+            if (delegate instanceof AnnotatedEventListener && delegate.getClass().getClassLoader() == this.classLoader) {
+                delegates[i] = delegate;
+                types[i] = delegate.getClass();
+            }
+        }
+        return this.cache.get(new Shape(orders, types))
+                .getConstructor(RegisteredListener[].class, Object[].class)
+                .newInstance(array, delegates);
+    }
+
+    Class<? extends EventDispatcher> createClass(Shape shape) {
+        final String name = this.targetPackage + "Dispatcher_" + shape.orders.length + '_' + this.id.incrementAndGet();
+        return this.classLoader.defineClass(name, generateClass(name, shape));
+    }
+
+    private static final String BASE_DISPATCHER = Type.getInternalName(EventDispatcher.class);
+    private static final String LISTENER = Type.getInternalName(RegisteredListener.class);
+    private static final String ABSTRACT_EVENT = Type.getInternalName(AbstractEvent.class);
+    private static final String ORDER = Type.getInternalName(Order.class);
+    private static final String EVENT_DESCRIPTOR = Type.getDescriptor(Event.class);
+    private static final String LISTENER_DESCRIPTOR = Type.getDescriptor(RegisteredListener.class);
+    private static final String HANDLE_METHOD_DESCRIPTOR = '(' + EVENT_DESCRIPTOR + ")V";
+    private static final String HOOK_DESCRIPTOR = '(' + LISTENER_DESCRIPTOR + ")V";
+    private static final String EXCEPTION_DESCRIPTOR = '(' + LISTENER_DESCRIPTOR + EVENT_DESCRIPTOR + "Ljava/lang/Throwable;)V";
+    private static final String CONSTRUCTOR_DESCRIPTOR = "([" + LISTENER_DESCRIPTOR + "[Ljava/lang/Object;)V";
+
+    private static byte[] generateClass(String name, Shape shape) {
+        name = name.replace('.', '/');
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_FRAMES | ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, BASE_DISPATCHER, null);
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", CONSTRUCTOR_DESCRIPTOR, null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitVarInsn(ALOAD, 2);
+            mv.visitMethodInsn(INVOKESPECIAL, BASE_DISPATCHER, "<init>", CONSTRUCTOR_DESCRIPTOR, false);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            // Locals: 0 = this, 1 = event, 2 = event instanceof AbstractEvent,
+            //         3 = current listener, 4 = caught throwable
+            mv = cw.visitMethod(ACC_PUBLIC, "dispatch", HANDLE_METHOD_DESCRIPTOR, null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitTypeInsn(INSTANCEOF, ABSTRACT_EVENT);
+            mv.visitVarInsn(ISTORE, 2);
+            Order lastOrder = null;
+            for (int i = 0; i < shape.orders.length; i++) {
+                mv.visitVarInsn(ALOAD, 0);
+                mv.visitFieldInsn(GETFIELD, BASE_DISPATCHER, "listeners", '[' + LISTENER_DESCRIPTOR);
+                visitIndex(mv, i);
+                mv.visitInsn(AALOAD);
+                mv.visitVarInsn(ASTORE, 3);
+
+                // The listeners are sorted, so the order only has to be
+                // updated when the next order group starts
+                final Order order = shape.orders[i];
+                if (order != lastOrder) {
+                    final Label notAbstract = new Label();
+                    mv.visitVarInsn(ILOAD, 2);
+                    mv.visitJumpInsn(IFEQ, notAbstract);
+                    mv.visitVarInsn(ALOAD, 1);
+                    mv.visitTypeInsn(CHECKCAST, ABSTRACT_EVENT);
+                    mv.visitFieldInsn(GETSTATIC, ORDER, order.name(), 'L' + ORDER + ';');
+                    mv.visitFieldInsn(PUTFIELD, ABSTRACT_EVENT, "currentOrder", 'L' + ORDER + ';');
+                    mv.visitLabel(notAbstract);
+                    lastOrder = order;
+                }
+
+                mv.visitVarInsn(ALOAD, 3);
+                mv.visitMethodInsn(INVOKESTATIC, BASE_DISPATCHER, "enter", HOOK_DESCRIPTOR, false);
+
+                final Label tryStart = new Label();
+                final Label tryEnd = new Label();
+                final Label handler = new Label();
+                final Label done = new Label();
+                mv.visitTryCatchBlock(tryStart, tryEnd, handler, "java/lang/Throwable");
+                mv.visitLabel(tryStart);
+                final Class<?> type = shape.types[i];
+                if (type != null) {
+                    final String typeName = Type.getInternalName(type);
+                    mv.visitVarInsn(ALOAD, 0);
+                    mv.visitFieldInsn(GETFIELD, BASE_DISPATCHER, "delegates", "[Ljava/lang/Object;");
+                    visitIndex(mv, i);
+                    mv.visitInsn(AALOAD);
+                    mv.visitTypeInsn(CHECKCAST, typeName);
+                    mv.visitVarInsn(ALOAD, 1);
+                    mv.visitMethodInsn(INVOKEVIRTUAL, typeName, "handle", HANDLE_METHOD_DESCRIPTOR, false);
+                } else {
+                    mv.visitVarInsn(ALOAD, 3);
+                    mv.visitVarInsn(ALOAD, 1);
+                    mv.visitMethodInsn(INVOKEVIRTUAL, LISTENER, "handle", HANDLE_METHOD_DESCRIPTOR, false);
+                }
+                mv.visitLabel(tryEnd);
+                mv.visitJumpInsn(GOTO, done);
+                mv.visitLabel(handler);
+                mv.visitVarInsn(ASTORE, 4);
+                mv.visitVarInsn(ALOAD, 3);
+                mv.visitVarInsn(ALOAD, 1);
+                mv.visitVarInsn(ALOAD, 4);
+                mv.visitMethodInsn(INVOKESTATIC, BASE_DISPATCHER, "handleException", EXCEPTION_DESCRIPTOR, false);
+                mv.visitLabel(done);
+                mv.visitVarInsn(ALOAD, 3);
+                mv.visitMethodInsn(INVOKESTATIC, BASE_DISPATCHER, "exit", HOOK_DESCRIPTOR, false);
+            }
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    private static void visitIndex(MethodVisitor mv, int index) {
+        if (index <= 5) {
+            mv.visitInsn(ICONST_0 + index);
+        } else if (index <= Byte.MAX_VALUE) {
+            mv.visitIntInsn(BIPUSH, index);
+        } else {
+            mv.visitIntInsn(SIPUSH, index);
+        }
+    }
+
+    static final class Shape {
+
+        final Order[] orders;
+        final Class<?>[] types;
+        private final int hash;
+
+        Shape(Order[] orders, Class<?>[] types) {
+            this.orders = orders;
+            this.types = types;
+            this.hash = 31 * Arrays.hashCode(orders) + Arrays.hashCode(types);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Shape)) {
+                return false;
+            }
+            final Shape other = (Shape) o;
+            return Arrays.equals(this.orders, other.orders) && Arrays.equals(this.types, other.types);
+        }
+
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+}
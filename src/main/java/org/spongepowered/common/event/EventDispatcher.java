@@ -0,0 +1,68 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.api.event.Event;
+import org.spongepowered.common.SpongeImpl;
+
+/**
+ * A dispatcher which passes an event to a fixed list of listeners, generated
+ * by the {@link ClassEventDispatcherFactory} for a single event type.
+ *
+ * <p>Generated dispatchers are only used on the main thread, the plugin cause
+ * of a listener is deferred through
+ * {@link SpongeCauseStackManager#pushDeferredCause(Object)}.</p>
+ */
+public abstract class EventDispatcher {
+
+    protected final RegisteredListener<?>[] listeners;
+    protected final Object[] delegates;
+
+    protected EventDispatcher(RegisteredListener<?>[] listeners, Object[] delegates) {
+        this.listeners = checkNotNull(listeners, "listeners");
+        this.delegates = checkNotNull(delegates, "delegates");
+    }
+
+    public abstract void dispatch(Event event);
+
+    // Called by the generated dispatchers around every listener
+
+    public static void enter(RegisteredListener<?> listener) {
+        SpongeImpl.getCauseStackManager().pushDeferredCause(listener.getPlugin());
+        listener.getTimingsHandler().startTimingIfSync();
+    }
+
+    public static void exit(RegisteredListener<?> listener) {
+        listener.getTimingsHandler().stopTimingIfSync();
+        SpongeImpl.getCauseStackManager().popDeferredCause();
+    }
+
+    public static void handleException(RegisteredListener<?> listener, Event event, Throwable e) {
+        SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), listener.getPlugin(), e);
+    }
+
+}
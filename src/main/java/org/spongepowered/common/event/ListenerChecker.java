@@ -24,27 +24,37 @@
  */
 package org.spongepowered.common.event;
 
-import com.google.common.base.CaseFormat;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.cache.CacheLoader;
 import com.google.common.cache.LoadingCache;
+import com.google.common.collect.HashMultiset;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Multiset;
 import com.google.common.reflect.TypeToken;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import javax.annotation.Nullable;
 
 public class ListenerChecker {
 
     private static final boolean ALL_TRUE = Boolean.parseBoolean(System.getProperty("sponge.shouldFireAll", "").toLowerCase());
     private static final boolean DEBUG = Boolean.parseBoolean(System.getProperty("sponge.debugShouldFire", "").toLowerCase());
 
+    private static final Pattern WORD_BOUNDARY = Pattern.compile("([a-z0-9])([A-Z])");
+    private static final Pattern ACRONYM_BOUNDARY = Pattern.compile("([A-Z])([A-Z][a-z])");
+
     private final Class<?> clazz;
     private Map<String, Field> fields = new HashMap<>();
 
@@ -56,30 +66,99 @@ public Optional<Field> load(Class<?> key) throws Exception {
         }
     });
 
-    private LoadingCache<Class<?>, Set<Class<?>>> subtypeMappings = CacheBuilder.newBuilder().build(new CacheLoader<Class<?>, Set<Class<?>>>() {
+    // The listened event classes that events of a type may be delivered to, counted per listener
+    private LoadingCache<Class<?>, Multiset<Class<?>>> listenerMappings = CacheBuilder.newBuilder().build(
+            new CacheLoader<Class<?>, Multiset<Class<?>>>() {
+
+        @Override
+        public Multiset<Class<?>> load(Class<?> key) throws Exception {
+            return HashMultiset.create();
+        }
+    });
+
+    private final LoadingCache<Class<?>, Set<Class<?>>> typeHierarchy = CacheBuilder.newBuilder().build(new CacheLoader<Class<?>, Set<Class<?>>>() {
 
         @Override
         public Set<Class<?>> load(Class<?> key) throws Exception {
-            return new HashSet<>();
+            return ImmutableSet.copyOf(TypeToken.of(key).getTypes().rawTypes());
+        }
+    });
+
+    private final LoadingCache<Class<?>, Set<Class<?>>> relatedTypes = CacheBuilder.newBuilder().build(new CacheLoader<Class<?>, Set<Class<?>>>() {
+
+        @Override
+        public Set<Class<?>> load(Class<?> key) throws Exception {
+            ImmutableSet.Builder<Class<?>> types = ImmutableSet.builder();
+            types.addAll(getTypeHierarchy(key));
+            for (Class<?> eventType : getEventTypes()) {
+                if (key.isAssignableFrom(eventType)) {
+                    types.add(eventType);
+                }
+            }
+            return types.build();
         }
     });
 
+    private final Collection<String> eventTypeNames;
+    @Nullable private Set<Class<?>> eventTypes;
+
     private static String getName(Class<?> clazz) {
         // Properly account for inner classes. Class#getName uses a $
         // to separate inner classes, so the last '.' is the end of the package name
         //
         String name = clazz.getName().substring(clazz.getName().lastIndexOf(".") + 1).replace("$", "");
-        return CaseFormat.UPPER_CAMEL.to(CaseFormat.UPPER_UNDERSCORE, name);
+        // Acronyms are kept together, AITaskEvent becomes AI_TASK_EVENT.
+        // This must match the names generated by the genShouldFire task.
+        return ACRONYM_BOUNDARY.matcher(WORD_BOUNDARY.matcher(name).replaceAll("$1_$2")).replaceAll("$1_$2").toUpperCase(Locale.ENGLISH);
+    }
+
+    /**
+     * Gets the given class and all of its supertypes and superinterfaces.
+     *
+     * @param clazz The class
+     * @return The type hierarchy of the class
+     */
+    public Set<Class<?>> getTypeHierarchy(Class<?> clazz) {
+        return this.typeHierarchy.getUnchecked(clazz);
+    }
+
+    /**
+     * Gets the event types with a flag which are subtypes of the given class,
+     * and all of its supertypes and superinterfaces.
+     *
+     * @param clazz The class
+     * @return The types whose flags are affected by listeners of the class
+     */
+    private Set<Class<?>> getRelatedTypes(Class<?> clazz) {
+        return this.relatedTypes.getUnchecked(clazz);
+    }
+
+    private Set<Class<?>> getEventTypes() {
+        if (this.eventTypes == null) {
+            Set<Class<?>> eventTypes = new HashSet<>();
+            for (String name : this.eventTypeNames) {
+                try {
+                    eventTypes.add(Class.forName(name, false, ListenerChecker.class.getClassLoader()));
+                } catch (ClassNotFoundException e) {
+                    if (DEBUG) {
+                        System.err.println(String.format("Event class %s of a flag is missing", name));
+                    }
+                }
+            }
+            this.eventTypes = eventTypes;
+        }
+        return this.eventTypes;
     }
 
     public <T> void registerListenerFor(Class<T> eventClass) {
-        Set<Class<? super T>> types = TypeToken.of(eventClass).getTypes().rawTypes();
+        Set<Class<?>> types = getRelatedTypes(eventClass);
         for (Class<?> type: types) {
-            this.subtypeMappings.getUnchecked(type).add(eventClass);
+            this.listenerMappings.getUnchecked(type).add(eventClass);
         }
 
-        // Walk up the tree. The event class and all its supertypes have their
-        // flags set to 'true', because there is a possibility of them being fired.
+        // Walk up and down the tree. The event class, all its supertypes and all its
+        // subtypes have their flags set to 'true', because there is a possibility of
+        // them being fired.
 
         // For example, if a listener is registered for SpawnEntityEvent.Custom,
         // then SpawnEntityEvent.Custom, SpawnEntityEvent, and Event (plus others)
@@ -89,31 +168,42 @@ public <T> void registerListenerFor(Class<T> eventClass) {
         // The actual type might be SpawnEntityEvent.ChunkLoad, which might have no listeners.
         // However, the base flags takes into account that some of the subevent *do* have listeners.
 
-        // We don't need to walk down the tree, because a more-specific flag can never be turned
-        // from false to true by a less-specific event (and therefore flag) being registered.
+        // Walking down, if a listener is registered for SpawnEntityEvent, every event
+        // matching SpawnEntityEvent.ChunkLoad is delivered to it, so the implementation
+        // may check the most specific flag of the event it is about to fire.
         this.updateFields(types, c -> true);
     }
 
     public <T> void unregisterListenerFor(Class<T> eventClass) {
-        Set<Class<? super T>> types = TypeToken.of(eventClass).getTypes().rawTypes();
+        Set<Class<?>> types = getRelatedTypes(eventClass);
         for (Class<?> type: types) {
-            this.subtypeMappings.getUnchecked(type).remove(eventClass);
+            this.listenerMappings.getUnchecked(type).remove(eventClass);
         }
 
-        // As in 'registerListenerFor', we only set flags when walking up the tree - that is,
-        // only the flags for the event class and its superinterfaces can be flipped (from 'true'
-        // to 'false' in this case). However, we need to look *down* the tree to see if we can
-        // flip the flag. If a given class has any listeners registered for its subtypes (recorded
-        // earlier in 'registerListenerFor'), we can't set the flag to false, because there's still
-        // the possibility that an event which matches that type will have a listener (if it's the correct
-        // subtype, which the less-specific flag cannot make assumptions about).
+        // As in 'registerListenerFor', the flags of the event class, its supertypes and
+        // its subtypes can be flipped (from 'true' to 'false' in this case). A flag stays
+        // 'true' as long as a listener is left that its events may be delivered to, either
+        // registered for a subtype (if the event is the correct subtype) or for a supertype,
+        // including other listeners registered for the same event class.
 
-        // If the set is empty for a class (there are no direct listeners or subclass listeners)
+        // If the multiset is empty for a class (there are no related listeners left)
         // we set it to false (opposite of isEmpty/true)
-        this.updateFields(types, c -> !this.subtypeMappings.getUnchecked(c).isEmpty());
+        this.updateFields(types, c -> !this.listenerMappings.getUnchecked(c).isEmpty());
     }
 
     public ListenerChecker(Class<?> clazz) {
+        this(clazz, Collections.emptySet());
+    }
+
+    /**
+     * Creates a checker for the flags of the given class.
+     *
+     * @param clazz The class holding the flags
+     * @param eventTypeNames The names of the event classes with a flag, to
+     *     find the flags of the subtypes of listened event classes
+     */
+    public ListenerChecker(Class<?> clazz, Collection<String> eventTypeNames) {
+        this.eventTypeNames = eventTypeNames;
         this.clazz = clazz;
         for (Field field: this.clazz.getDeclaredFields()) {
             if (Modifier.isStatic(field.getModifiers()) && Modifier.isPublic(field.getModifiers())) {
@@ -132,7 +222,7 @@ public ListenerChecker(Class<?> clazz) {
         }
     }
 
-    public <T> void updateFields(Collection<Class<? super T>> classes, Predicate<Class<?>> enable) {
+    public void updateFields(Collection<? extends Class<?>> classes, Predicate<Class<?>> enable) {
         if (ALL_TRUE) {
             return;
         }
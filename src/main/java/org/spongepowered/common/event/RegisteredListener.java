@@ -37,6 +37,10 @@
 
 import java.util.EnumMap;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
 
 public final class RegisteredListener<T extends Event> implements SpongeEventListener<T>, Comparable<RegisteredListener<?>> {
 
@@ -50,6 +54,12 @@
     private final boolean beforeModifications;
     private Timing listenerTimer;
 
+    // Latency of asynchronous deliveries, see SpongeEventManager#postAsync
+    private final LongAdder asyncHandled = new LongAdder();
+    private final LongAdder asyncWaitTime = new LongAdder();
+    private final LongAdder asyncHandleTime = new LongAdder();
+    private final AtomicLong asyncMaxHandleTime = new AtomicLong();
+
     RegisteredListener(PluginContainer plugin, Class<T> eventClass, Order order, EventListener<? super T> listener, boolean beforeModifications) {
         this.plugin = checkNotNull(plugin, "plugin");
         this.eventClass = checkNotNull(eventClass, "eventClass");
@@ -81,6 +91,45 @@ public Timing getTimingsHandler() {
         return this.listenerTimer;
     }
 
+    EventListener<? super T> getListener() {
+        return this.listener;
+    }
+
+    void recordAsyncHandle(long waitTime, long handleTime) {
+        this.asyncHandled.increment();
+        this.asyncWaitTime.add(waitTime);
+        this.asyncHandleTime.add(handleTime);
+        this.asyncMaxHandleTime.accumulateAndGet(handleTime, Math::max);
+    }
+
+    public long getAsyncHandledCount() {
+        return this.asyncHandled.sum();
+    }
+
+    /**
+     * Gets the total time, in nanoseconds, asynchronously posted events
+     * waited in the delivery lane of this listener's plugin.
+     *
+     * @return The total wait time
+     */
+    public long getAsyncWaitTime() {
+        return this.asyncWaitTime.sum();
+    }
+
+    /**
+     * Gets the total time, in nanoseconds, this listener spent handling
+     * asynchronously posted events.
+     *
+     * @return The total handle time
+     */
+    public long getAsyncHandleTime() {
+        return this.asyncHandleTime.sum();
+    }
+
+    public long getAsyncMaxHandleTime() {
+        return this.asyncMaxHandleTime.get();
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -104,11 +153,17 @@ public static final class Cache {
 
         private final List<RegisteredListener<?>> listeners;
         private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        @Nullable private final EventDispatcher dispatcher;
 
         private static final Order[] ORDERS = Order.values();
 
         Cache(List<RegisteredListener<?>> listeners) {
+            this(listeners, null);
+        }
+
+        Cache(List<RegisteredListener<?>> listeners, @Nullable EventDispatcher dispatcher) {
             this.listeners = listeners;
+            this.dispatcher = dispatcher;
 
             this.listenersByOrder = Maps.newEnumMap(Order.class);
             for (Order order : ORDERS) {
@@ -127,6 +182,17 @@ public List<RegisteredListener<?>> getListenersByOrder(Order order) {
             return this.listenersByOrder.get(checkNotNull(order, "order"));
         }
 
+        /**
+         * Gets the generated dispatcher for all listeners, if generated
+         * dispatchers are enabled.
+         *
+         * @return The dispatcher, or null
+         */
+        @Nullable
+        public EventDispatcher getDispatcher() {
+            return this.dispatcher;
+        }
+
     }
 
 }
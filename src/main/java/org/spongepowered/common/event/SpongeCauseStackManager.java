@@ -40,12 +40,10 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.util.ThreadUtil;
 
+import java.util.Arrays;
 import java.util.Deque;
-import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
 
 import javax.annotation.Nullable;
 
@@ -59,9 +57,25 @@ public class SpongeCauseStackManager implements CauseStackManager {
     private Map<EventContextKey<?>, Object> ctx = Maps.newHashMap();
 
     private int min_depth = 0;
+    // Immutable snapshots of the stack, these are only rebuilt after the
+    // cause stack or the context actually changed
     private Cause cached_cause;
     private EventContext cached_ctx;
 
+    // The context undo trail shared by all frames. Every frame owns the
+    // entries from its undo_start onwards, each holding the first value a
+    // key had before it was changed in that frame (null if it was absent).
+    private EventContextKey<?>[] undo_keys = new EventContextKey<?>[16];
+    private Object[] undo_values = new Object[16];
+    private int undo_size = 0;
+
+    // Listener causes deferred by generated event dispatchers. A deferred
+    // cause is only pushed (together with its frame) once the listener
+    // actually touches the cause stack.
+    @Nullable private Object deferred_cause;
+    private CauseStackFrameImpl[] deferred_frames = new CauseStackFrameImpl[8];
+    private int deferred_depth = 0;
+
     @Inject
     private SpongeCauseStackManager() { }
 
@@ -81,9 +95,53 @@ private static boolean isPermittedThread() {
             || Thread.currentThread().getName().equals("Server Shutdown Thread");
     }
 
+    /**
+     * Defers pushing the given cause and a new frame until the cause stack is
+     * next accessed. Every call must be paired with a call to
+     * {@link #popDeferredCause()}, which pops the frame and the cause again
+     * if they were pushed in the meantime.
+     *
+     * @param obj The cause to defer
+     */
+    public void pushDeferredCause(Object obj) {
+        checkNotNull(obj, "obj");
+        // A nested deferral means the outer listener is posting an event, so
+        // its cause must be on the stack
+        applyDeferredCause();
+        if (this.deferred_depth == this.deferred_frames.length) {
+            this.deferred_frames = Arrays.copyOf(this.deferred_frames, this.deferred_depth * 2);
+        }
+        this.deferred_frames[this.deferred_depth++] = null;
+        this.deferred_cause = obj;
+    }
+
+    public void popDeferredCause() {
+        if (this.deferred_depth == 0) {
+            throw new IllegalStateException("Cause stack corruption, tried to pop a deferred cause that was never pushed");
+        }
+        final CauseStackFrameImpl frame = this.deferred_frames[--this.deferred_depth];
+        if (frame == null) {
+            this.deferred_cause = null;
+            return;
+        }
+        this.deferred_frames[this.deferred_depth] = null;
+        popCauseFrame(frame);
+        popCause();
+    }
+
+    private void applyDeferredCause() {
+        if (this.deferred_cause != null) {
+            final Object obj = this.deferred_cause;
+            this.deferred_cause = null;
+            pushCause(obj);
+            this.deferred_frames[this.deferred_depth - 1] = (CauseStackFrameImpl) pushCauseFrame();
+        }
+    }
+
     @Override
     public Cause getCurrentCause() {
         enforceMainThread();
+        applyDeferredCause();
         if (this.cached_cause == null || this.cached_ctx == null) {
             if (this.cause.isEmpty()) {
                 this.cached_cause = Cause.of(getCurrentContext(), SpongeImpl.getGame());
@@ -97,6 +155,7 @@ public Cause getCurrentCause() {
     @Override
     public EventContext getCurrentContext() {
         enforceMainThread();
+        applyDeferredCause();
         if (this.cached_ctx == null) {
             this.cached_ctx = EventContext.of(this.ctx);
         }
@@ -106,6 +165,7 @@ public EventContext getCurrentContext() {
     @Override
     public CauseStackManager pushCause(Object obj) {
         enforceMainThread();
+        applyDeferredCause();
         checkNotNull(obj, "obj");
         this.cached_cause = null;
         this.cause.push(obj);
@@ -115,6 +175,7 @@ public CauseStackManager pushCause(Object obj) {
     @Override
     public Object popCause() {
         enforceMainThread();
+        applyDeferredCause();
         if (this.cause.size() <= this.min_depth) {
             throw new IllegalStateException("Cause stack corruption, tried to pop more objects off than were pushed since last frame (Size was "
                     + this.cause.size() + " but mid depth is " + this.min_depth + ")");
@@ -126,6 +187,7 @@ public Object popCause() {
     @Override
     public void popCauses(int n) {
         enforceMainThread();
+        applyDeferredCause();
         for (int i = 0; i < n; i++) {
             popCause();
         }
@@ -134,13 +196,15 @@ public void popCauses(int n) {
     @Override
     public Object peekCause() {
         enforceMainThread();
+        applyDeferredCause();
         return this.cause.peek();
     }
 
     @Override
     public StackFrame pushCauseFrame() {
         enforceMainThread();
-        CauseStackFrameImpl frame = new CauseStackFrameImpl(this.min_depth);
+        applyDeferredCause();
+        CauseStackFrameImpl frame = new CauseStackFrameImpl(this.min_depth, this.undo_size);
         this.frames.push(frame);
         this.min_depth = this.cause.size();
         if (DEBUG_CAUSE_FRAMES) {
@@ -155,6 +219,7 @@ public StackFrame pushCauseFrame() {
     @Override
     public void popCauseFrame(StackFrame oldFrame) {
         enforceMainThread();
+        applyDeferredCause();
         checkNotNull(oldFrame, "oldFrame");
         CauseStackFrameImpl frame = this.frames.peek();
         if (frame != oldFrame) {
@@ -213,23 +278,22 @@ public void popCauseFrame(StackFrame oldFrame) {
             return;
         }
         this.frames.pop();
-        // Remove new values
-        boolean ctx_invalid = false;
-        if (frame.hasNew()) {
-            for (EventContextKey<?> key : frame.getNew()) {
-                this.ctx.remove(key);
-            }
-            ctx_invalid = true;
-        }
-        // Restore old values
-        if (frame.hasStoredValues()) {
-            for (Map.Entry<EventContextKey<?>, Object> e : frame.getStoredValues()) {
-                this.ctx.put(e.getKey(), e.getValue());
+        // Undo the context changes of the frame, removing new values and
+        // restoring old ones
+        if (this.undo_size > frame.undo_start) {
+            for (int i = this.undo_size - 1; i >= frame.undo_start; i--) {
+                final Object old = this.undo_values[i];
+                if (old == null) {
+                    this.ctx.remove(this.undo_keys[i]);
+                } else {
+                    this.ctx.put(this.undo_keys[i], old);
+                }
+                this.undo_keys[i] = null;
+                this.undo_values[i] = null;
             }
-            ctx_invalid = true;
-        }
-        if (ctx_invalid) {
+            this.undo_size = frame.undo_start;
             this.cached_ctx = null;
+            this.cached_cause = null;
         }
         // If there were any objects left on the stack then we pop them off
         while (this.cause.size() > this.min_depth) {
@@ -244,25 +308,45 @@ public void popCauseFrame(StackFrame oldFrame) {
     @Override
     public <T> CauseStackManager addContext(EventContextKey<T> key, T value) {
         enforceMainThread();
+        applyDeferredCause();
         checkNotNull(key, "key");
         checkNotNull(value, "value");
-        this.cached_ctx = null;
         Object existing = this.ctx.put(key, value);
-        if (!this.frames.isEmpty()) {
-            CauseStackFrameImpl frame = this.frames.peek();
-            if (existing == null) {
-                frame.markNew(key);
-            } else if (!frame.isNew(key) && !frame.isStored(key)) {
-                frame.store(key, existing);
-            }
+        if (existing == value) {
+            // Nothing changed, so the cached snapshots are still valid
+            return this;
         }
+        this.cached_ctx = null;
+        this.cached_cause = null;
+        recordUndo(key, existing);
         return this;
     }
 
+    private void recordUndo(EventContextKey<?> key, @Nullable Object existing) {
+        final CauseStackFrameImpl frame = this.frames.peek();
+        if (frame == null) {
+            return;
+        }
+        // Only the value before the first change in this frame is restored
+        for (int i = frame.undo_start; i < this.undo_size; i++) {
+            if (this.undo_keys[i] == key) {
+                return;
+            }
+        }
+        if (this.undo_size == this.undo_keys.length) {
+            this.undo_keys = Arrays.copyOf(this.undo_keys, this.undo_size * 2);
+            this.undo_values = Arrays.copyOf(this.undo_values, this.undo_size * 2);
+        }
+        this.undo_keys[this.undo_size] = key;
+        this.undo_values[this.undo_size] = existing;
+        this.undo_size++;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T> Optional<T> getContext(EventContextKey<T> key) {
         enforceMainThread();
+        applyDeferredCause();
         checkNotNull(key, "key");
         return Optional.ofNullable((T) this.ctx.get(key));
     }
@@ -271,68 +355,28 @@ public <T> Optional<T> getContext(EventContextKey<T> key) {
     @SuppressWarnings("unchecked")
     public <T> Optional<T> removeContext(EventContextKey<T> key) {
         enforceMainThread();
+        applyDeferredCause();
         checkNotNull(key, "key");
-        this.cached_ctx = null;
         Object existing = this.ctx.remove(key);
-        if (existing != null && !this.frames.isEmpty()) {
-            CauseStackFrameImpl frame = this.frames.peek();
-            if (!frame.isNew(key)) {
-                frame.store(key, existing);
-            }
+        if (existing != null) {
+            this.cached_ctx = null;
+            this.cached_cause = null;
+            recordUndo(key, existing);
         }
         return Optional.ofNullable((T) existing);
     }
 
-    // TODO could pool these for more fasts
     public static class CauseStackFrameImpl implements StackFrame {
 
-        // lazy loaded
-        @Nullable private Map<EventContextKey<?>, Object> stored_ctx_values;
-        @Nullable private Set<EventContextKey<?>> new_ctx_values;
-        public int old_min_depth;
+        public final int old_min_depth;
+        // The start of the context changes of this frame in the undo trail
+        final int undo_start;
 
         public Exception stack_debug = null;
 
-        public CauseStackFrameImpl(int old_depth) {
+        public CauseStackFrameImpl(int old_depth, int undo_start) {
             this.old_min_depth = old_depth;
-        }
-
-        public boolean isStored(EventContextKey<?> key) {
-            return this.stored_ctx_values != null && this.stored_ctx_values.containsKey(key);
-        }
-
-        public Set<Map.Entry<EventContextKey<?>, Object>> getStoredValues() {
-            return this.stored_ctx_values.entrySet();
-        }
-
-        public boolean hasStoredValues() {
-            return this.stored_ctx_values != null && !this.stored_ctx_values.isEmpty();
-        }
-
-        public void store(EventContextKey<?> key, Object existing) {
-            if (this.stored_ctx_values == null) {
-                this.stored_ctx_values = new HashMap<>();
-            }
-            this.stored_ctx_values.put(key, existing);
-        }
-
-        public boolean isNew(EventContextKey<?> key) {
-            return this.new_ctx_values != null && this.new_ctx_values.contains(key);
-        }
-
-        public Set<EventContextKey<?>> getNew() {
-            return this.new_ctx_values;
-        }
-
-        public boolean hasNew() {
-            return this.new_ctx_values != null && !this.new_ctx_values.isEmpty();
-        }
-
-        public void markNew(EventContextKey<?> key) {
-            if (this.new_ctx_values == null) {
-                this.new_ctx_values = new HashSet<>();
-            }
-            this.new_ctx_values.add(key);
+            this.undo_start = undo_start;
         }
 
         @Override
@@ -242,12 +242,18 @@ public static CollideEntityEvent callCollideEntityEvent(net.minecraft.world.Worl
     }
 
     public static ChangeBlockEvent.Pre callChangeBlockEventPre(IMixinWorldServer worldIn, BlockPos pos) {
+        if (!ShouldFire.CHANGE_BLOCK_EVENT_PRE) {
+            return getDummyBlockPreEvent();
+        }
         try (StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             return callChangeBlockEventPre(worldIn, ImmutableList.of(new Location<>((World) worldIn, pos.getX(), pos.getY(), pos.getZ())), null);
         }
     }
 
     public static ChangeBlockEvent.Pre callChangeBlockEventPre(IMixinWorldServer worldIn, BlockPos pos, Object source) {
+        if (!ShouldFire.CHANGE_BLOCK_EVENT_PRE) {
+            return getDummyBlockPreEvent();
+        }
         try (StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             return callChangeBlockEventPre(worldIn, ImmutableList.of(new Location<>((World) worldIn, pos.getX(), pos.getY(), pos.getZ())), source);
         }
@@ -272,10 +278,7 @@ private static ChangeBlockEvent.Pre callChangeBlockEventPre(IMixinWorldServer wo
             source = data.context.getSource(LocatableBlock.class).orElse(null);
             if (source == null) {
                 // safety measure, return a dummy event
-                if (DUMMY_BLOCK_PRE_EVENT == null) {
-                    DUMMY_BLOCK_PRE_EVENT = SpongeEventFactory.createChangeBlockEventPre(Sponge.getCauseStackManager().getCurrentCause(), ImmutableList.of());
-                }
-                return DUMMY_BLOCK_PRE_EVENT;
+                return getDummyBlockPreEvent();
             }
         }
 
@@ -307,6 +310,19 @@ private static ChangeBlockEvent.Pre callChangeBlockEventPre(IMixinWorldServer wo
         return event;
     }
 
+    /**
+     * Gets a dummy pre event which is never posted, returned whenever there
+     * is no need to post a real event.
+     *
+     * @return The dummy event
+     */
+    private static ChangeBlockEvent.Pre getDummyBlockPreEvent() {
+        if (DUMMY_BLOCK_PRE_EVENT == null) {
+            DUMMY_BLOCK_PRE_EVENT = SpongeEventFactory.createChangeBlockEventPre(Sponge.getCauseStackManager().getCurrentCause(), ImmutableList.of());
+        }
+        return DUMMY_BLOCK_PRE_EVENT;
+    }
+
     public static ChangeBlockEvent.Modify callChangeBlockEventModifyLiquidMix(net.minecraft.world.World worldIn, BlockPos pos, IBlockState state, @Nullable Object source) {
         final PhaseTracker phaseTracker = PhaseTracker.getInstance();
         final PhaseData data = phaseTracker.getCurrentPhaseData();
@@ -434,6 +450,9 @@ public static boolean handlePistonEvent(IMixinWorldServer world, WorldServer.Ser
 
     @SuppressWarnings("rawtypes")
     public static NotifyNeighborBlockEvent callNotifyNeighborEvent(World world, BlockPos sourcePos, EnumSet notifiedSides) {
+        if (!ShouldFire.NOTIFY_NEIGHBOR_BLOCK_EVENT) {
+            return null;
+        }
         final PhaseTracker phaseTracker = PhaseTracker.getInstance();
         final PhaseData peek = phaseTracker.getCurrentPhaseData();
         final PhaseContext<?> context = peek.context;
@@ -659,7 +678,11 @@ public static boolean handleCollideBlockEvent(Block block, net.minecraft.world.W
             return false;
         }
 
-        final PhaseTracker phaseTracker = PhaseTracker.getInstance();
+        if (!ShouldFire.COLLIDE_BLOCK_EVENT) {
+            trackCollideBlock(block, world, pos, entity);
+            return false;
+        }
+
         try (StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             Sponge.getCauseStackManager().pushCause( entity);
 
@@ -676,20 +699,24 @@ public static boolean handleCollideBlockEvent(Block block, net.minecraft.world.W
                     new Location<>((World) world, VecHelper.toVector3d(pos)), direction);
             boolean cancelled = SpongeImpl.postEvent(event);
             if (!cancelled) {
-                IMixinEntity spongeEntity = (IMixinEntity) entity;
-                if (!pos.equals(spongeEntity.getLastCollidedBlockPos())) {
-                    final PhaseData peek = phaseTracker.getCurrentPhaseData();
-                    final Optional<User> notifier = peek.context.getNotifier();
-                    if (notifier.isPresent()) {
-                        IMixinChunk spongeChunk = (IMixinChunk) world.getChunkFromBlockCoords(pos);
-                        spongeChunk.addTrackedBlockPosition(block, pos, notifier.get(), PlayerTracker.Type.NOTIFIER);
-                    }
-                }
+                trackCollideBlock(block, world, pos, entity);
             }
             return cancelled;
         }
     }
 
+    private static void trackCollideBlock(Block block, net.minecraft.world.World world, BlockPos pos, net.minecraft.entity.Entity entity) {
+        IMixinEntity spongeEntity = (IMixinEntity) entity;
+        if (!pos.equals(spongeEntity.getLastCollidedBlockPos())) {
+            final PhaseData peek = PhaseTracker.getInstance().getCurrentPhaseData();
+            final Optional<User> notifier = peek.context.getNotifier();
+            if (notifier.isPresent()) {
+                IMixinChunk spongeChunk = (IMixinChunk) world.getChunkFromBlockCoords(pos);
+                spongeChunk.addTrackedBlockPosition(block, pos, notifier.get(), PlayerTracker.Type.NOTIFIER);
+            }
+        }
+    }
+
     public static boolean handleCollideImpactEvent(net.minecraft.entity.Entity projectile, @Nullable ProjectileSource projectileSource,
             RayTraceResult movingObjectPosition) {
         final PhaseTracker phaseTracker = PhaseTracker.getInstance();
@@ -966,6 +993,10 @@ public static ChangeInventoryEvent.Transfer.Pre callTransferPre(Inventory source
     }
 
     public static boolean callTransferPost(IMixinInventory captureSource, Inventory source, Inventory destination) {
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_POST) {
+            captureSource.getCapturedTransactions().clear();
+            return false;
+        }
         Sponge.getCauseStackManager().pushCause(source);
         ChangeInventoryEvent.Transfer.Post event =
                 SpongeEventFactory.createChangeInventoryEventTransferPost(Sponge.getCauseStackManager().getCurrentCause(),
@@ -998,6 +1029,10 @@ private static void setSlots(List<SlotTransaction> transactions, Function<SlotTr
      * @param originalStack the original Stack
      */
     public static void captureTransaction(IMixinInventory captureIn, Inventory inv, int index, ItemStack originalStack) {
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_POST) {
+            // Transactions are only captured for the post event
+            return;
+        }
         Inventory ordered = inv.query(OrderedInventory.class);
         if (ordered instanceof OrderedInventory) {
             Optional<org.spongepowered.api.item.inventory.Slot> slot = ((OrderedInventory) ordered).getSlot(SlotIndex.of(index));
@@ -1020,6 +1055,9 @@ public static void captureTransaction(IMixinInventory captureIn, Inventory inv,
      * @return the result if the transaction
      */
     public static ItemStack captureTransaction(IMixinInventory captureIn, Inventory inv, int index, Supplier<ItemStack> transaction) {
+        if (!ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_POST) {
+            return transaction.get();
+        }
         Inventory ordered = inv.query(OrderedInventory.class);
         if (ordered instanceof OrderedInventory) {
             Optional<org.spongepowered.api.item.inventory.Slot> slot = ((OrderedInventory) ordered).getSlot(SlotIndex.of(index));
@@ -30,11 +30,8 @@
 import co.aikar.timings.TimingsManager;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.LoadingCache;
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.Lists;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
-import com.google.common.reflect.TypeToken;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.event.Cancellable;
@@ -48,6 +45,8 @@
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.block.DeferredTileData;
+import org.spongepowered.common.config.category.EventManagerCategory;
 import org.spongepowered.common.event.filter.FilterFactory;
 import org.spongepowered.common.event.gen.DefineableClassLoader;
 
@@ -55,13 +54,15 @@
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.Iterator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 
@@ -78,15 +79,29 @@ public class SpongeEventManager implements EventManager {
     private final DefineableClassLoader classLoader = new DefineableClassLoader(getClass().getClassLoader());
     private final AnnotatedEventListener.Factory handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener",
             new FilterFactory("org.spongepowered.common.event.filters", this.classLoader), this.classLoader);
-    private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent = HashMultimap.create();
-    private final Set<Object> registeredListeners = Sets.newHashSet();
+    private final ClassEventDispatcherFactory dispatcherFactory = new ClassEventDispatcherFactory("org.spongepowered.common.event.dispatcher",
+            this.classLoader);
+    /**
+     * The registered handlers, keyed by the event class they listen to. The
+     * lists are never modified, registrations replace them with a copy.
+     */
+    private final Map<Class<?>, List<RegisteredListener<?>>> handlersByEvent = new ConcurrentHashMap<>();
+    private final Set<Object> registeredListeners = Sets.newConcurrentHashSet();
+
+    /**
+     * All event types which are currently baked into the handlers cache,
+     * keyed by each of their supertypes.
+     */
+    private final Map<Class<?>, Set<Class<? extends Event>>> bakedSubtypes = new ConcurrentHashMap<>();
+
+    @Nullable private volatile AsyncEventPoster asyncPoster;
 
-    public final ListenerChecker checker = new ListenerChecker(ShouldFire.class);
+    public final ListenerChecker checker = new ListenerChecker(ShouldFire.class, Arrays.asList(ShouldFire.EVENT_TYPES));
 
     /**
      * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or
-     * removed.</p>
+     * <p>Only the cached event types which are affected by added or removed
+     * handlers are rebaked, posting never blocks on registrations.</p>
      */
     private final LoadingCache<Class<? extends Event>, RegisteredListener.Cache> handlersCache =
             Caffeine.newBuilder().initialCapacity(150).build((eventClass) -> bakeHandlers(eventClass));
@@ -122,18 +137,36 @@ public SpongeEventManager(Logger logger, PluginManager pluginManager) {
 
     <T extends Event> RegisteredListener.Cache bakeHandlers(Class<T> rootEvent) {
         List<RegisteredListener<?>> handlers = Lists.newArrayList();
-        Set<Class<? super T>> types = TypeToken.of(rootEvent).getTypes().rawTypes();
+        Set<Class<?>> types = this.checker.getTypeHierarchy(rootEvent);
 
-        synchronized (this.lock) {
-            for (Class<? super T> type : types) {
-                if (Event.class.isAssignableFrom(type)) {
-                    handlers.addAll(this.handlersByEvent.get(type));
-                }
+        // Record the baked type before reading the handlers, registrations
+        // update the handlers before looking up the types to rebake
+        for (Class<?> type : types) {
+            if (Event.class.isAssignableFrom(type)) {
+                this.bakedSubtypes.computeIfAbsent(type, k -> Sets.newConcurrentHashSet()).add(rootEvent);
+            }
+        }
+        for (Class<?> type : types) {
+            if (Event.class.isAssignableFrom(type)) {
+                handlers.addAll(this.handlersByEvent.getOrDefault(type, Collections.emptyList()));
             }
         }
 
         Collections.sort(handlers);
-        return new RegisteredListener.Cache(handlers);
+        return new RegisteredListener.Cache(handlers, createDispatcher(rootEvent, handlers));
+    }
+
+    @Nullable
+    private EventDispatcher createDispatcher(Class<? extends Event> eventClass, List<RegisteredListener<?>> handlers) {
+        if (!SpongeImpl.getGlobalConfig().getConfig().getEventManager().useGeneratedDispatchers()) {
+            return null;
+        }
+        try {
+            return this.dispatcherFactory.create(handlers);
+        } catch (Exception e) {
+            this.logger.error("Failed to generate event dispatcher for {}, falling back to regular dispatching", eventClass.getName(), e);
+            return null;
+        }
     }
 
     @Nullable
@@ -171,19 +204,41 @@ private void register(RegisteredListener<? extends Event> handler) {
     }
 
     private void register(List<RegisteredListener<? extends Event>> handlers) {
-        boolean changed = false;
-
+        // Only registrations are serialized, posting threads never take the lock
         synchronized (this.lock) {
+            Set<Class<?>> changed = new HashSet<>();
             for (RegisteredListener<?> handler : handlers) {
-                if (this.handlersByEvent.put(handler.getEventClass(), handler)) {
-                    changed = true;
+                List<RegisteredListener<?>> current = this.handlersByEvent.getOrDefault(handler.getEventClass(), Collections.emptyList());
+                if (!current.contains(handler)) {
+                    List<RegisteredListener<?>> updated = new ArrayList<>(current.size() + 1);
+                    updated.addAll(current);
+                    updated.add(handler);
+                    this.handlersByEvent.put(handler.getEventClass(), Collections.unmodifiableList(updated));
+                    changed.add(handler.getEventClass());
                     this.checker.registerListenerFor(handler.getEventClass());
                 }
             }
+            rebakeHandlers(changed);
         }
+    }
 
-        if (changed) {
-            this.handlersCache.invalidateAll();
+    /**
+     * Rebakes the cached handlers of all event types that are affected by
+     * changes to the handlers of the given event classes, every other cached
+     * event type is left untouched.
+     *
+     * @param changed The event classes whose handlers changed
+     */
+    private void rebakeHandlers(Set<Class<?>> changed) {
+        Set<Class<? extends Event>> affected = new HashSet<>();
+        for (Class<?> eventClass : changed) {
+            Set<Class<? extends Event>> subtypes = this.bakedSubtypes.get(eventClass);
+            if (subtypes != null) {
+                affected.addAll(subtypes);
+            }
+        }
+        for (Class<? extends Event> eventClass : affected) {
+            this.handlersCache.put(eventClass, bakeHandlers(eventClass));
         }
     }
 
@@ -304,23 +359,26 @@ public <T extends Event> void registerListener(Object plugin, Class<T> eventClas
     }
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
-        boolean changed = false;
-
         synchronized (this.lock) {
-            Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
-            while (itr.hasNext()) {
-                RegisteredListener<?> handler = itr.next();
-                if (unregister.test(handler)) {
-                    itr.remove();
-                    changed = true;
-                    this.checker.unregisterListenerFor(handler.getEventClass());
-                    this.registeredListeners.remove(handler.getHandle());
+            Set<Class<?>> changed = new HashSet<>();
+            for (Map.Entry<Class<?>, List<RegisteredListener<?>>> entry : this.handlersByEvent.entrySet()) {
+                List<RegisteredListener<?>> updated = null;
+                for (RegisteredListener<?> handler : entry.getValue()) {
+                    if (unregister.test(handler)) {
+                        if (updated == null) {
+                            updated = new ArrayList<>(entry.getValue());
+                        }
+                        updated.remove(handler);
+                        this.checker.unregisterListenerFor(handler.getEventClass());
+                        this.registeredListeners.remove(handler.getHandle());
+                    }
+                }
+                if (updated != null) {
+                    entry.setValue(Collections.unmodifiableList(updated));
+                    changed.add(entry.getKey());
                 }
             }
-        }
-
-        if (changed) {
-            this.handlersCache.invalidateAll();
+            rebakeHandlers(changed);
         }
     }
 
@@ -336,16 +394,45 @@ public void unregisterPluginListeners(Object pluginObj) {
         unregister(handler -> plugin.equals(handler.getPlugin()));
     }
 
+    /**
+     * Gets all registered listeners, of every event type.
+     *
+     * @return The listeners
+     */
+    public List<RegisteredListener<?>> getRegisteredListeners() {
+        final List<RegisteredListener<?>> listeners = new ArrayList<>();
+        for (List<RegisteredListener<?>> handlers : this.handlersByEvent.values()) {
+            listeners.addAll(handlers);
+        }
+        return listeners;
+    }
+
+    /**
+     * Gets the amount of asynchronously posted events not yet delivered to
+     * all of their listeners.
+     *
+     * @return The amount of pending events
+     */
+    public int getPendingAsyncEvents() {
+        final AsyncEventPoster poster = this.asyncPoster;
+        return poster == null ? 0 : poster.getPendingEvents();
+    }
+
     protected RegisteredListener.Cache getHandlerCache(Event event) {
         return this.handlersCache.get(checkNotNull(event, "event").getClass());
     }
 
+    ClassEventDispatcherFactory getDispatcherFactory() {
+        return this.dispatcherFactory;
+    }
+
     @SuppressWarnings("unchecked")
     protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
         if(!Sponge.getServer().isMainThread()) {
             // If this event is being posted asynchronously then we don't want
-            // to do any timing or cause stack changes
+            // to do any cause stack changes, timings are kept per thread
             for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
+                handler.getTimingsHandler().startTimingIfSync();
                 try {
                     if (event instanceof AbstractEvent) {
                         ((AbstractEvent) event).currentOrder = handler.getOrder();
@@ -353,6 +440,8 @@ protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
                     handler.handle(event);
                 } catch (Throwable e) {
                     SpongeImpl.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+                } finally {
+                    handler.getTimingsHandler().stopTimingIfSync();
                 }
             }
             if (event instanceof AbstractEvent) {
@@ -376,6 +465,23 @@ protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
             }
             Sponge.getCauseStackManager().popCause();
         }
+        TimingsManager.PLUGIN_EVENT_HANDLER.stopTimingIfSync();
+        if (event instanceof AbstractEvent) {
+            ((AbstractEvent) event).currentOrder = null;
+        }
+
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
+    protected boolean post(Event event, EventDispatcher dispatcher) {
+        // The dispatcher only times the single listeners, the whole dispatch
+        // is timed here like in the regular dispatch loop
+        TimingsManager.PLUGIN_EVENT_HANDLER.startTimingIfSync();
+        try {
+            dispatcher.dispatch(event);
+        } finally {
+            TimingsManager.PLUGIN_EVENT_HANDLER.stopTimingIfSync();
+        }
         if (event instanceof AbstractEvent) {
             ((AbstractEvent) event).currentOrder = null;
         }
@@ -385,7 +491,49 @@ protected boolean post(Event event, List<RegisteredListener<?>> handlers) {
 
     @Override
     public boolean post(Event event) {
-        return post(event, getHandlerCache(event).getListeners());
+        final RegisteredListener.Cache cache = getHandlerCache(event);
+        final boolean mainThread = Sponge.getServer().isMainThread();
+        if (mainThread && !cache.getListeners().isEmpty()) {
+            // Block snapshots of the event may still share the data of live tiles
+            DeferredTileData.captureAll();
+        }
+        final EventDispatcher dispatcher = cache.getDispatcher();
+        if (dispatcher != null && mainThread) {
+            return post(event, dispatcher);
+        }
+        return post(event, cache.getListeners());
+    }
+
+    /**
+     * Posts the event to its listeners on the async event thread pool. The
+     * listeners are called in order and every plugin receives the events in
+     * the order they were posted, but no cause stack is available.
+     *
+     * @param event The event
+     * @return A future which completes with whether the event was cancelled
+     */
+    public CompletableFuture<Boolean> postAsync(Event event) {
+        if (Sponge.getServer().isMainThread()) {
+            // The listeners may look at block snapshots of the event while the tiles keep ticking
+            DeferredTileData.captureAll();
+        }
+        return getAsyncPoster().post(event, getHandlerCache(event).getListeners());
+    }
+
+    private AsyncEventPoster getAsyncPoster() {
+        AsyncEventPoster poster = this.asyncPoster;
+        if (poster == null) {
+            synchronized (this.lock) {
+                poster = this.asyncPoster;
+                if (poster == null) {
+                    final EventManagerCategory category = SpongeImpl.getGlobalConfig().getConfig().getEventManager();
+                    final int threads = category.getAsyncThreads() > 0 ? category.getAsyncThreads()
+                            : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+                    poster = this.asyncPoster = new AsyncEventPoster(this.logger, threads, category.getAsyncMaxPendingEvents());
+                }
+            }
+        }
+        return poster;
     }
 
     public boolean post(Event event, boolean allowClientThread) {
@@ -393,6 +541,9 @@ public boolean post(Event event, boolean allowClientThread) {
     }
 
     public boolean post(Event event, Order order) {
+        if (Sponge.getServer().isMainThread()) {
+            DeferredTileData.captureAll();
+        }
         return post(event, getHandlerCache(event).getListenersByOrder(order));
     }
 
@@ -0,0 +1,140 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import net.minecraft.entity.Entity;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * A bounded queue of entities spawned off the main server thread, to be
+ * spawned on the main thread. Any thread may offer entities without locking,
+ * only the main thread drains them, at most a given budget per tick so a large
+ * burst is spread over several ticks instead of stalling a single one.
+ */
+public final class AsyncEntitySpawnQueue {
+
+    private final Queue<Entity> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final int capacity;
+    private final int budget;
+
+    // Only touched by the draining thread, besides being read for metrics
+    private final List<Entity> batch = new ArrayList<>();
+    private volatile long lastDrainNanos;
+    private volatile int lastDrainCount;
+    private volatile long totalDrained;
+
+    /**
+     * Creates a new queue.
+     *
+     * @param capacity The maximum amount of queued entities
+     * @param budget The maximum amount of entities drained per call to
+     *     {@link #drain}, or 0 or less for no limit
+     */
+    AsyncEntitySpawnQueue(int capacity, int budget) {
+        this.capacity = capacity;
+        this.budget = budget <= 0 ? Integer.MAX_VALUE : budget;
+    }
+
+    /**
+     * Queues the entity to be spawned, unless the queue is already full.
+     *
+     * @param entity The entity
+     * @return True if the entity was queued
+     */
+    boolean offer(Entity entity) {
+        // Reserve the slot first, so concurrent producers can never push the queue past its capacity
+        if (this.size.incrementAndGet() > this.capacity) {
+            this.size.decrementAndGet();
+            return false;
+        }
+        this.queue.offer(entity);
+        return true;
+    }
+
+    /**
+     * Removes up to the budget of queued entities and passes them to the given
+     * consumer in the order they were queued. Must only be called from a single
+     * thread at a time.
+     *
+     * @param consumer The consumer spawning the entities
+     */
+    void drain(Consumer<List<Entity>> consumer) {
+        if (this.size.get() == 0) {
+            return;
+        }
+        final long start = System.nanoTime();
+        final List<Entity> batch = this.batch;
+        Entity entity;
+        while (batch.size() < this.budget && (entity = this.queue.poll()) != null) {
+            batch.add(entity);
+        }
+        this.size.addAndGet(-batch.size());
+        try {
+            consumer.accept(batch);
+        } finally {
+            this.lastDrainCount = batch.size();
+            this.totalDrained += batch.size();
+            batch.clear();
+            this.lastDrainNanos = System.nanoTime() - start;
+        }
+    }
+
+    /**
+     * Gets the amount of entities currently waiting to be spawned.
+     *
+     * @return The queue depth
+     */
+    public int getDepth() {
+        return this.size.get();
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    /**
+     * Gets the time the last drain took to spawn its entities.
+     *
+     * @return The time, in nanoseconds
+     */
+    public long getLastDrainNanos() {
+        return this.lastDrainNanos;
+    }
+
+    public int getLastDrainCount() {
+        return this.lastDrainCount;
+    }
+
+    public long getTotalDrained() {
+        return this.totalDrained;
+    }
+}
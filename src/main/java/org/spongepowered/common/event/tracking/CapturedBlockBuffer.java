@@ -0,0 +1,257 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import net.minecraft.block.state.IBlockState;
+import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.block.SpongeBlockSnapshot;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
+import org.spongepowered.common.world.BlockChange;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+
+import javax.annotation.Nullable;
+
+/**
+ * The list backing block captures of a {@link PhaseContext}. Block changes
+ * are stored as packed positions, original states and flags, the
+ * {@link SpongeBlockSnapshot} for a change is only created once something
+ * actually asks for it through the {@link java.util.List} methods, for
+ * instance when {@link TrackingUtil#processBlockCaptures} has to throw
+ * {@link org.spongepowered.api.event.block.ChangeBlockEvent}s.
+ *
+ * <p>Changes that cannot be recreated after the fact, like those of blocks
+ * with tile entities, are expected to be {@link #add added} as snapshots
+ * right away. The creator and notifier of a change are only looked up once
+ * its snapshot is created, which {@link TrackingUtil#processBlockCaptures}
+ * does for all changes before processing any of them updates the tracked
+ * owners. Capturing a change therefore never touches the chunk's tracking
+ * data.</p>
+ */
+public final class CapturedBlockBuffer extends AbstractList<BlockSnapshot> implements RandomAccess {
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final int CHANGE_SHIFT = 8;
+    private static final int UPDATE_FLAG_MASK = (1 << CHANGE_SHIFT) - 1;
+    private static final BlockChange[] CHANGES = BlockChange.values();
+
+    private long[] positions = new long[0];
+    private int[] flags = new int[0];
+    private IBlockState[] states = new IBlockState[0];
+    private WorldServer[] worlds = new WorldServer[0];
+    private SpongeBlockSnapshot[] snapshots = new SpongeBlockSnapshot[0];
+    private int size;
+
+    CapturedBlockBuffer() {
+    }
+
+    /**
+     * Captures a block change without creating a snapshot for it.
+     *
+     * @param world The world the change happened in
+     * @param pos The position of the change
+     * @param originalState The state before the change
+     * @param updateFlag The minecraft update flag of the change
+     * @param blockChange The type of change
+     */
+    public void capture(WorldServer world, BlockPos pos, IBlockState originalState, int updateFlag, @Nullable BlockChange blockChange) {
+        ensureCapacity(this.size + 1);
+        set(this.size, world, pos.toLong(), originalState, packFlags(updateFlag, blockChange), null);
+        this.size++;
+        this.modCount++;
+    }
+
+    /**
+     * Removes the last captured change, without creating a snapshot for it.
+     */
+    public void removeLast() {
+        checkIndex(this.size - 1);
+        this.size--;
+        set(this.size, null, 0L, null, 0, null);
+        this.modCount++;
+    }
+
+    public WorldServer getWorld(int index) {
+        checkIndex(index);
+        return this.worlds[index];
+    }
+
+    public BlockPos getPos(int index) {
+        checkIndex(index);
+        return BlockPos.fromLong(this.positions[index]);
+    }
+
+    public IBlockState getOriginalState(int index) {
+        checkIndex(index);
+        return this.states[index];
+    }
+
+    public int getUpdateFlag(int index) {
+        checkIndex(index);
+        return this.flags[index] & UPDATE_FLAG_MASK;
+    }
+
+    @Nullable
+    public BlockChange getBlockChange(int index) {
+        checkIndex(index);
+        final int change = this.flags[index] >>> CHANGE_SHIFT;
+        return change == 0 ? null : CHANGES[change - 1];
+    }
+
+    /**
+     * Creates a copy of the currently captured changes, including any
+     * snapshots that were already created for them.
+     *
+     * @return The copy
+     */
+    public CapturedBlockBuffer copy() {
+        final CapturedBlockBuffer copy = new CapturedBlockBuffer();
+        copy.positions = Arrays.copyOf(this.positions, this.size);
+        copy.flags = Arrays.copyOf(this.flags, this.size);
+        copy.states = Arrays.copyOf(this.states, this.size);
+        copy.worlds = Arrays.copyOf(this.worlds, this.size);
+        copy.snapshots = Arrays.copyOf(this.snapshots, this.size);
+        copy.size = this.size;
+        return copy;
+    }
+
+    @Override
+    public BlockSnapshot get(int index) {
+        checkIndex(index);
+        SpongeBlockSnapshot snapshot = this.snapshots[index];
+        if (snapshot == null) {
+            final BlockPos pos = BlockPos.fromLong(this.positions[index]);
+            final IBlockState state = this.states[index];
+            final WorldServer world = this.worlds[index];
+            final World spongeWorld = (World) world;
+            snapshot = ((IMixinWorldServer) world).createSpongeBlockSnapshot(state, state, pos, getUpdateFlag(index),
+                spongeWorld.getCreator(pos.getX(), pos.getY(), pos.getZ()).orElse(null),
+                spongeWorld.getNotifier(pos.getX(), pos.getY(), pos.getZ()).orElse(null));
+            snapshot.blockChange = getBlockChange(index);
+            this.snapshots[index] = snapshot;
+        }
+        return snapshot;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public BlockSnapshot set(int index, BlockSnapshot element) {
+        final BlockSnapshot previous = get(index);
+        final SpongeBlockSnapshot snapshot = (SpongeBlockSnapshot) element;
+        set(index, getWorld(snapshot), snapshot.getBlockPos().toLong(), (IBlockState) snapshot.getState(),
+            packFlags(snapshot.getUpdateFlag(), snapshot.blockChange), snapshot);
+        return previous;
+    }
+
+    @Override
+    public void add(int index, BlockSnapshot element) {
+        if (index < 0 || index > this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+        final SpongeBlockSnapshot snapshot = (SpongeBlockSnapshot) element;
+        ensureCapacity(this.size + 1);
+        shift(index, index + 1, this.size - index);
+        set(index, getWorld(snapshot), snapshot.getBlockPos().toLong(), (IBlockState) snapshot.getState(),
+            packFlags(snapshot.getUpdateFlag(), snapshot.blockChange), snapshot);
+        this.size++;
+        this.modCount++;
+    }
+
+    @Override
+    public BlockSnapshot remove(int index) {
+        final BlockSnapshot removed = get(index);
+        shift(index + 1, index, this.size - index - 1);
+        this.size--;
+        set(this.size, null, 0L, null, 0, null);
+        this.modCount++;
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(this.states, 0, this.size, null);
+        Arrays.fill(this.worlds, 0, this.size, null);
+        Arrays.fill(this.snapshots, 0, this.size, null);
+        this.size = 0;
+        this.modCount++;
+    }
+
+    private void set(int index, @Nullable WorldServer world, long pos, @Nullable IBlockState state, int flags,
+        @Nullable SpongeBlockSnapshot snapshot) {
+        this.worlds[index] = world;
+        this.positions[index] = pos;
+        this.states[index] = state;
+        this.flags[index] = flags;
+        this.snapshots[index] = snapshot;
+    }
+
+    private void shift(int from, int to, int length) {
+        if (length <= 0) {
+            return;
+        }
+        System.arraycopy(this.positions, from, this.positions, to, length);
+        System.arraycopy(this.flags, from, this.flags, to, length);
+        System.arraycopy(this.states, from, this.states, to, length);
+        System.arraycopy(this.worlds, from, this.worlds, to, length);
+        System.arraycopy(this.snapshots, from, this.snapshots, to, length);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= this.positions.length) {
+            return;
+        }
+        final int newCapacity = Math.max(capacity, Math.max(INITIAL_CAPACITY, this.positions.length << 1));
+        this.positions = Arrays.copyOf(this.positions, newCapacity);
+        this.flags = Arrays.copyOf(this.flags, newCapacity);
+        this.states = Arrays.copyOf(this.states, newCapacity);
+        this.worlds = Arrays.copyOf(this.worlds, newCapacity);
+        this.snapshots = Arrays.copyOf(this.snapshots, newCapacity);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.size) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + this.size);
+        }
+    }
+
+    private static int packFlags(int updateFlag, @Nullable BlockChange blockChange) {
+        return (updateFlag & UPDATE_FLAG_MASK) | (blockChange == null ? 0 : (blockChange.ordinal() + 1) << CHANGE_SHIFT);
+    }
+
+    @Nullable
+    private static WorldServer getWorld(SpongeBlockSnapshot snapshot) {
+        return (WorldServer) Sponge.getServer().getWorld(snapshot.getWorldUniqueId()).orElse(null);
+    }
+}
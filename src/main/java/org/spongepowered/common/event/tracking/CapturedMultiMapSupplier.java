@@ -39,6 +39,8 @@
 
 public abstract class CapturedMultiMapSupplier<K, V> implements Supplier<ListMultimap<K, V>> {
 
+    private static final int MAX_RETAINED_SIZE = 256;
+
     @Nullable private ListMultimap<K, V> captured;
 
     CapturedMultiMapSupplier() {
@@ -106,6 +108,16 @@ public final void acceptAndRemoveIfPresent(K key, Consumer<List<V>> consumer) {
         }
     }
 
+    /**
+     * Returns {@code true} if there are captured values for the key.
+     *
+     * @param key The key
+     * @return {@code true} if there are values for the key
+     */
+    public final boolean containsKey(K key) {
+        return this.captured != null && this.captured.containsKey(key);
+    }
+
     /**
      * If not empty, removes all values associated with key.
      * 
@@ -122,6 +134,21 @@ public final void removeAllIfNotEmpty(K key) {
         this.captured.removeAll(key);
     }
 
+    /**
+     * Empties this supplier for reuse by a pooled {@link PhaseContext}. The
+     * backing multimap is kept unless it grew unusually large, in which case it
+     * is dropped so a single burst of captures is not retained forever.
+     */
+    final void reset() {
+        if (this.captured != null) {
+            if (this.captured.size() > MAX_RETAINED_SIZE) {
+                this.captured = null;
+            } else {
+                this.captured.clear();
+            }
+        }
+    }
+
     /**
      * If not empty, returns the captured {@link ListMultimap}.
      * Otherwise, this will return the passed list.
@@ -35,6 +35,8 @@
 import javax.annotation.Nullable;
 
 public abstract class CapturedSupplier<T> implements Supplier<List<T>> {
+    private static final int MAX_RETAINED_SIZE = 256;
+
     @Nullable private List<T> captured;
 
     CapturedSupplier() {
@@ -43,11 +45,15 @@
     @Override
     public final List<T> get() {
         if (this.captured == null) {
-            this.captured = new ArrayList<>();
+            this.captured = createList();
         }
         return this.captured;
     }
 
+    List<T> createList() {
+        return new ArrayList<>();
+    }
+
     /**
      * Returns {@code true} if there are no captured objects.
      * 
@@ -81,6 +87,21 @@ public final List<T> orElse(List<T> list) {
         return this.isEmpty() ? list : this.captured;
     }
 
+    /**
+     * Empties this supplier for reuse by a pooled {@link PhaseContext}. The
+     * backing list is kept unless it grew unusually large, in which case it
+     * is dropped so a single burst of captures is not retained forever.
+     */
+    final void reset() {
+        if (this.captured != null) {
+            if (this.captured.size() > MAX_RETAINED_SIZE) {
+                this.captured = null;
+            } else {
+                this.captured.clear();
+            }
+        }
+    }
+
     public final List<T> orEmptyList() {
         return this.captured == null ? Collections.emptyList() : this.captured;
     }
@@ -24,13 +24,13 @@
  */
 package org.spongepowered.common.event.tracking;
 
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.util.DamageSource;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.WorldServer;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockSnapshot;
-import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.SpongeEventFactory;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
@@ -155,7 +155,20 @@ default boolean ignoresBlockTracking() {
         return false;
     }
 
-    default void handleBlockChangeWithUser(@Nullable BlockChange blockChange, Transaction<BlockSnapshot> snapshotTransaction, C context) {
+    /**
+     * Called for every valid block change while the captured block changes
+     * are being processed, so that the phase can associate owners or
+     * notifiers with the changed position.
+     *
+     * @param blockChange The type of change
+     * @param world The world of the change
+     * @param pos The changed position
+     * @param originalState The state before the change
+     * @param newState The state after the change
+     * @param context The phase context
+     */
+    default void handleBlockChangeWithUser(@Nullable BlockChange blockChange, WorldServer world, BlockPos pos, IBlockState originalState,
+        IBlockState newState, C context) {
 
     }
 
@@ -203,6 +216,14 @@ default boolean isInteraction() {
         return false;
     }
 
+    /**
+     * Called after a block change has been captured and applied to the chunk.
+     *
+     * @param snapshot The captured original snapshot, or {@link BlockSnapshot#NONE}
+     *     if the change was captured without creating a snapshot
+     * @param tracker The phase tracker
+     * @param context The phase context
+     */
     default void postTrackBlock(BlockSnapshot snapshot, PhaseTracker tracker, C context) {
 
     }
@@ -79,7 +79,13 @@
 
     private Object source;
 
+    // Pooling, see PhaseContextPool
+    @Nullable PhaseContextPool<?> pool;
+    boolean pooled;
+    @Nullable Exception releaseTrace;
+
     public P source(Object owner) {
+        checkNotReleased();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         this.source = owner;
         return (P) this;
@@ -91,6 +97,7 @@ public P owner(Supplier<Optional<User>> supplier) {
     }
 
     public P owner(User owner) {
+        checkNotReleased();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         if (this.owner != null) {
             throw new IllegalStateException("Owner for this phase context is already set!");
@@ -105,6 +112,7 @@ public P notifier(Supplier<Optional<User>> supplier) {
     }
 
     public P notifier(User notifier) {
+        checkNotReleased();
         checkState(!this.isCompleted, "Cannot add a new object to the context if it's already marked as completed!");
         if (this.notifier != null) {
             throw new IllegalStateException("Notifier for this phase context is already set!");
@@ -195,6 +203,7 @@ public P addEntityDropCaptures() {
 
 
     public P buildAndSwitch() {
+        checkNotReleased();
         this.isCompleted = true;
         PhaseTracker.getInstance().switchToPhase(this.state, this);
         return (P) this;
@@ -233,6 +242,7 @@ public void setProcessImmediately(boolean state) {
 
     @SuppressWarnings("unchecked")
     public <T> Optional<T> getSource(Class<T> sourceClass) {
+        checkNotReleased();
         if (this.source == null) {
             return Optional.empty();
         }
@@ -260,6 +270,7 @@ public List<Entity> getCapturedEntities() throws IllegalStateException {
     }
 
     public CapturedSupplier<Entity> getCapturedEntitySupplier() throws IllegalStateException {
+        checkNotReleased();
         if (this.capturedEntitiesSupplier == null) {
             throw TrackingUtil.throwWithContext("Intended to capture entity spawns!", this).get();
         }
@@ -274,6 +285,7 @@ public List<EntityItem> getCapturedItems() throws IllegalStateException {
     }
 
     public CapturedSupplier<EntityItem> getCapturedItemsSupplier() throws IllegalStateException {
+        checkNotReleased();
         if (this.capturedItemsSupplier == null) {
             throw TrackingUtil.throwWithContext("Intended to capture dropped item entities!", this).get();
         }
@@ -285,6 +297,7 @@ public List<BlockSnapshot> getCapturedBlocks() throws IllegalStateException {
     }
 
     public CapturedSupplier<BlockSnapshot> getCapturedBlockSupplier() throws IllegalStateException {
+        checkNotReleased();
         if (this.blocksSupplier == null) {
             throw TrackingUtil.throwWithContext("Expected to be capturing blocks, but we're not capturing them!", this).get();
         }
@@ -299,6 +312,7 @@ public Multimap<BlockPos, ItemDropData> getCapturedBlockDrops() throws IllegalSt
     }
 
     public CapturedMultiMapSupplier<BlockPos, ItemDropData> getBlockDropSupplier() throws IllegalStateException {
+        checkNotReleased();
         if (this.blockItemDropsSupplier == null) {
             throw TrackingUtil.throwWithContext("Expected to be capturing block drops!", this).get();
         }
@@ -306,6 +320,7 @@ public CapturedMultiMapSupplier<BlockPos, ItemDropData> getBlockDropSupplier() t
     }
 
     public CapturedMultiMapSupplier<BlockPos, EntityItem> getBlockItemDropSupplier() throws IllegalStateException {
+        checkNotReleased();
         if (this.blockItemEntityDropsSupplier == null) {
             throw TrackingUtil.throwWithContext("Intended to track block item drops!", this).get();
         }
@@ -313,6 +328,7 @@ public CapturedMultiMapSupplier<BlockPos, EntityItem> getBlockItemDropSupplier()
     }
 
     public CapturedMultiMapSupplier<UUID, ItemDropData> getCapturedEntityDropSupplier() throws IllegalStateException {
+        checkNotReleased();
         if (this.entityItemDropsSupplier == null) {
             throw TrackingUtil.throwWithContext("Intended to capture entity drops!", this).get();
         }
@@ -320,6 +336,7 @@ public CapturedMultiMapSupplier<UUID, ItemDropData> getCapturedEntityDropSupplie
     }
 
     public CapturedMultiMapSupplier<UUID, EntityItem> getCapturedEntityItemDropSupplier() throws IllegalStateException {
+        checkNotReleased();
         if (this.entityItemEntityDropsSupplier == null) {
             throw TrackingUtil.throwWithContext("Intended to capture entity drops!", this).get();
         }
@@ -327,6 +344,7 @@ public CapturedMultiMapSupplier<UUID, EntityItem> getCapturedEntityItemDropSuppl
     }
 
     public CapturedSupplier<ItemDropData> getCapturedItemStackSupplier() throws IllegalStateException {
+        checkNotReleased();
         if (this.capturedItemStackSupplier == null) {
             throw TrackingUtil.throwWithContext("Expected to be capturing ItemStack drops from entities!", this).get();
         }
@@ -334,6 +352,7 @@ public CapturedSupplier<ItemDropData> getCapturedItemStackSupplier() throws Ille
     }
 
     public CapturedMultiMapSupplier<BlockPos, net.minecraft.entity.Entity> getBlockEntitySpawnSupplier() throws IllegalStateException {
+        checkNotReleased();
         if (this.blockEntitySpawnSupplier == null) {
             throw TrackingUtil.throwWithContext("Intended to track block entity spawns!", this).get();
         }
@@ -341,6 +360,7 @@ public CapturedMultiMapSupplier<BlockPos, net.minecraft.entity.Entity> getBlockE
     }
 
     public CaptureBlockPos getCaptureBlockPos() throws IllegalStateException {
+        checkNotReleased();
         if (this.captureBlockPos == null) {
             throw TrackingUtil.throwWithContext("Intended to capture a block position!", this).get();
         }
@@ -396,7 +416,65 @@ public P markEmpty() {
 
     @Override
     public void close() { // Should never throw an exception
+        checkNotReleased();
         PhaseTracker.getInstance().completePhase(this.state);
+        if (this.pooled) {
+            this.pooled = false;
+            this.pool.release(this);
+        }
+    }
+
+    /**
+     * Resets this context to the state it was created in by its
+     * {@link PhaseContextPool}'s factory so that it can be handed out
+     * again. The capture suppliers are kept and only emptied.
+     *
+     * <p>Subclasses with fields of their own must clear them here.</p>
+     */
+    protected void reset() {
+        this.isCompleted = false;
+        this.source = null;
+        this.owner = null;
+        this.notifier = null;
+        this.processImmediately = false;
+        if (this.blocksSupplier != null) {
+            this.blocksSupplier.reset();
+        }
+        if (this.blockItemDropsSupplier != null) {
+            this.blockItemDropsSupplier.reset();
+        }
+        if (this.blockItemEntityDropsSupplier != null) {
+            this.blockItemEntityDropsSupplier.reset();
+        }
+        if (this.capturedItemsSupplier != null) {
+            this.capturedItemsSupplier.reset();
+        }
+        if (this.capturedEntitiesSupplier != null) {
+            this.capturedEntitiesSupplier.reset();
+        }
+        if (this.capturedItemStackSupplier != null) {
+            this.capturedItemStackSupplier.reset();
+        }
+        if (this.entityItemDropsSupplier != null) {
+            this.entityItemDropsSupplier.reset();
+        }
+        if (this.entityItemEntityDropsSupplier != null) {
+            this.entityItemEntityDropsSupplier.reset();
+        }
+        if (this.blockEntitySpawnSupplier != null) {
+            this.blockEntitySpawnSupplier.reset();
+        }
+        if (this.captureBlockPos != null) {
+            this.captureBlockPos.setPos(null);
+            this.captureBlockPos.setWorld((IMixinWorldServer) null);
+        }
+    }
+
+    private void checkNotReleased() {
+        if (PhaseContextPool.DEBUG && this.pool != null && !this.pooled) {
+            throw new IllegalStateException("Attempted to use a PhaseContext after it was closed and released to its pool: "
+                + this.getClass().getName(), this.releaseTrace);
+        }
     }
 
 
@@ -441,6 +519,11 @@ static final class CapturedBlocksSupplier extends CapturedSupplier<BlockSnapshot
 
         CapturedBlocksSupplier() {
         }
+
+        @Override
+        List<BlockSnapshot> createList() {
+            return new CapturedBlockBuffer();
+        }
     }
 
     static final class CapturedEntitiesSupplier extends CapturedSupplier<Entity> {
@@ -0,0 +1,106 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event.tracking;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.function.Supplier;
+
+/**
+ * A small free list of {@link PhaseContext}s for a single {@link IPhaseState}.
+ * States that are entered for every ticking entity, tile entity, block or
+ * packet hand out contexts from here instead of allocating a new context
+ * (and its capture suppliers) every time. A context is returned to its pool
+ * when it is {@link PhaseContext#close() closed}, after the phase has been
+ * completed and unwound.
+ *
+ * <p>Contexts are only pooled on the main server thread, anything else gets a
+ * plain, unpooled context from the factory. The pool is bounded by the depth
+ * a state can be re-entered with, any context returned while the pool is full
+ * is simply left to the garbage collector.</p>
+ *
+ * <p>With {@code cause-tracker.phase-context-pool-debug} enabled, released
+ * contexts are never handed out again and any later use of them throws,
+ * along with the trace of where they were closed.</p>
+ *
+ * @param <C> The type of phase context
+ */
+public final class PhaseContextPool<C extends PhaseContext<C>> {
+
+    static final boolean ENABLED = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().poolPhaseContexts();
+    static final boolean DEBUG = SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().debugPhaseContextPool();
+
+    private static final int MAX_POOLED = 8;
+
+    private final Supplier<? extends C> factory;
+    private final PhaseContext<?>[] free = new PhaseContext<?>[MAX_POOLED];
+    private int size;
+
+    /**
+     * Creates a new pool. The factory is expected to return a fully set up
+     * context, including any captures the state requires, as pooled contexts
+     * keep their capture suppliers across uses.
+     *
+     * @param factory The factory creating new contexts
+     */
+    public PhaseContextPool(Supplier<? extends C> factory) {
+        this.factory = factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    public C acquire() {
+        if (!ENABLED || !isMainThread()) {
+            return this.factory.get();
+        }
+        if (this.size > 0) {
+            final PhaseContext<?> context = this.free[--this.size];
+            this.free[this.size] = null;
+            context.pooled = true;
+            return (C) context;
+        }
+        final C context = this.factory.get();
+        context.pool = this;
+        context.pooled = true;
+        return context;
+    }
+
+    void release(PhaseContext<?> context) {
+        context.reset();
+        if (DEBUG) {
+            // Never recycle in debug mode, stale references would otherwise
+            // silently alias a context that is live again.
+            context.releaseTrace = new Exception("PhaseContext closed here");
+            return;
+        }
+        if (this.size < MAX_POOLED && isMainThread()) {
+            this.free[this.size++] = context;
+        }
+    }
+
+    private static boolean isMainThread() {
+        return Sponge.isServerAvailable() && Sponge.getServer().isMainThread();
+    }
+}
@@ -28,6 +28,7 @@
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
 
+import co.aikar.timings.SpongeTimings;
 import net.minecraft.block.Block;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.crash.CrashReport;
@@ -71,7 +72,6 @@
 import java.io.PrintStream;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.BiConsumer;
 
 import javax.annotation.Nullable;
@@ -84,19 +84,16 @@
 @SuppressWarnings("unchecked")
 public final class PhaseTracker {
 
-    private static final CopyOnWriteArrayList<net.minecraft.entity.Entity> ASYNC_CAPTURED_ENTITIES = new CopyOnWriteArrayList<>();
+    public static final AsyncEntitySpawnQueue ASYNC_CAPTURED_ENTITIES = new AsyncEntitySpawnQueue(
+        SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().getAsyncSpawnQueueCapacity(),
+        SpongeImpl.getGlobalConfig().getConfig().getCauseTracker().getAsyncSpawnsPerTick());
 
     @SuppressWarnings("unused")
     public static final Task ASYNC_TO_SYNC_SPAWNER = Task.builder()
         .name("Sponge Async To Sync Entity Spawn Task")
         .intervalTicks(1)
-        .execute(() -> {
-            if (ASYNC_CAPTURED_ENTITIES.isEmpty()) {
-                return;
-            }
-
-            final List<net.minecraft.entity.Entity> entities = new ArrayList<>(ASYNC_CAPTURED_ENTITIES);
-            ASYNC_CAPTURED_ENTITIES.removeAll(entities);
+        .execute(() -> ASYNC_CAPTURED_ENTITIES.drain(entities -> {
+            SpongeTimings.asyncEntitySpawnTimer.startTiming();
             try (final CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
                 // We are forcing the spawn, as we can't throw the proper event at the proper time, so
                 // we'll just mark it as "forced".
@@ -105,9 +102,10 @@ public final class PhaseTracker {
                     // At this point, we don't care what the causes are...
                     PhaseTracker.getInstance().spawnEntityWithCause((World) entity.getEntityWorld(), (Entity) entity);
                 }
+            } finally {
+                SpongeTimings.asyncEntitySpawnTimer.stopTiming();
             }
-
-        })
+        }))
         .submit(SpongeImpl.getPlugin());
 
     static final BiConsumer<PrettyPrinter, PhaseContext<?>> CONTEXT_PRINTER = (printer, context) ->
@@ -140,6 +138,7 @@ public final class PhaseTracker {
     private boolean hasPrintedEmptyOnce = false;
     private boolean hasPrintedAboutRunnawayPhases = false;
     private boolean hasPrintedAsyncEntities = false;
+    private volatile boolean hasPrintedAsyncSpawnOverflow = false;
     private List<Tuple<IPhaseState<?>, IPhaseState<?>>> completedIncorrectStates = new ArrayList<>();
 
     private PhaseTracker() {
@@ -799,7 +798,28 @@ public static boolean validateEntitySpawn(IMixinWorldServer mixinWorldServer, En
             PhaseTracker.getInstance().hasPrintedAsyncEntities = true;
             return false;
         }
-        ASYNC_CAPTURED_ENTITIES.add((net.minecraft.entity.Entity) entity);
+        if (!ASYNC_CAPTURED_ENTITIES.offer((net.minecraft.entity.Entity) entity)) {
+            if (!PhaseTracker.getInstance().hasPrintedAsyncSpawnOverflow) {
+                new PrettyPrinter(60)
+                    .add("Async Entity Spawn Queue Full").centre().hr()
+                    .add("An entity was spawned off the \"main\" server thread while %d", ASYNC_CAPTURED_ENTITIES.getCapacity())
+                    .add("entities were already waiting to be spawned on the main server")
+                    .add("thread. The entity is ignored, as are any further entities until")
+                    .add("the queue drains. The capacity and the amount of entities spawned")
+                    .add("per tick can be changed in the Sponge configuration file.")
+                    .add()
+                    .add("Details of the spawn:")
+                    .add("%s : %s", "Entity", entity)
+                    .add("Stacktrace")
+                    .add(new Exception("Async entity spawn attempt"))
+                    .trace(SpongeImpl.getLogger(), Level.WARN);
+                PhaseTracker.getInstance().hasPrintedAsyncSpawnOverflow = true;
+            }
+            return false;
+        }
+        if (PhaseTracker.getInstance().hasPrintedAsyncSpawnOverflow) {
+            PhaseTracker.getInstance().hasPrintedAsyncSpawnOverflow = false;
+        }
         // At this point we can print an exception about it, if we are told to.
         // Print a pretty warning about not capturing an async spawned entity, but don't care about spawning.
         if (!PhaseTracker.getInstance().isVerbose) {
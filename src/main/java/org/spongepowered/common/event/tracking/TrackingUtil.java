@@ -49,6 +49,7 @@
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.BlockState;
+import org.spongepowered.api.block.BlockType;
 import org.spongepowered.api.block.tileentity.TileEntity;
 import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.entity.Entity;
@@ -68,8 +69,10 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.ListenerChecker;
 import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.tracking.phase.block.BlockPhase;
 import org.spongepowered.common.event.tracking.phase.general.GeneralPhase;
@@ -88,6 +91,7 @@
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.BlockChange;
+import org.spongepowered.common.world.ChunkTickCosts;
 import org.spongepowered.common.world.SpongeProxyBlockAccess;
 
 import java.util.ArrayList;
@@ -101,6 +105,8 @@
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import javax.annotation.Nullable;
+
 /**
  * A simple utility for aiding in tracking, either with resolving notifiers
  * and owners, or proxying out the logic for ticking a block, entity, etc.
@@ -128,7 +134,8 @@ public final class TrackingUtil {
         final BlockPos blockPos = ((IMixinLocation) (Object) originalLocation).getBlockPos();
         final IBlockState newState = worldServer.getBlockState(blockPos);
         final IBlockState newActualState = newState.getActualState(worldServer, blockPos);
-        final BlockSnapshot newSnapshot = ((IMixinWorldServer) worldServer).createSpongeBlockSnapshot(newState, newActualState, blockPos, 0);
+        // The block is staying as it is, so its tile is only written should anything look at it
+        final BlockSnapshot newSnapshot = ((IMixinWorldServer) worldServer).createSpongeBlockSnapshot(newState, newActualState, blockPos, 0, true);
         return new Transaction<>(blockSnapshot, newSnapshot);
     };
 
@@ -140,6 +147,8 @@ public static void tickEntity(net.minecraft.entity.Entity entityIn) {
             return;
         }
 
+        final long start = ChunkTickCosts.isEnabled() ? System.nanoTime() : 0L;
+        int captured = 0;
         try (final StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame();
              final EntityTickContext context = TickPhase.Tick.ENTITY.createPhaseContext()
                     .source(entityIn);
@@ -158,6 +167,10 @@ public static void tickEntity(net.minecraft.entity.Entity entityIn) {
                     });
             context.buildAndSwitch();
             entityIn.onUpdate();
+            captured = context.getCapturedBlocksOrEmptyList().size();
+        }
+        if (start != 0L) {
+            recordEntityCost(entityIn, start, captured);
         }
     }
 
@@ -171,6 +184,8 @@ public static void tickRidingEntity(net.minecraft.entity.Entity entity) {
 
         final Optional<User> notifierUser = mixinEntity.getNotifierUser();
         final Optional<User> creatorUser = mixinEntity.getCreatorUser();
+        final long start = ChunkTickCosts.isEnabled() ? System.nanoTime() : 0L;
+        int captured = 0;
         try (final StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame();
              final EntityTickContext context = TickPhase.Tick.ENTITY.createPhaseContext()
                     .source(entity)
@@ -185,9 +200,18 @@ public static void tickRidingEntity(net.minecraft.entity.Entity entity) {
             creatorUser
                     .ifPresent(notifier -> frame.addContext(EventContextKeys.OWNER, notifier));
             entity.updateRidden();
+            captured = context.getCapturedBlocksOrEmptyList().size();
+        }
+        if (start != 0L) {
+            recordEntityCost(entity, start, captured);
         }
     }
 
+    private static void recordEntityCost(net.minecraft.entity.Entity entity, long start, int captured) {
+        ChunkTickCosts.record(((IMixinWorldServer) entity.world).getDimensionId(), entity.chunkCoordX, entity.chunkCoordZ,
+                ChunkTickCosts.Kind.ENTITY, ((Entity) entity).getType().getId(), System.nanoTime() - start, captured);
+    }
+
     @SuppressWarnings({"unused", "try"})
     public static void tickTileEntity(IMixinWorldServer mixinWorldServer, ITickable tile) {
         checkArgument(tile instanceof TileEntity, "ITickable %s is not a TileEntity!", tile);
@@ -199,6 +223,8 @@ public static void tickTileEntity(IMixinWorldServer mixinWorldServer, ITickable
         if (!mixinTileEntity.shouldTick()) {
             return;
         }
+        final long start = ChunkTickCosts.isEnabled() ? System.nanoTime() : 0L;
+        int captured = 0;
         try (final StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame();
              final PhaseContext<?> phaseContext = TickPhase.Tick.TILE_ENTITY.createPhaseContext()
                  .source(tile)) {
@@ -230,13 +256,20 @@ public static void tickTileEntity(IMixinWorldServer mixinWorldServer, ITickable
             try (Timing timing = mixinTileEntity.getTimingsHandler().startTiming()) {
                 tile.update();
             }
+            captured = phaseContext.getCapturedBlocksOrEmptyList().size();
         } catch (Exception e) {
             PhaseTracker.getInstance().printExceptionFromPhase(e);
         }
+        if (start != 0L) {
+            ChunkTickCosts.record(mixinWorldServer.getDimensionId(), pos.getX() >> 4, pos.getZ() >> 4, ChunkTickCosts.Kind.TILE_ENTITY,
+                    ((TileEntity) tile).getType().getId(), System.nanoTime() - start, captured);
+        }
     }
 
     public static void updateTickBlock(IMixinWorldServer mixinWorld, Block block, BlockPos pos, IBlockState state, Random random) {
         final WorldServer minecraftWorld = mixinWorld.asMinecraftWorld();
+        final long start = ChunkTickCosts.isEnabled() ? System.nanoTime() : 0L;
+        int captured = 0;
         try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             Sponge.getCauseStackManager().pushCause(minecraftWorld);
             if (ShouldFire.TICK_BLOCK_EVENT) {
@@ -268,15 +301,21 @@ public static void updateTickBlock(IMixinWorldServer mixinWorld, Block block, Bl
 
             try (PhaseContext<?> context = phaseContext.buildAndSwitch()) {
                 block.updateTick(minecraftWorld, pos, state, random);
+                captured = context.getCapturedBlocksOrEmptyList().size();
             } catch (Exception | NoClassDefFoundError e) {
                 phaseTracker.printExceptionFromPhase(e);
             }
         }
+        if (start != 0L) {
+            recordBlockCost(mixinWorld, block, pos, start, captured);
+        }
     }
 
     public static void randomTickBlock(PhaseTracker phaseTracker, IMixinWorldServer mixinWorld, Block block,
                                        BlockPos pos, IBlockState state, Random random) {
         final WorldServer minecraftWorld = mixinWorld.asMinecraftWorld();
+        final long start = ChunkTickCosts.isEnabled() ? System.nanoTime() : 0L;
+        int captured = 0;
         try (StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             Sponge.getCauseStackManager().pushCause(minecraftWorld);
             if (ShouldFire.TICK_BLOCK_EVENT) {
@@ -306,8 +345,17 @@ public static void randomTickBlock(PhaseTracker phaseTracker, IMixinWorldServer
             // Now actually switch to the new phase
             try (PhaseContext<?> context = phaseContext.buildAndSwitch()) {
                 block.randomTick(minecraftWorld, pos, state, random);
+                captured = context.getCapturedBlocksOrEmptyList().size();
             }
         }
+        if (start != 0L) {
+            recordBlockCost(mixinWorld, block, pos, start, captured);
+        }
+    }
+
+    private static void recordBlockCost(IMixinWorldServer mixinWorld, Block block, BlockPos pos, long start, int captured) {
+        ChunkTickCosts.record(mixinWorld.getDimensionId(), pos.getX() >> 4, pos.getZ() >> 4, ChunkTickCosts.Kind.BLOCK,
+                ((BlockType) block).getId(), System.nanoTime() - start, captured);
     }
 
     private static void checkAndAssignBlockTickConfig(Block block, WorldServer minecraftWorld, PhaseContext<?> phaseContext) {
@@ -357,19 +405,41 @@ static boolean trackBlockChange(PhaseTracker phaseTracker, IMixinWorldServer mix
         final SpongeBlockSnapshot originalBlockSnapshot;
         final WorldServer minecraftWorld = mixinWorld.asMinecraftWorld();
         if (((IPhaseState) phaseState).shouldCaptureBlockChangeOrSkip(phaseContext, pos)) {
-            //final IBlockState actualState = currentState.getActualState(minecraftWorld, pos);
-            originalBlockSnapshot = mixinWorld.createSpongeBlockSnapshot(currentState, currentState, pos, flags);
             final List<BlockSnapshot> capturedSnapshots = phaseContext.getCapturedBlocks();
-            final Block newBlock = newState.getBlock();
-
-            associateBlockChangeWithSnapshot(phaseState, newBlock, currentState, originalBlockSnapshot, capturedSnapshots);
+            final BlockChange blockChange = getBlockChange(phaseState, newState.getBlock(), currentState);
             final IMixinChunk mixinChunk = (IMixinChunk) chunk;
-            final IBlockState originalBlockState = mixinChunk.setBlockState(pos, newState, currentState, originalBlockSnapshot);
-            if (originalBlockState == null) {
-                capturedSnapshots.remove(originalBlockSnapshot);
-                return false;
+            if (capturedSnapshots instanceof CapturedBlockBuffer && !hasChangeBlockListeners()
+                && !SpongeImplHooks.hasBlockTileEntity(currentState.getBlock(), currentState)) {
+                // Nothing can cancel this change, so only remember what is needed to process it. The snapshot
+                // is created lazily should anything still ask for it. Tile entities are snapshotted right away
+                // since their data is gone once the block is changed.
+                final CapturedBlockBuffer buffer = (CapturedBlockBuffer) capturedSnapshots;
+                if (blockChange != null) {
+                    buffer.capture(minecraftWorld, pos, currentState, flags, blockChange);
+                }
+                final IBlockState originalBlockState = mixinChunk.setBlockState(pos, newState, currentState, BlockSnapshot.NONE);
+                if (originalBlockState == null) {
+                    if (blockChange != null) {
+                        buffer.removeLast();
+                    }
+                    return false;
+                }
+                ((IPhaseState) phaseState).postTrackBlock(BlockSnapshot.NONE, phaseTracker, phaseContext);
+            } else {
+                //final IBlockState actualState = currentState.getActualState(minecraftWorld, pos);
+                // The original is what a cancelled change restores, so the tile is written out right away
+                originalBlockSnapshot = mixinWorld.createSpongeBlockSnapshot(currentState, currentState, pos, flags);
+                originalBlockSnapshot.blockChange = blockChange;
+                if (blockChange != null) {
+                    capturedSnapshots.add(originalBlockSnapshot);
+                }
+                final IBlockState originalBlockState = mixinChunk.setBlockState(pos, newState, currentState, originalBlockSnapshot);
+                if (originalBlockState == null) {
+                    capturedSnapshots.remove(originalBlockSnapshot);
+                    return false;
+                }
+                ((IPhaseState) phaseState).postTrackBlock(originalBlockSnapshot, phaseTracker, phaseContext);
             }
-            ((IPhaseState) phaseState).postTrackBlock(originalBlockSnapshot, phaseTracker, phaseContext);
         } else {
             originalBlockSnapshot = (SpongeBlockSnapshot) BlockSnapshot.NONE;
             final IMixinChunk mixinChunk = (IMixinChunk) chunk;
@@ -389,25 +459,40 @@ static boolean trackBlockChange(PhaseTracker phaseTracker, IMixinWorldServer mix
         return true;
     }
 
-    private static void associateBlockChangeWithSnapshot(IPhaseState<?> phaseState, Block newBlock, IBlockState currentState, SpongeBlockSnapshot snapshot, List<BlockSnapshot> capturedSnapshots) {
+    @Nullable
+    private static BlockChange getBlockChange(IPhaseState<?> phaseState, Block newBlock, IBlockState currentState) {
         Block originalBlock = currentState.getBlock();
         if (phaseState == BlockPhase.State.BLOCK_DECAY) {
-            if (newBlock == Blocks.AIR) {
-                snapshot.blockChange = BlockChange.DECAY;
-                capturedSnapshots.add(snapshot);
-            }
+            return newBlock == Blocks.AIR ? BlockChange.DECAY : null;
         } else if (newBlock == Blocks.AIR) {
-            snapshot.blockChange = BlockChange.BREAK;
-            capturedSnapshots.add(snapshot);
+            return BlockChange.BREAK;
         } else if (newBlock != originalBlock && !forceModify(originalBlock, newBlock)) {
-            snapshot.blockChange = BlockChange.PLACE;
-            capturedSnapshots.add(snapshot);
+            return BlockChange.PLACE;
         } else {
-            snapshot.blockChange = BlockChange.MODIFY;
-            capturedSnapshots.add(snapshot);
+            return BlockChange.MODIFY;
         }
     }
 
+    /**
+     * Gets whether any {@link ChangeBlockEvent} would be thrown for captured
+     * block changes. If none would be, nothing can cancel or invalidate a
+     * captured change and no snapshots or transactions need to be created
+     * for them.
+     *
+     * <p>Listeners of {@link ChangeBlockEvent} itself or of any of its
+     * supertypes set these flags as well, since the {@link ListenerChecker}
+     * sets the flags of every subtype of a listened event.</p>
+     *
+     * @return True if there are listeners for any change block event
+     */
+    static boolean hasChangeBlockListeners() {
+        return ShouldFire.CHANGE_BLOCK_EVENT_BREAK
+            || ShouldFire.CHANGE_BLOCK_EVENT_DECAY
+            || ShouldFire.CHANGE_BLOCK_EVENT_MODIFY
+            || ShouldFire.CHANGE_BLOCK_EVENT_PLACE
+            || ShouldFire.CHANGE_BLOCK_EVENT_POST;
+    }
+
     private static boolean forceModify(Block originalBlock, Block newBlock) {
         if (originalBlock instanceof BlockRedstoneRepeater && newBlock instanceof BlockRedstoneRepeater) {
             return true;
@@ -473,6 +558,9 @@ public static boolean processBlockCaptures(List<BlockSnapshot> snapshots, IPhase
         if (snapshots.isEmpty()) {
             return false;
         }
+        if (snapshots instanceof CapturedBlockBuffer && !hasChangeBlockListeners()) {
+            return processBlockCapturesWithoutEvents((CapturedBlockBuffer) snapshots, state, context);
+        }
         ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays = new ImmutableList[EVENT_COUNT];
         ImmutableList.Builder<Transaction<BlockSnapshot>>[] transactionBuilders = new ImmutableList.Builder[EVENT_COUNT];
         for (int i = 0; i < EVENT_COUNT; i++) {
@@ -606,6 +694,98 @@ public static void iterateChangeBlockEvents(ImmutableList<Transaction<BlockSnaps
         }
     }
 
+    /**
+     * Processes captured block changes when no {@link ChangeBlockEvent} would
+     * be thrown for them. Nothing can invalidate the changes, so they are
+     * applied straight from the {@link CapturedBlockBuffer} without creating
+     * any snapshots or transactions, except for the snapshots needed as the
+     * cause of captured drops.
+     *
+     * @param captured The captured block changes
+     * @param phaseState The phase state that is being processed
+     * @param phaseContext The phase context
+     * @return Always true, as no changes can be cancelled
+     */
+    @SuppressWarnings("rawtypes")
+    private static boolean processBlockCapturesWithoutEvents(CapturedBlockBuffer captured, IPhaseState<?> phaseState,
+        PhaseContext<?> phaseContext) {
+        final CapturedBlockBuffer changes = captured.copy();
+        // Clear captured changes before processing them, the same as with transactions
+        phaseContext.getCapturedBlocksOrEmptyList().clear();
+
+        final int size = changes.size();
+        final IBlockState[] newStates = new IBlockState[size];
+        for (int i = 0; i < size; i++) {
+            newStates[i] = changes.getWorld(i).getBlockState(changes.getPos(i));
+        }
+
+        try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
+            if (phaseContext.getNotifier().isPresent()) {
+                Sponge.getCauseStackManager().addContext(EventContextKeys.NOTIFIER, phaseContext.getNotifier().get());
+            }
+            if (phaseContext.getOwner().isPresent()) {
+                Sponge.getCauseStackManager().addContext(EventContextKeys.OWNER, phaseContext.getOwner().get());
+            }
+            try {
+                phaseState.associateAdditionalCauses(phaseState, phaseContext);
+            } catch (Exception e) {
+                // See processBlockCaptures
+            }
+            final CapturedMultiMapSupplier<BlockPos, ItemDropData> capturedBlockDrops = phaseContext.getBlockDropSupplier();
+            final CapturedMultiMapSupplier<BlockPos, EntityItem> capturedBlockItemEntityDrops = phaseContext.getBlockItemDropSupplier();
+            final CapturedMultiMapSupplier<BlockPos, net.minecraft.entity.Entity> capturedBlockEntitySpawns = phaseContext.getBlockEntitySpawnSupplier();
+            final PhaseTracker phaseTracker = PhaseTracker.getInstance();
+            for (int i = 0; i < size; i++) {
+                final WorldServer worldServer = changes.getWorld(i);
+                final IMixinWorldServer mixinWorldServer = (IMixinWorldServer) worldServer;
+                final BlockPos pos = changes.getPos(i);
+                final IBlockState originalState = changes.getOriginalState(i);
+                final IBlockState newState = newStates[i];
+                final BlockChange blockChange = changes.getBlockChange(i);
+                final int updateFlag = changes.getUpdateFlag(i);
+
+                if (capturedBlockDrops.containsKey(pos) || capturedBlockItemEntityDrops.containsKey(pos) || capturedBlockEntitySpawns.containsKey(pos)) {
+                    // The drops are caused by the new block, which is the only time a snapshot is needed here
+                    final SpongeBlockSnapshot newBlockSnapshot =
+                        mixinWorldServer.createSpongeBlockSnapshot(newState, newState.getActualState(worldServer, pos), pos, 0, true);
+                    capturedBlockDrops.acceptAndRemoveIfPresent(pos, items -> spawnItemDataForBlockDrops(items, newBlockSnapshot,
+                        phaseContext, phaseState));
+                    capturedBlockItemEntityDrops.acceptAndRemoveIfPresent(pos, items -> spawnItemEntitiesForBlockDrops(items, newBlockSnapshot,
+                        phaseContext, phaseState));
+                    capturedBlockEntitySpawns.acceptAndRemoveIfPresent(pos, items -> spawnEntitiesForBlock(items, newBlockSnapshot,
+                        phaseContext, phaseState));
+                }
+
+                SpongeHooks.logBlockAction(worldServer, blockChange, originalState, newState);
+                if (originalState.getBlock() != newState.getBlock()) {
+                    newState.getBlock().onBlockAdded(worldServer, pos, newState);
+                    final PhaseData peek = phaseTracker.getCurrentPhaseData();
+                    if (peek.state == GeneralPhase.Post.UNWINDING) {
+                        ((IPhaseState) peek.state).unwind(peek.context);
+                    }
+                }
+
+                ((IPhaseState) phaseState).handleBlockChangeWithUser(blockChange, worldServer, pos, originalState, newState, phaseContext);
+
+                if (((updateFlag & 2) != 0)) { // Always try to notify clients of the change.
+                    worldServer.notifyBlockUpdate(pos, originalState, newState, updateFlag);
+                }
+
+                if ((updateFlag & 1) != 0) { // Notify neighbors only if the change flag allowed it.
+                    mixinWorldServer.spongeNotifyNeighborsPostBlockChange(pos, originalState, newState, updateFlag);
+                } else if ((updateFlag & 16) == 0) {
+                    worldServer.updateObservingBlocksAt(pos, newState.getBlock());
+                }
+
+                final PhaseData peek = phaseTracker.getCurrentPhaseData();
+                if (peek.state == GeneralPhase.Post.UNWINDING) {
+                    ((IPhaseState) peek.state).unwind(peek.context);
+                }
+            }
+        }
+        return true;
+    }
+
     @SuppressWarnings("rawtypes")
     public static boolean performBlockAdditions(List<Transaction<BlockSnapshot>> transactions, IPhaseState<?> phaseState,
                                                 PhaseContext<?> phaseContext, boolean noCancelledTransactions) {
@@ -645,10 +825,10 @@ public static boolean performBlockAdditions(List<Transaction<BlockSnapshot>> tra
             capturedBlockEntitySpawns.acceptAndRemoveIfPresent(pos, items -> spawnEntitiesForBlock(items, newBlockSnapshot,
                 phaseContext, phaseState));
 
-            SpongeHooks.logBlockAction(mixinWorldServer.asMinecraftWorld(), oldBlockSnapshot.blockChange, transaction);
             final BlockChangeFlag changeFlag = oldBlockSnapshot.getChangeFlag();
             final IBlockState originalState = (IBlockState) oldBlockSnapshot.getState();
             final IBlockState newState = (IBlockState) newBlockSnapshot.getState();
+            SpongeHooks.logBlockAction(mixinWorldServer.asMinecraftWorld(), oldBlockSnapshot.blockChange, originalState, newState);
             // We call onBlockAdded here for both TE blocks (BlockContainer's) and other blocks.
             // MixinChunk#setBlockState will only call onBlockAdded for BlockContainers when it's passed a null newBlockSnapshot,
             // which only happens when capturing is not being done.
@@ -662,7 +842,8 @@ public static boolean performBlockAdditions(List<Transaction<BlockSnapshot>> tra
             }
 
             proxyBlockAccess.proceed();
-            ((IPhaseState) phaseState).handleBlockChangeWithUser(oldBlockSnapshot.blockChange, transaction, phaseContext);
+            ((IPhaseState) phaseState).handleBlockChangeWithUser(oldBlockSnapshot.blockChange, mixinWorldServer.asMinecraftWorld(), pos,
+                originalState, newState, phaseContext);
 
             final int minecraftChangeFlag = oldBlockSnapshot.getUpdateFlag();
             if (((minecraftChangeFlag & 2) != 0)) { // Always try to notify clients of the change.
@@ -689,29 +870,37 @@ public static void spawnItemEntitiesForBlockDrops(Collection<EntityItem> entityI
         final List<Entity> itemDrops = entityItems.stream()
                 .map(EntityUtil::fromNative)
                 .collect(Collectors.toList());
+        final Optional<User> owner = phaseContext.getOwner();
+        final Optional<User> notifier = phaseContext.getNotifier();
+        final User entityCreator = notifier.orElseGet(() -> owner.orElse(null));
+        if (!ShouldFire.DROP_ITEM_EVENT_DESTRUCT) {
+            forceSpawnEntities(itemDrops, entityCreator);
+            return;
+        }
         try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             Sponge.getCauseStackManager().pushCause(newBlockSnapshot);
             Sponge.getCauseStackManager().addContext(EventContextKeys.SPAWN_TYPE, InternalSpawnTypes.DROPPED_ITEM);
-            final Optional<User> owner = phaseContext.getOwner();
-            final Optional<User> notifier = phaseContext.getNotifier();
             if (notifier.isPresent()) {
                 Sponge.getCauseStackManager().addContext(EventContextKeys.NOTIFIER, notifier.get());
             }
-            final User entityCreator = notifier.orElseGet(() -> owner.orElse(null));
             final DropItemEvent.Destruct destruct =
                     SpongeEventFactory.createDropItemEventDestruct(Sponge.getCauseStackManager().getCurrentCause(), itemDrops);
             SpongeImpl.postEvent(destruct);
             if (!destruct.isCancelled()) {
-                for (Entity entity : destruct.getEntities()) {
-                    if (entityCreator != null) {
-                        EntityUtil.toMixin(entity).setCreator(entityCreator.getUniqueId());
-                    }
-                    EntityUtil.getMixinWorld(entity).forceSpawnEntity(entity);
-                }
+                forceSpawnEntities(destruct.getEntities(), entityCreator);
             }
         }
     }
 
+    private static void forceSpawnEntities(Collection<Entity> entities, @Nullable User entityCreator) {
+        for (Entity entity : entities) {
+            if (entityCreator != null) {
+                EntityUtil.toMixin(entity).setCreator(entityCreator.getUniqueId());
+            }
+            EntityUtil.getMixinWorld(entity).forceSpawnEntity(entity);
+        }
+    }
+
     public static void spawnItemDataForBlockDrops(Collection<ItemDropData> itemStacks, SpongeBlockSnapshot oldBlockSnapshot,
                                                   PhaseContext<?> phaseContext, IPhaseState<?> state) {
         final Vector3i position = oldBlockSnapshot.getPosition();
@@ -719,13 +908,15 @@ public static void spawnItemDataForBlockDrops(Collection<ItemDropData> itemStack
                 .map(ItemDropData::getStack)
                 .map(ItemStackUtil::snapshotOf)
                 .collect(Collectors.toList());
-        final ImmutableList<ItemStackSnapshot> originalSnapshots = ImmutableList.copyOf(itemSnapshots);
-        Sponge.getCauseStackManager().pushCause(oldBlockSnapshot);
-        final DropItemEvent.Pre dropItemEventPre = SpongeEventFactory.createDropItemEventPre(Sponge.getCauseStackManager().getCurrentCause(), originalSnapshots, itemSnapshots);
-        Sponge.getCauseStackManager().popCause();
-        SpongeImpl.postEvent(dropItemEventPre);
-        if (dropItemEventPre.isCancelled()) {
-            itemStacks.clear();
+        if (ShouldFire.DROP_ITEM_EVENT_PRE) {
+            final ImmutableList<ItemStackSnapshot> originalSnapshots = ImmutableList.copyOf(itemSnapshots);
+            Sponge.getCauseStackManager().pushCause(oldBlockSnapshot);
+            final DropItemEvent.Pre dropItemEventPre = SpongeEventFactory.createDropItemEventPre(Sponge.getCauseStackManager().getCurrentCause(), originalSnapshots, itemSnapshots);
+            Sponge.getCauseStackManager().popCause();
+            SpongeImpl.postEvent(dropItemEventPre);
+            if (dropItemEventPre.isCancelled()) {
+                itemStacks.clear();
+            }
         }
         if (itemStacks.isEmpty()) {
             return;
@@ -748,22 +939,21 @@ public static void spawnItemDataForBlockDrops(Collection<ItemDropData> itemStack
                 })
                 .map(EntityUtil::fromNative)
                 .collect(Collectors.toList());
+        final User entityCreator = phaseContext.getNotifier().orElseGet(() -> phaseContext.getOwner().orElse(null));
+        if (!ShouldFire.DROP_ITEM_EVENT_DESTRUCT) {
+            forceSpawnEntities(itemDrops, entityCreator);
+            return;
+        }
         try (CauseStackManager.StackFrame frame = Sponge.getCauseStackManager().pushCauseFrame()) {
             Sponge.getCauseStackManager().pushCause(oldBlockSnapshot);
             Sponge.getCauseStackManager().addContext(EventContextKeys.SPAWN_TYPE, InternalSpawnTypes.DROPPED_ITEM);
             if(phaseContext.getNotifier().isPresent()) {
                 Sponge.getCauseStackManager().addContext(EventContextKeys.NOTIFIER, phaseContext.getNotifier().get());
             }
-            final User entityCreator = phaseContext.getNotifier().orElseGet(() -> phaseContext.getOwner().orElse(null));
             final DropItemEvent.Destruct destruct = SpongeEventFactory.createDropItemEventDestruct(Sponge.getCauseStackManager().getCurrentCause(), itemDrops);
             SpongeImpl.postEvent(destruct);
             if (!destruct.isCancelled()) {
-                for (Entity entity : destruct.getEntities()) {
-                    if (entityCreator != null) {
-                        EntityUtil.toMixin(entity).setCreator(entityCreator.getUniqueId());
-                    }
-                    EntityUtil.getMixinWorld(entity).forceSpawnEntity(entity);
-                }
+                forceSpawnEntities(destruct.getEntities(), entityCreator);
             }
         }
     }
@@ -777,15 +967,14 @@ public static void spawnEntitiesForBlock(Collection<net.minecraft.entity.Entity>
         final Optional<User> owner = phaseContext.getOwner();
         final Optional<User> notifier = phaseContext.getNotifier();
         final User entityCreator = notifier.orElseGet(() -> owner.orElse(null));
+        if (!ShouldFire.SPAWN_ENTITY_EVENT) {
+            forceSpawnEntities(entitiesSpawned, entityCreator);
+            return;
+        }
         final SpawnEntityEvent destruct = SpongeEventFactory.createSpawnEntityEvent(Sponge.getCauseStackManager().getCurrentCause(), entitiesSpawned);
         SpongeImpl.postEvent(destruct);
         if (!destruct.isCancelled()) {
-            for (Entity entity : destruct.getEntities()) {
-                if (entityCreator != null) {
-                    EntityUtil.toMixin(entity).setCreator(entityCreator.getUniqueId());
-                }
-                EntityUtil.getMixinWorld(entity).forceSpawnEntity(entity);
-            }
+            forceSpawnEntities(destruct.getEntities(), entityCreator);
         }
     }
     public static ChangeBlockEvent.Post throwMultiEventsAndCreatePost(ImmutableList<Transaction<BlockSnapshot>>[] transactionArrays,
@@ -812,6 +1001,13 @@ public static void splitAndSpawnEntities(List<Entity> entities) {
     }
 
     public static void splitAndSpawnEntities(List<Entity> entities, Consumer<IMixinEntity> mixinEntityConsumer) {
+        if (!ShouldFire.SPAWN_ENTITY_EVENT) {
+            for (Entity entity : entities) {
+                mixinEntityConsumer.accept(EntityUtil.toMixin(entity));
+                ((IMixinWorldServer) entity.getWorld()).forceSpawnEntity(entity);
+            }
+            return;
+        }
 
         if (entities.size() > 1) {
             final HashMultimap<World, Entity> entityListMap = HashMultimap.create();
@@ -211,11 +211,11 @@ private static void performPostBlockAdditions(PhaseContext<?> postContext, List<
                         unwindingPhaseContext, unwindingState));
 
             final WorldServer worldServer = mixinWorldServer.asMinecraftWorld();
-            SpongeHooks.logBlockAction(worldServer, oldBlockSnapshot.blockChange, transaction);
             final BlockChangeFlag changeFlag = oldBlockSnapshot.getChangeFlag();
             final int updateFlag = oldBlockSnapshot.getUpdateFlag();
             final IBlockState originalState = (IBlockState) oldBlockSnapshot.getState();
             final IBlockState newState = (IBlockState) newBlockSnapshot.getState();
+            SpongeHooks.logBlockAction(worldServer, oldBlockSnapshot.blockChange, originalState, newState);
             // Containers get placed automatically
             final CapturedSupplier<BlockSnapshot> capturedBlockSupplier = postContext.getCapturedBlockSupplier();
             if (changeFlag.performBlockPhysics() && originalState.getBlock() != newState.getBlock() && !SpongeImplHooks.hasBlockTileEntity(newState.getBlock(),
@@ -233,7 +233,8 @@ private static void performPostBlockAdditions(PhaseContext<?> postContext, List<
 
             proxyBlockAccess.proceed();
 
-            ((IPhaseState) unwindingState).handleBlockChangeWithUser(oldBlockSnapshot.blockChange, transaction, unwindingPhaseContext);
+            ((IPhaseState) unwindingState).handleBlockChangeWithUser(oldBlockSnapshot.blockChange, worldServer, pos, originalState, newState,
+                unwindingPhaseContext);
 
             if (((updateFlag & 2) != 0)) {
                 // Since notifyBlockUpdate is basically to tell clients that the block position has changed,
@@ -43,6 +43,7 @@
 import org.spongepowered.api.item.inventory.transaction.SlotTransaction;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.interfaces.IMixinContainer;
 import org.spongepowered.common.item.inventory.util.ContainerUtil;
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
@@ -66,6 +67,8 @@ public class BasicInventoryPacketState extends PacketState<InventoryPacketContex
      */
     final int stateMask;
 
+    private final PhaseContextPool<InventoryPacketContext> pool = new PhaseContextPool<>(() -> new InventoryPacketContext(this));
+
     /**
      * Don't care about anything
      */
@@ -126,7 +129,7 @@ public boolean shouldCaptureEntity() {
 
     @Override
     public InventoryPacketContext createPhaseContext() {
-        return new InventoryPacketContext(this);
+        return this.pool.acquire();
     }
 
     @Override
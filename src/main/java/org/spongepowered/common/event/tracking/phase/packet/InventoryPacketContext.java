@@ -43,6 +43,12 @@ public InventoryPacketContext setHighlightedSlotId(int highlightedSlotId) {
         return this;
     }
 
+    @Override
+    protected void reset() {
+        super.reset();
+        this.highlightedSlotId = 0;
+    }
+
     @Override
     public PrettyPrinter printCustom(PrettyPrinter printer) {
         return super.printCustom(printer)
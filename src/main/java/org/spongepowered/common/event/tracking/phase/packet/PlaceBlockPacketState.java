@@ -24,7 +24,7 @@
  */
 package org.spongepowered.common.event.tracking.phase.packet;
 
-import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.network.Packet;
 import net.minecraft.network.play.client.CPacketPlayerTryUseItemOnBlock;
@@ -32,8 +32,6 @@
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.WorldServer;
 import org.spongepowered.api.Sponge;
-import org.spongepowered.api.block.BlockSnapshot;
-import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.player.Player;
 import org.spongepowered.api.event.CauseStackManager;
@@ -55,7 +53,6 @@
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.IMixinContainer;
 import org.spongepowered.common.interfaces.block.IMixinBlockEventData;
-import org.spongepowered.common.interfaces.world.IMixinLocation;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.item.inventory.util.ContainerUtil;
 import org.spongepowered.common.item.inventory.util.ItemStackUtil;
@@ -84,16 +81,14 @@ public void populateContext(EntityPlayerMP playerMP, Packet<?> packet, BasicPack
     }
 
     @Override
-    public void handleBlockChangeWithUser(@Nullable BlockChange blockChange, Transaction<BlockSnapshot> transaction,
-        BasicPacketContext context) {
+    public void handleBlockChangeWithUser(@Nullable BlockChange blockChange, WorldServer world, BlockPos pos, IBlockState originalState,
+        IBlockState newState, BasicPacketContext context) {
         Player player = Sponge.getCauseStackManager().getCurrentCause().first(Player.class).get();
-        final Location<World> location = transaction.getFinal().getLocation().get();
-        BlockPos pos = ((IMixinLocation) (Object) location).getBlockPos();
-        IMixinChunk spongeChunk = (IMixinChunk) ((WorldServer) location.getExtent()).getChunkFromBlockCoords(pos);
+        IMixinChunk spongeChunk = (IMixinChunk) world.getChunkFromBlockCoords(pos);
         if (blockChange == BlockChange.PLACE) {
-            spongeChunk.addTrackedBlockPosition((Block) transaction.getFinal().getState().getType(), pos, player, PlayerTracker.Type.OWNER);
+            spongeChunk.addTrackedBlockPosition(newState.getBlock(), pos, player, PlayerTracker.Type.OWNER);
         }
-        spongeChunk.addTrackedBlockPosition((Block) transaction.getFinal().getState().getType(), pos, player, PlayerTracker.Type.NOTIFIER);
+        spongeChunk.addTrackedBlockPosition(newState.getBlock(), pos, player, PlayerTracker.Type.NOTIFIER);
     }
 
     @Override
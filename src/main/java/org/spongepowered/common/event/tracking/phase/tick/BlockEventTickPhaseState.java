@@ -24,15 +24,13 @@
  */
 package org.spongepowered.common.event.tracking.phase.tick;
 
-import com.flowpowered.math.vector.Vector3d;
 import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.item.EntityItem;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.WorldServer;
 import org.spongepowered.api.Sponge;
-import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.tileentity.TileEntity;
-import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.CauseStackManager;
@@ -42,16 +40,14 @@
 import org.spongepowered.api.event.cause.entity.spawn.SpawnTypes;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
 import org.spongepowered.api.world.LocatableBlock;
-import org.spongepowered.api.world.Location;
-import org.spongepowered.api.world.World;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinLocation;
-import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.BlockChange;
 
 import java.util.ArrayList;
@@ -65,11 +61,13 @@ class BlockEventTickPhaseState extends TickPhaseState<BlockEventTickContext> {
     BlockEventTickPhaseState() {
     }
 
+    private final PhaseContextPool<BlockEventTickContext> pool = new PhaseContextPool<>(() -> new BlockEventTickContext()
+            .addBlockCaptures()
+            .addEntityCaptures());
+
     @Override
     public BlockEventTickContext createPhaseContext() {
-        return new BlockEventTickContext()
-                .addBlockCaptures()
-                .addEntityCaptures();
+        return this.pool.acquire();
     }
 
     @Override
@@ -117,16 +115,13 @@ public boolean spawnEntityOrCapture(BlockEventTickContext context, Entity entity
     }
 
     @Override
-    public void handleBlockChangeWithUser(@Nullable BlockChange blockChange,
-        Transaction<BlockSnapshot> snapshotTransaction, BlockEventTickContext context) {
-        final Block block = (Block) snapshotTransaction.getOriginal().getState().getType();
-        final Location<World> changedLocation = snapshotTransaction.getOriginal().getLocation().get();
-        final Vector3d changedPosition = changedLocation.getPosition();
-        final BlockPos changedBlockPos = VecHelper.toBlockPos(changedPosition);
-        final IMixinChunk changedMixinChunk = (IMixinChunk) ((WorldServer) changedLocation.getExtent()).getChunkFromBlockCoords(changedBlockPos);
-        final User user = TrackingUtil.getNotifierOrOwnerFromBlock(changedLocation);
+    public void handleBlockChangeWithUser(@Nullable BlockChange blockChange, WorldServer world, BlockPos pos, IBlockState originalState,
+        IBlockState newState, BlockEventTickContext context) {
+        final Block block = originalState.getBlock();
+        final IMixinChunk changedMixinChunk = (IMixinChunk) world.getChunkFromBlockCoords(pos);
+        final User user = TrackingUtil.getNotifierOrOwnerFromBlock(world, pos);
         if (user != null) {
-            changedMixinChunk.addTrackedBlockPosition(block, changedBlockPos, user, PlayerTracker.Type.NOTIFIER);
+            changedMixinChunk.addTrackedBlockPosition(block, pos, user, PlayerTracker.Type.NOTIFIER);
         }
     }
 
@@ -40,6 +40,7 @@
 import org.spongepowered.api.world.World;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.EntityUtil;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.PhaseContext;
 import org.spongepowered.common.event.tracking.TrackingUtil;
@@ -52,6 +53,7 @@
 class BlockTickPhaseState extends LocationBasedTickPhaseState<BlockTickContext> {
 
     private final String name;
+    private final PhaseContextPool<BlockTickContext> pool = new PhaseContextPool<>(() -> new BlockTickContext(this).addCaptures());
 
     BlockTickPhaseState(String name) {
         this.name = name;
@@ -59,8 +61,7 @@ class BlockTickPhaseState extends LocationBasedTickPhaseState<BlockTickContext>
 
     @Override
     public BlockTickContext createPhaseContext() {
-        return new BlockTickContext(this)
-                .addCaptures();
+        return this.pool.acquire();
     }
 
     @Override
@@ -164,8 +165,8 @@ public boolean spawnEntityOrCapture(BlockTickContext context, Entity entity, int
     @Override
     public void postTrackBlock(BlockSnapshot snapshot, PhaseTracker tracker, BlockTickContext context) {
         if (context.shouldProcessImmediately()) {
+            // Processing clears the captured changes, including the one being tracked
             TrackingUtil.processBlockCaptures(context.getCapturedBlocks(), this, context);
-            context.getCapturedBlockSupplier().get().remove(snapshot);
         }
 
     }
@@ -25,6 +25,7 @@
 package org.spongepowered.common.event.tracking.phase.tick;
 
 import com.flowpowered.math.vector.Vector3d;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.EntityHanging;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.IProjectile;
@@ -35,9 +36,9 @@
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.CombatEntry;
 import net.minecraft.util.math.BlockPos;
+import net.minecraft.world.WorldServer;
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockSnapshot;
-import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.entity.Transform;
 import org.spongepowered.api.entity.living.Ageable;
@@ -55,10 +56,10 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.interfaces.world.IMixinLocation;
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
-import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.BlockChange;
 
 import java.util.ArrayList;
@@ -303,19 +304,20 @@ and potentially world, which results in a dirty world usage (since the world tra
         }
     }
 
+    private final PhaseContextPool<EntityTickContext> pool = new PhaseContextPool<>(() -> new EntityTickContext().addCaptures());
+
     @Override
     public EntityTickContext createPhaseContext() {
-        return new EntityTickContext().addCaptures();
+        return this.pool.acquire();
     }
 
     @SuppressWarnings("OptionalGetWithoutIsPresent")
     @Override
-    public void handleBlockChangeWithUser(@Nullable BlockChange blockChange, Transaction<BlockSnapshot> transaction,
-        EntityTickContext context) {
+    public void handleBlockChangeWithUser(@Nullable BlockChange blockChange, WorldServer world, BlockPos pos, IBlockState originalState,
+        IBlockState newState, EntityTickContext context) {
         if (blockChange == BlockChange.BREAK) {
             final Entity tickingEntity = context.getSource(Entity.class).get();
-            final BlockPos blockPos = VecHelper.toBlockPos(transaction.getOriginal().getPosition());
-            for (EntityHanging entityHanging : EntityUtil.findHangingEntities(EntityUtil.getMinecraftWorld(tickingEntity), blockPos)) {
+            for (EntityHanging entityHanging : EntityUtil.findHangingEntities(EntityUtil.getMinecraftWorld(tickingEntity), pos)) {
                 if (entityHanging instanceof EntityItemFrame) {
                     final EntityItemFrame frame = (EntityItemFrame) entityHanging;
                     if (tickingEntity != null && !frame.isDead) {
@@ -25,10 +25,9 @@
 package org.spongepowered.common.event.tracking.phase.tick;
 
 import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.math.BlockPos;
 import net.minecraft.world.WorldServer;
-import org.spongepowered.api.block.BlockSnapshot;
-import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.world.LocatableBlock;
 import org.spongepowered.api.world.Location;
@@ -68,16 +67,14 @@ public void associateNeighborBlockNotifier(PhaseContext<?> context, @Nullable Bl
     }
 
     @Override
-    public void handleBlockChangeWithUser(@Nullable BlockChange blockChange,
-        Transaction<BlockSnapshot> snapshotTransaction, T context) {
+    public void handleBlockChangeWithUser(@Nullable BlockChange blockChange, WorldServer world, BlockPos pos, IBlockState originalState,
+        IBlockState newState, T context) {
         final Location<World> location = getLocatableBlockSourceFromContext(context).getLocation();
-        final Block block = (Block) snapshotTransaction.getOriginal().getState().getType();
-        final Location<World> changedLocation = snapshotTransaction.getOriginal().getLocation().get();
-        final BlockPos changedBlockPos = ((IMixinLocation)(Object) changedLocation).getBlockPos();
-        final IMixinChunk changedMixinChunk = (IMixinChunk) ((WorldServer) changedLocation.getExtent()).getChunkFromBlockCoords(changedBlockPos);
+        final Block block = originalState.getBlock();
+        final IMixinChunk changedMixinChunk = (IMixinChunk) world.getChunkFromBlockCoords(pos);
         final User user = context.getNotifier().orElse(TrackingUtil.getNotifierOrOwnerFromBlock(location));
         if (user != null) {
-            changedMixinChunk.addTrackedBlockPosition(block, changedBlockPos, user, PlayerTracker.Type.NOTIFIER);
+            changedMixinChunk.addTrackedBlockPosition(block, pos, user, PlayerTracker.Type.NOTIFIER);
         }
     }
 
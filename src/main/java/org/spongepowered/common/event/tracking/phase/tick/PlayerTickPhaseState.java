@@ -36,6 +36,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
 
@@ -47,12 +48,13 @@ class PlayerTickPhaseState extends TickPhaseState<PlayerTickContext> {
     PlayerTickPhaseState() {
     }
 
+    private final PhaseContextPool<PlayerTickContext> pool = new PhaseContextPool<>(() -> new PlayerTickContext()
+            .addCaptures()
+            .addEntityDropCaptures());
+
     @Override
     public PlayerTickContext createPhaseContext() {
-        return new PlayerTickContext()
-                .addCaptures()
-                .addEntityDropCaptures()
-                ;
+        return this.pool.acquire();
     }
 
     @Override
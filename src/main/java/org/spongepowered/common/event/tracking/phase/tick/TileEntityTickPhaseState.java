@@ -40,6 +40,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.entity.EntityUtil;
 import org.spongepowered.common.event.tracking.PhaseContext;
+import org.spongepowered.common.event.tracking.PhaseContextPool;
 import org.spongepowered.common.event.tracking.TrackingUtil;
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
@@ -53,11 +54,13 @@ class TileEntityTickPhaseState extends LocationBasedTickPhaseState<TileEntityTic
     TileEntityTickPhaseState() {
     }
 
+    private final PhaseContextPool<TileEntityTickContext> pool = new PhaseContextPool<>(() -> new TileEntityTickContext()
+            .addEntityCaptures()
+            .addBlockCaptures());
+
     @Override
     public TileEntityTickContext createPhaseContext() {
-        return new TileEntityTickContext()
-                .addEntityCaptures()
-                .addBlockCaptures();
+        return this.pool.acquire();
     }
 
     @Override
@@ -32,6 +32,7 @@
 import org.spongepowered.api.data.manipulator.DataManipulator;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.cause.entity.spawn.SpawnType;
+import org.spongepowered.common.block.DeferredTileData;
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.registry.type.event.InternalSpawnTypes;
@@ -111,4 +112,10 @@ default SpawnType getTickedSpawnType() {
     void setActiveChunk(IMixinChunk chunk);
 
     boolean shouldTick();
+
+    // Snapshots
+
+    @Nullable DeferredTileData getDeferredTileData();
+
+    void setDeferredTileData(@Nullable DeferredTileData data);
 }
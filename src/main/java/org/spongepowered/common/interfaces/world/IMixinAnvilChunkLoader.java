@@ -24,9 +24,15 @@
  */
 package org.spongepowered.common.interfaces.world;
 
+import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.world.World;
+import org.spongepowered.common.world.storage.ChunkLoadTask;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
 
 public interface IMixinAnvilChunkLoader {
 
@@ -35,4 +41,27 @@ public interface IMixinAnvilChunkLoader {
 
     Path getWorldDir();
 
+    /**
+     * Reads the compound of a saved chunk, safe to call off the main thread.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The compound of the chunk, or null if it was never saved
+     * @throws IOException If the chunk could not be read
+     */
+    @Nullable NBTTagCompound readChunkCompound(int x, int z) throws IOException;
+
+    /**
+     * Starts reading a saved chunk on the chunk loader threads, unless it is
+     * already being read. The next load of the chunk uses the read compound.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param onRead Called on the reading thread once the chunk was read
+     * @return The pending load
+     */
+    ChunkLoadTask loadChunkAsync(int x, int z, Consumer<ChunkLoadTask> onRead);
+
+    @Nullable ChunkLoadTask getPendingLoad(int x, int z);
+
 }
@@ -0,0 +1,70 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.interfaces.world;
+
+import org.spongepowered.common.world.storage.ChunkCodec;
+
+import java.io.File;
+import java.io.IOException;
+
+import javax.annotation.Nullable;
+
+public interface IMixinRegionFile {
+
+    /**
+     * Gets the file of the region file.
+     *
+     * @return The file
+     */
+    File getFile();
+
+    /**
+     * Reads the uncompressed data of a chunk, whatever codec it was
+     * written with.
+     *
+     * @param x The chunk x coordinate within the region
+     * @param z The chunk z coordinate within the region
+     * @return The uncompressed chunk data, or null if the chunk is not saved
+     * @throws IOException If the chunk could not be read or decompressed, a
+     *     {@link java.nio.channels.ClosedChannelException} if the region
+     *     file is closed
+     */
+    @Nullable byte[] readChunk(int x, int z) throws IOException;
+
+    /**
+     * Writes already compressed chunk data into its sectors.
+     *
+     * @param x The chunk x coordinate within the region
+     * @param z The chunk z coordinate within the region
+     * @param data The compressed chunk data
+     * @param length The length of the data
+     * @param codec The codec the data is compressed with
+     * @throws IOException If the data is too large to fit into the region
+     *     file, a {@link java.nio.channels.ClosedChannelException} if the
+     *     region file is closed
+     */
+    void writeChunk(int x, int z, byte[] data, int length, ChunkCodec codec) throws IOException;
+
+}
@@ -38,6 +38,7 @@
 import org.spongepowered.api.world.BlockChangeFlag;
 import org.spongepowered.api.world.World;
 import org.spongepowered.api.world.explosion.Explosion;
+import org.spongepowered.common.block.DeferredTileData;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.WorldConfig;
@@ -46,6 +47,7 @@
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.ExecutorService;
 
 import javax.annotation.Nullable;
@@ -82,6 +84,37 @@ default boolean forceSpawnEntity(Entity entity) {
 
     SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag);
 
+    /**
+     * Creates a snapshot of the given block, optionally only writing out the
+     * tile entity at the position once the data is needed. Deferring is only
+     * safe when the tile is staying in place, see {@link DeferredTileData}.
+     *
+     * @param state The block state
+     * @param extended The extended block state
+     * @param pos The position
+     * @param updateFlag The update flag to restore with
+     * @param deferTileData Whether the tile entity data is written lazily
+     * @return The snapshot
+     */
+    SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag, boolean deferTileData);
+
+    /**
+     * Creates a snapshot of a block without a tile entity, owned by the given
+     * creator and notifier rather than those tracked at the position now. Used
+     * for changes captured earlier, since the block may have changed hands in
+     * the meantime.
+     *
+     * @param state The block state
+     * @param extended The extended block state
+     * @param pos The position
+     * @param updateFlag The update flag to restore with
+     * @param creator The creator of the block when the change was captured
+     * @param notifier The notifier of the block when the change was captured
+     * @return The snapshot
+     */
+    SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag,
+        @Nullable UUID creator, @Nullable UUID notifier);
+
     SpongeWorldGenerator createWorldGenerator(DataContainer settings);
 
     SpongeWorldGenerator createWorldGenerator(String settings);
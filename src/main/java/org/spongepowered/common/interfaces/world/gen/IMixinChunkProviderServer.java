@@ -44,4 +44,40 @@ public interface IMixinChunkProviderServer {
     long getChunkUnloadDelay();
 
     WorldServer getWorld();
+
+    /**
+     * Starts loading a saved chunk off the main thread, the chunk is added to
+     * the world during one of the next ticks.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return Whether the chunk is being loaded, false if it is already
+     *     loaded, was never saved or loading off the main thread is disabled
+     */
+    boolean loadChunkAsync(int x, int z);
+
+    /**
+     * Checks the next share of the loaded chunks for an incremental
+     * auto-save, saving the changed ones. Called every tick, each round
+     * checks all chunks loaded when it started over the interval.
+     *
+     * @param interval The auto-save interval in ticks
+     */
+    void saveChunksIncrementally(int interval);
+
+    /**
+     * Gets the amount of chunks the current incremental auto-save round has
+     * yet to check.
+     *
+     * @return The auto-save backlog
+     */
+    int getAutoSaveBacklog();
+
+    /**
+     * Sets whether the world is auto-saved incrementally right now, skipping
+     * saving all chunks at once.
+     *
+     * @param autoSaving Whether auto-saving incrementally
+     */
+    void setAutoSavingIncrementally(boolean autoSaving);
 }
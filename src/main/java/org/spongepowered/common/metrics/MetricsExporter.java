@@ -0,0 +1,415 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.metrics;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.spongepowered.api.Sponge;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.MetricsCategory;
+import org.spongepowered.common.event.RegisteredListener;
+import org.spongepowered.common.event.SpongeEventManager;
+import org.spongepowered.common.scheduler.AsyncTaskExecutor;
+import org.spongepowered.common.scheduler.LatencyHistogram;
+import org.spongepowered.common.scheduler.SpongeScheduler;
+import org.spongepowered.common.scheduler.TaskStatistics;
+import org.spongepowered.common.world.storage.ChunkLoadExecutor;
+import org.spongepowered.common.world.storage.ChunkSaveExecutor;
+import org.spongepowered.common.world.storage.SpongeRegionFileCache;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryUsage;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import javax.annotation.Nullable;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Serves the {@link ServerMetrics} in the Prometheus text exposition format
+ * from an embedded HTTP server, and registers them as JMX MBeans. Scrapes are
+ * answered on a thread of their own from the published counters, they never
+ * wait for the server thread.
+ */
+public final class MetricsExporter {
+
+    private static final String DOMAIN = "org.spongepowered";
+    private static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    @Nullable private static HttpServer server;
+    @Nullable private static ExecutorService executor;
+    private static boolean jmx;
+
+    private MetricsExporter() {
+    }
+
+    public static synchronized void start() {
+        final MetricsCategory config = SpongeImpl.getGlobalConfig().getConfig().getMetrics();
+        if (!config.isEnabled() || server != null) {
+            return;
+        }
+        try {
+            server = HttpServer.create(new InetSocketAddress(config.getAddress(), config.getPort()), 0);
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Could not serve metrics on {}:{}", config.getAddress(), config.getPort(), e);
+            return;
+        }
+        executor = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+                .setNameFormat("Sponge - Metrics Exporter")
+                .setDaemon(true)
+                .build());
+        server.setExecutor(executor);
+        server.createContext("/metrics", MetricsExporter::handle);
+        server.start();
+        SpongeImpl.getLogger().info("Serving metrics on http://{}:{}/metrics", config.getAddress(), config.getPort());
+
+        if (config.isJmx()) {
+            jmx = true;
+            register(new ObjectNameSupplier("type=Server"), ServerMetrics.INSTANCE);
+            for (WorldMetrics world : ServerMetrics.INSTANCE.getWorlds()) {
+                registerWorld(world);
+            }
+        }
+    }
+
+    public static synchronized void stop() {
+        if (jmx) {
+            unregister(new ObjectNameSupplier("type=Server"));
+            for (WorldMetrics world : ServerMetrics.INSTANCE.getWorlds()) {
+                unregisterWorld(world);
+            }
+            jmx = false;
+        }
+        if (server != null) {
+            server.stop(0);
+            server = null;
+        }
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    static synchronized void registerWorld(WorldMetrics world) {
+        if (jmx) {
+            register(worldName(world), world);
+        }
+    }
+
+    static synchronized void unregisterWorld(WorldMetrics world) {
+        if (jmx) {
+            unregister(worldName(world));
+        }
+    }
+
+    private static ObjectNameSupplier worldName(WorldMetrics world) {
+        return new ObjectNameSupplier("type=World,name=" + ObjectName.quote(world.getName()));
+    }
+
+    private static void register(ObjectNameSupplier name, Object bean) {
+        final MBeanServer beanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName objectName = name.get();
+            if (beanServer.isRegistered(objectName)) {
+                beanServer.unregisterMBean(objectName);
+            }
+            beanServer.registerMBean(bean, objectName);
+        } catch (JMException e) {
+            SpongeImpl.getLogger().error("Could not register the {} metrics MBean", name.properties, e);
+        }
+    }
+
+    private static void unregister(ObjectNameSupplier name) {
+        final MBeanServer beanServer = ManagementFactory.getPlatformMBeanServer();
+        try {
+            final ObjectName objectName = name.get();
+            if (beanServer.isRegistered(objectName)) {
+                beanServer.unregisterMBean(objectName);
+            }
+        } catch (JMException e) {
+            SpongeImpl.getLogger().error("Could not unregister the {} metrics MBean", name.properties, e);
+        }
+    }
+
+    private static void handle(HttpExchange exchange) throws IOException {
+        try {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            final byte[] body = scrape().getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(body);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Writes all metrics in the Prometheus text exposition format.
+     *
+     * @return The metrics
+     */
+    public static String scrape() {
+        final PrometheusWriter writer = new PrometheusWriter();
+        final ServerMetrics metrics = ServerMetrics.INSTANCE;
+
+        writer.type("sponge_tps", "gauge", "Ticks per second over the last 100 ticks.")
+                .sample("sponge_tps", metrics.getTicksPerSecond());
+        writer.type("sponge_tick_duration_seconds", "gauge", "Mean time a tick took over the last 100 ticks.")
+                .sample("sponge_tick_duration_seconds", metrics.getMeanTickNanos() * 1.0e-9d);
+        writer.type("sponge_last_tick_duration_seconds", "gauge", "Time the last tick took.")
+                .sample("sponge_last_tick_duration_seconds", metrics.getLastTickNanos() * 1.0e-9d);
+        writer.type("sponge_ticks_total", "counter", "Ticks completed since the server started.")
+                .sample("sponge_ticks_total", metrics.getTicks());
+        writer.type("sponge_players", "gauge", "Players online.")
+                .sample("sponge_players", metrics.getPlayers());
+
+        writer.type("sponge_world_loaded_chunks", "gauge", "Chunks loaded in a world.");
+        for (WorldMetrics world : metrics.getWorlds()) {
+            writer.sample("sponge_world_loaded_chunks", world, world.getLoadedChunks());
+        }
+        writer.type("sponge_world_chunk_loads_total", "counter", "Chunks loaded in a world since it was loaded.");
+        for (WorldMetrics world : metrics.getWorlds()) {
+            writer.sample("sponge_world_chunk_loads_total", world, world.getChunkLoads());
+        }
+        writer.type("sponge_world_chunk_unloads_total", "counter", "Chunks unloaded in a world since it was loaded.");
+        for (WorldMetrics world : metrics.getWorlds()) {
+            writer.sample("sponge_world_chunk_unloads_total", world, world.getChunkUnloads());
+        }
+        writer.type("sponge_world_entities", "gauge", "Entities loaded in a world.");
+        for (WorldMetrics world : metrics.getWorlds()) {
+            writer.sample("sponge_world_entities", world, world.getEntities());
+        }
+        writer.type("sponge_world_tile_entities", "gauge", "Tile entities loaded in a world.");
+        for (WorldMetrics world : metrics.getWorlds()) {
+            writer.sample("sponge_world_tile_entities", world, world.getTileEntities());
+        }
+        writer.type("sponge_world_players", "gauge", "Players in a world.");
+        for (WorldMetrics world : metrics.getWorlds()) {
+            writer.sample("sponge_world_players", world, world.getPlayers());
+        }
+        writer.type("sponge_world_autosave_backlog", "gauge", "Chunks the current incremental auto-save round has yet to check.");
+        for (WorldMetrics world : metrics.getWorlds()) {
+            writer.sample("sponge_world_autosave_backlog", world, world.getAutoSaveBacklog());
+        }
+
+        writer.type("sponge_region_file_cache_hits_total", "counter", "Region files requested while open.")
+                .sample("sponge_region_file_cache_hits_total", SpongeRegionFileCache.getHits());
+        writer.type("sponge_region_file_cache_misses_total", "counter", "Region files that had to be opened.")
+                .sample("sponge_region_file_cache_misses_total", SpongeRegionFileCache.getMisses());
+        writer.type("sponge_region_file_cache_evictions_total", "counter", "Region files closed as too many were open.")
+                .sample("sponge_region_file_cache_evictions_total", SpongeRegionFileCache.getEvictions());
+        writer.type("sponge_region_file_cache_open", "gauge", "Region files open.")
+                .sample("sponge_region_file_cache_open", SpongeRegionFileCache.getOpenFiles());
+
+        final LatencyHistogram saveLatency = ChunkSaveExecutor.getLatency();
+        final LatencyHistogram saveWrite = ChunkSaveExecutor.getWriteDuration();
+        writer.type("sponge_chunk_save_queue_depth", "gauge", "Saved chunks waiting to be written.")
+                .sample("sponge_chunk_save_queue_depth", ChunkSaveExecutor.getQueueDepth());
+        writer.type("sponge_chunk_save_latency_seconds", "summary", "How long saved chunks took to be written.");
+        writer.summary("sponge_chunk_save_latency_seconds", "", saveLatency);
+        writer.type("sponge_chunk_save_write_seconds", "summary", "How long writing a saved chunk took.");
+        writer.summary("sponge_chunk_save_write_seconds", "", saveWrite);
+        writer.type("sponge_chunk_save_failures_total", "counter", "Saved chunks that could not be written.")
+                .sample("sponge_chunk_save_failures_total", ChunkSaveExecutor.getFailures());
+
+        final LatencyHistogram loadLatency = ChunkLoadExecutor.getLatency();
+        final LatencyHistogram loadRead = ChunkLoadExecutor.getReadDuration();
+        writer.type("sponge_chunk_load_queue_depth", "gauge", "Chunks waiting to be read off the main thread.")
+                .sample("sponge_chunk_load_queue_depth", ChunkLoadExecutor.getQueueDepth());
+        writer.type("sponge_chunk_load_latency_seconds", "summary", "How long chunks took to be read off the main thread.");
+        writer.summary("sponge_chunk_load_latency_seconds", "", loadLatency);
+        writer.type("sponge_chunk_load_read_seconds", "summary", "How long reading and parsing a chunk took.");
+        writer.summary("sponge_chunk_load_read_seconds", "", loadRead);
+
+        scrapeScheduler(writer);
+        scrapeEvents(writer);
+        scrapeJvm(writer);
+        return writer.toString();
+    }
+
+    private static void scrapeScheduler(PrometheusWriter writer) {
+        if (!SpongeImpl.isInitialized()) {
+            return;
+        }
+        final SpongeScheduler scheduler = SpongeImpl.getScheduler();
+        writer.type("sponge_scheduler_task_runs_total", "counter", "Completed runs of the scheduled tasks of a plugin.");
+        writer.type("sponge_scheduler_task_lateness_seconds", "summary", "How late the tasks of a plugin started.");
+        writer.type("sponge_scheduler_task_duration_seconds", "summary", "How long the tasks of a plugin ran, per slice for sliced tasks.");
+        for (boolean async : new boolean[] {false, true}) {
+            for (Map.Entry<String, TaskStatistics> entry : scheduler.getPluginStatistics(async).entrySet()) {
+                final String labels = "plugin=\"" + PrometheusWriter.escape(entry.getKey()) + "\",async=\"" + async + "\"";
+                final LatencyHistogram lateness = entry.getValue().getLateness();
+                final LatencyHistogram duration = entry.getValue().getDuration();
+                writer.sample("sponge_scheduler_task_runs_total", labels, entry.getValue().getRuns());
+                writer.summary("sponge_scheduler_task_lateness_seconds", labels, lateness);
+                writer.summary("sponge_scheduler_task_duration_seconds", labels, duration);
+            }
+        }
+        final Map<PluginContainer, AsyncTaskExecutor.Lane> lanes = scheduler.getAsyncTaskExecutor().getLanes();
+        writer.type("sponge_scheduler_lane_active", "gauge", "Asynchronous tasks of a plugin running right now.");
+        lanes.forEach((plugin, lane) -> writer.sample("sponge_scheduler_lane_active", pluginLabel(plugin), lane.getActive()));
+        writer.type("sponge_scheduler_lane_queued", "gauge", "Asynchronous tasks of a plugin waiting for a thread.");
+        lanes.forEach((plugin, lane) -> writer.sample("sponge_scheduler_lane_queued", pluginLabel(plugin), lane.getQueued()));
+        writer.type("sponge_scheduler_lane_rejected_total", "counter", "Asynchronous tasks of a plugin rejected as its lane was full.");
+        lanes.forEach((plugin, lane) -> writer.sample("sponge_scheduler_lane_rejected_total", pluginLabel(plugin), lane.getRejected()));
+    }
+
+    private static void scrapeEvents(PrometheusWriter writer) {
+        if (!SpongeImpl.isInitialized() || !(Sponge.getEventManager() instanceof SpongeEventManager)) {
+            return;
+        }
+        final SpongeEventManager eventManager = (SpongeEventManager) Sponge.getEventManager();
+        writer.type("sponge_event_async_pending", "gauge", "Asynchronously posted events not yet delivered to all listeners.")
+                .sample("sponge_event_async_pending", eventManager.getPendingAsyncEvents());
+        // The listeners of a plugin are summed up, one plugin may well have hundreds
+        final Map<PluginContainer, long[]> plugins = new HashMap<>();
+        for (RegisteredListener<?> listener : eventManager.getRegisteredListeners()) {
+            final long[] sums = plugins.computeIfAbsent(listener.getPlugin(), plugin -> new long[4]);
+            sums[0] += listener.getAsyncHandledCount();
+            sums[1] += listener.getAsyncWaitTime();
+            sums[2] += listener.getAsyncHandleTime();
+            sums[3] = Math.max(sums[3], listener.getAsyncMaxHandleTime());
+        }
+        writer.type("sponge_event_async_handled_total", "counter", "Asynchronously posted events handled by the listeners of a plugin.");
+        plugins.forEach((plugin, sums) -> writer.sample("sponge_event_async_handled_total", pluginLabel(plugin), sums[0]));
+        writer.type("sponge_event_async_wait_seconds_total", "counter",
+                "Time asynchronously posted events waited in the delivery lane of a plugin.");
+        plugins.forEach((plugin, sums) -> writer.sample("sponge_event_async_wait_seconds_total", pluginLabel(plugin), sums[1] * 1.0e-9d));
+        writer.type("sponge_event_async_handle_seconds_total", "counter",
+                "Time the listeners of a plugin spent handling asynchronously posted events.");
+        plugins.forEach((plugin, sums) -> writer.sample("sponge_event_async_handle_seconds_total", pluginLabel(plugin), sums[2] * 1.0e-9d));
+        writer.type("sponge_event_async_max_handle_seconds", "gauge",
+                "Longest time a listener of a plugin spent handling an asynchronously posted event.");
+        plugins.forEach((plugin, sums) -> writer.sample("sponge_event_async_max_handle_seconds", pluginLabel(plugin), sums[3] * 1.0e-9d));
+    }
+
+    private static String pluginLabel(PluginContainer plugin) {
+        return "plugin=\"" + PrometheusWriter.escape(plugin.getId()) + "\"";
+    }
+
+    private static void scrapeJvm(PrometheusWriter writer) {
+        final MemoryUsage heap = ManagementFactory.getMemoryMXBean().getHeapMemoryUsage();
+        writer.type("jvm_memory_heap_used_bytes", "gauge", "Used heap memory.")
+                .sample("jvm_memory_heap_used_bytes", heap.getUsed());
+        writer.type("jvm_memory_heap_committed_bytes", "gauge", "Committed heap memory.")
+                .sample("jvm_memory_heap_committed_bytes", heap.getCommitted());
+        writer.type("jvm_memory_heap_max_bytes", "gauge", "Maximum heap memory.")
+                .sample("jvm_memory_heap_max_bytes", heap.getMax());
+        writer.type("jvm_gc_collections_total", "counter", "Collections run by a garbage collector.");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            writer.sample("jvm_gc_collections_total", "gc=\"" + PrometheusWriter.escape(gc.getName()) + "\"", gc.getCollectionCount());
+        }
+        writer.type("jvm_gc_collection_seconds_total", "counter", "Time spent in collections by a garbage collector.");
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            writer.sample("jvm_gc_collection_seconds_total", "gc=\"" + PrometheusWriter.escape(gc.getName()) + "\"",
+                    gc.getCollectionTime() * 1.0e-3d);
+        }
+        writer.type("jvm_threads", "gauge", "Live threads.")
+                .sample("jvm_threads", ManagementFactory.getThreadMXBean().getThreadCount());
+    }
+
+    // ObjectName construction throws a checked exception, defer it to where it is handled
+    private static final class ObjectNameSupplier {
+
+        final String properties;
+
+        ObjectNameSupplier(String properties) {
+            this.properties = properties;
+        }
+
+        ObjectName get() throws JMException {
+            return new ObjectName(DOMAIN + ":" + this.properties);
+        }
+    }
+
+    private static final class PrometheusWriter {
+
+        private final StringBuilder builder = new StringBuilder(4096);
+
+        static String escape(String value) {
+            return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+        }
+
+        PrometheusWriter type(String name, String type, String help) {
+            this.builder.append("# HELP ").append(name).append(' ').append(help).append('\n');
+            this.builder.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+            return this;
+        }
+
+        void sample(String name, double value) {
+            this.builder.append(name).append(' ').append(value).append('\n');
+        }
+
+        void sample(String name, long value) {
+            this.builder.append(name).append(' ').append(value).append('\n');
+        }
+
+        void sample(String name, WorldMetrics world, long value) {
+            sample(name, "world=\"" + escape(world.getName()) + "\",dimension=\"" + world.getDimensionId() + "\"", value);
+        }
+
+        void sample(String name, String labels, double value) {
+            this.builder.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+        }
+
+        void sample(String name, String labels, long value) {
+            this.builder.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+        }
+
+        void summary(String name, String labels, LatencyHistogram histogram) {
+            final String quantileLabels = labels.isEmpty() ? "" : labels + ',';
+            sample(name, quantileLabels + "quantile=\"0.5\"", histogram.getPercentile(0.5) * 1.0e-9d);
+            sample(name, quantileLabels + "quantile=\"0.99\"", histogram.getPercentile(0.99) * 1.0e-9d);
+            if (labels.isEmpty()) {
+                sample(name + "_sum", histogram.getTotal() * 1.0e-9d);
+                sample(name + "_count", histogram.getCount());
+            } else {
+                sample(name + "_sum", labels, histogram.getTotal() * 1.0e-9d);
+                sample(name + "_count", labels, histogram.getCount());
+            }
+        }
+
+        @Override
+        public String toString() {
+            return this.builder.toString();
+        }
+    }
+}
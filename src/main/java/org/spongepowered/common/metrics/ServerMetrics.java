@@ -0,0 +1,171 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.metrics;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * Server health counters, kept up to date by the server thread as it ticks
+ * so that reading them never has to scan worlds or wait for the server
+ * thread. Read by the {@link MetricsExporter}.
+ */
+public final class ServerMetrics implements ServerMetricsMXBean {
+
+    public static final ServerMetrics INSTANCE = new ServerMetrics();
+
+    private static final int TICK_SAMPLES = 100;
+
+    private final Map<Integer, WorldMetrics> worlds = new ConcurrentHashMap<>();
+    // Only touched by the server thread
+    private final long[] tickStarts = new long[TICK_SAMPLES];
+    private final long[] tickDurations = new long[TICK_SAMPLES];
+    private long tickDurationSum;
+    // Published to readers
+    private volatile long ticks;
+    private volatile double ticksPerSecond = 20;
+    private volatile long meanTickNanos;
+    private volatile long lastTickNanos;
+
+    private ServerMetrics() {
+    }
+
+    /**
+     * Records a completed server tick, called by the server thread.
+     *
+     * @param start The {@link System#nanoTime()} the tick started at
+     * @param duration The time the tick took in nanoseconds
+     */
+    public void onServerTick(long start, long duration) {
+        final long ticks = this.ticks;
+        final int slot = (int) (ticks % TICK_SAMPLES);
+        // The slot holds the tick started TICK_SAMPLES ticks ago, once the ring is full
+        final long oldestStart = ticks < TICK_SAMPLES ? this.tickStarts[0] : this.tickStarts[slot];
+        final long spanned = ticks < TICK_SAMPLES ? ticks : TICK_SAMPLES;
+        this.tickDurationSum += duration - this.tickDurations[slot];
+        this.tickDurations[slot] = duration;
+        this.tickStarts[slot] = start;
+        if (spanned > 0 && start > oldestStart) {
+            this.ticksPerSecond = Math.min(20, spanned * 1.0e9d / (start - oldestStart));
+        }
+        this.meanTickNanos = this.tickDurationSum / Math.min(ticks + 1, TICK_SAMPLES);
+        this.lastTickNanos = duration;
+        this.ticks = ticks + 1;
+    }
+
+    public WorldMetrics addWorld(String name, int dimensionId) {
+        final WorldMetrics metrics = new WorldMetrics(name, dimensionId);
+        final WorldMetrics previous = this.worlds.put(dimensionId, metrics);
+        if (previous != null) {
+            MetricsExporter.unregisterWorld(previous);
+        }
+        MetricsExporter.registerWorld(metrics);
+        return metrics;
+    }
+
+    public void removeWorld(int dimensionId) {
+        final WorldMetrics metrics = this.worlds.remove(dimensionId);
+        if (metrics != null) {
+            MetricsExporter.unregisterWorld(metrics);
+        }
+    }
+
+    @Nullable
+    public WorldMetrics getWorld(int dimensionId) {
+        return this.worlds.get(dimensionId);
+    }
+
+    public Collection<WorldMetrics> getWorlds() {
+        return Collections.unmodifiableCollection(this.worlds.values());
+    }
+
+    @Override
+    public double getTicksPerSecond() {
+        return this.ticksPerSecond;
+    }
+
+    @Override
+    public double getMeanTickMillis() {
+        return this.meanTickNanos * 1.0e-6d;
+    }
+
+    @Override
+    public double getLastTickMillis() {
+        return this.lastTickNanos * 1.0e-6d;
+    }
+
+    public long getMeanTickNanos() {
+        return this.meanTickNanos;
+    }
+
+    public long getLastTickNanos() {
+        return this.lastTickNanos;
+    }
+
+    @Override
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    @Override
+    public int getPlayers() {
+        int players = 0;
+        for (WorldMetrics world : this.worlds.values()) {
+            players += world.getPlayers();
+        }
+        return players;
+    }
+
+    @Override
+    public int getLoadedChunks() {
+        int chunks = 0;
+        for (WorldMetrics world : this.worlds.values()) {
+            chunks += world.getLoadedChunks();
+        }
+        return chunks;
+    }
+
+    @Override
+    public int getEntities() {
+        int entities = 0;
+        for (WorldMetrics world : this.worlds.values()) {
+            entities += world.getEntities();
+        }
+        return entities;
+    }
+
+    @Override
+    public int getTileEntities() {
+        int tileEntities = 0;
+        for (WorldMetrics world : this.worlds.values()) {
+            tileEntities += world.getTileEntities();
+        }
+        return tileEntities;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The health of a single world. Published by the server thread while it
+ * ticks the world, read by anything.
+ */
+public final class WorldMetrics implements WorldMetricsMXBean {
+
+    private final String name;
+    private final int dimensionId;
+    private final LongAdder chunkLoads = new LongAdder();
+    private final LongAdder chunkUnloads = new LongAdder();
+    private volatile int loadedChunks;
+    private volatile int entities;
+    private volatile int tileEntities;
+    private volatile int players;
+    private volatile int autoSaveBacklog;
+
+    WorldMetrics(String name, int dimensionId) {
+        this.name = name;
+        this.dimensionId = dimensionId;
+    }
+
+    public void onChunkLoad() {
+        this.chunkLoads.increment();
+    }
+
+    public void onChunksUnloaded(int unloaded, int loaded) {
+        this.chunkUnloads.add(unloaded);
+        this.loadedChunks = loaded;
+    }
+
+    public void onEntitiesTicked(int entities, int tileEntities, int players) {
+        this.entities = entities;
+        this.tileEntities = tileEntities;
+        this.players = players;
+    }
+
+    public void onAutoSave(int backlog) {
+        this.autoSaveBacklog = backlog;
+    }
+
+    @Override
+    public String getName() {
+        return this.name;
+    }
+
+    @Override
+    public int getDimensionId() {
+        return this.dimensionId;
+    }
+
+    @Override
+    public int getLoadedChunks() {
+        return this.loadedChunks;
+    }
+
+    @Override
+    public long getChunkLoads() {
+        return this.chunkLoads.sum();
+    }
+
+    @Override
+    public long getChunkUnloads() {
+        return this.chunkUnloads.sum();
+    }
+
+    @Override
+    public int getEntities() {
+        return this.entities;
+    }
+
+    @Override
+    public int getTileEntities() {
+        return this.tileEntities;
+    }
+
+    @Override
+    public int getPlayers() {
+        return this.players;
+    }
+
+    @Override
+    public int getAutoSaveBacklog() {
+        return this.autoSaveBacklog;
+    }
+}
@@ -92,6 +92,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.block.DeferredTileData;
 import org.spongepowered.common.command.SpongeCommandManager;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseTracker;
@@ -106,9 +107,11 @@
 import org.spongepowered.common.interfaces.IMixinSubject;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.metrics.MetricsExporter;
 import org.spongepowered.common.profile.SpongeProfileManager;
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
 import org.spongepowered.common.text.SpongeTexts;
+import org.spongepowered.common.util.LagSpikeWatchdog;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.WorldManager;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
@@ -317,6 +320,8 @@ public void shutdown(Text kickMessage) {
 
     @Inject(method = "stopServer()V", at = @At("HEAD"))
     public void onServerStopping(CallbackInfo ci) {
+        LagSpikeWatchdog.stop();
+        MetricsExporter.stop();
         ((MinecraftServer) (Object) this).getPlayerProfileCache().save();
 
         if (this.worlds != null && SpongeImpl.getGlobalConfig().getConfig().getModules().useOptimizations() &&
@@ -357,6 +362,8 @@ public void loadAllWorlds(String overworldFolder, String worldName, long seed, W
         this.getPlayerList().setPlayerManager(this.worlds);
         this.setDifficultyForAllWorlds(this.getDifficulty());
         this.initialWorldChunkLoad();
+        LagSpikeWatchdog.start();
+        MetricsExporter.start();
     }
 
     /**
@@ -636,6 +643,7 @@ public void onServerTickStart(CallbackInfo ci) {
 
     @Inject(method = "tick", at = @At(value = "RETURN"))
     public void onServerTickEnd(CallbackInfo ci) {
+        DeferredTileData.releaseAll();
         int lastAnimTick = SpongeCommonEventFactory.lastAnimationPacketTick;
         int lastPrimaryTick = SpongeCommonEventFactory.lastPrimaryPacketTick;
         int lastSecondaryTick = SpongeCommonEventFactory.lastSecondaryPacketTick;
@@ -710,7 +718,7 @@ private int getSaveTickInterval(int tickInterval) {
     /**
      * @author blood - June 2nd, 2016
      *
-     * @reason To allow per-world auto-save tick intervals or disable auto-saving entirely
+     * @reason To allow per-world auto-save tick intervals, incremental auto-saves or disable auto-saving entirely
      *
      * @param dontLog Whether to log during saving
      */
@@ -719,6 +727,7 @@ public void saveAllWorlds(boolean dontLog) {
         for (WorldServer worldserver : this.worlds) {
             if (worldserver != null) {
                 // Sponge start - check auto save interval in world config
+                boolean incremental = false;
                 if (this.isDedicatedServer() && this.isServerRunning()) {
                     final IMixinWorldServer spongeWorld = (IMixinWorldServer) worldserver;
                     final int autoSaveInterval = spongeWorld.getActiveConfig().getConfig().getWorld().getAutoSaveInterval();
@@ -733,6 +742,11 @@ public void saveAllWorlds(boolean dontLog) {
                         }
                         continue;
                     }
+                    // Save a share of the chunks every tick, the rest of the world is still saved once per interval
+                    incremental = spongeWorld.getActiveConfig().getConfig().getWorld().isIncrementalAutoSave();
+                    if (incremental) {
+                        ((IMixinChunkProviderServer) worldserver.getChunkProvider()).saveChunksIncrementally(autoSaveInterval);
+                    }
                     if (this.tickCounter % autoSaveInterval != 0) {
                         continue;
                     }
@@ -744,11 +758,15 @@ public void saveAllWorlds(boolean dontLog) {
                     LOGGER.info("Saving chunks for level \'" + worldserver.getWorldInfo().getWorldName() + "\'/"
                             + worldserver.provider.getDimensionType().getName());
                 }
+                final IMixinChunkProviderServer chunkProvider = (IMixinChunkProviderServer) worldserver.getChunkProvider();
+                chunkProvider.setAutoSavingIncrementally(incremental);
                 // Sponge end
                 try {
                     WorldManager.saveWorld(worldserver, false);
                 } catch (MinecraftException ex) {
                     ex.printStackTrace();
+                } finally {
+                    chunkProvider.setAutoSavingIncrementally(false); // Sponge
                 }
             }
         }
@@ -30,17 +30,25 @@
 import net.minecraft.server.management.PlayerChunkMapEntry;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.gen.ChunkProviderServer;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMapEntry;
+import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+
+import javax.annotation.Nullable;
 
 @Mixin(PlayerChunkMapEntry.class)
 public abstract class MixinPlayerChunkMapEntry implements IMixinPlayerChunkMapEntry {
 
+    private static final String LOAD_CHUNK = "Lnet/minecraft/world/gen/ChunkProviderServer;loadChunk(II)Lnet/minecraft/world/chunk/Chunk;";
+    private static final String PROVIDE_CHUNK = "Lnet/minecraft/world/gen/ChunkProviderServer;provideChunk(II)Lnet/minecraft/world/chunk/Chunk;";
+
     @Shadow @Final private PlayerChunkMap playerChunkMap;
     @Shadow @Final private ChunkPos pos;
     @Shadow public int changes;
@@ -61,6 +69,39 @@ public void resendUpdatedBiomes(CallbackInfo ci) {
         }
     }
 
+    // Forge already loads player chunks asynchronously and replaces these calls, hence not required
+    @Redirect(method = "<init>", at = @At(value = "INVOKE", target = LOAD_CHUNK), require = 0, expect = 0)
+    @Nullable
+    private Chunk onConstructLoadChunk(ChunkProviderServer chunkProvider, int x, int z) {
+        return this.loadChunkAsync(chunkProvider, x, z, false);
+    }
+
+    @Redirect(method = "providePlayerChunk", at = @At(value = "INVOKE", target = LOAD_CHUNK), require = 0, expect = 0)
+    @Nullable
+    private Chunk onProvidePlayerLoadChunk(ChunkProviderServer chunkProvider, int x, int z) {
+        return this.loadChunkAsync(chunkProvider, x, z, false);
+    }
+
+    @Redirect(method = "providePlayerChunk", at = @At(value = "INVOKE", target = PROVIDE_CHUNK), require = 0, expect = 0)
+    @Nullable
+    private Chunk onProvidePlayerProvideChunk(ChunkProviderServer chunkProvider, int x, int z) {
+        return this.loadChunkAsync(chunkProvider, x, z, true);
+    }
+
+    /**
+     * Loads saved chunks off the main thread. Until the chunk was added to
+     * the world this entry stays without a chunk, and the player chunk map
+     * asks again every tick.
+     */
+    @Nullable
+    private Chunk loadChunkAsync(ChunkProviderServer chunkProvider, int x, int z, boolean generate) {
+        final Chunk chunk = chunkProvider.getLoadedChunk(x, z);
+        if (chunk != null || ((IMixinChunkProviderServer) chunkProvider).loadChunkAsync(x, z)) {
+            return chunk;
+        }
+        return generate ? chunkProvider.provideChunk(x, z) : chunkProvider.loadChunk(x, z);
+    }
+
     @Override
     public void markBiomesForUpdate() {
         this.updateBiomes = true;
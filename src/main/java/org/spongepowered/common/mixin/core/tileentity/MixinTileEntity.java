@@ -54,6 +54,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.block.DeferredTileData;
 import org.spongepowered.common.block.SpongeTileEntityArchetypeBuilder;
 import org.spongepowered.common.data.nbt.CustomDataNbtUtil;
 import org.spongepowered.common.data.persistence.NbtTranslator;
@@ -87,6 +88,7 @@ public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
     private User spongeOwner;
     private boolean hasSetOwner = false;
     private WeakReference<IMixinChunk> activeChunk = new WeakReference<>(null);
+    @Nullable private DeferredTileData deferredTileData;
 
     @Shadow protected boolean tileEntityInvalid;
     @Shadow protected net.minecraft.world.World world;
@@ -189,6 +191,11 @@ public BlockState getBlock() {
         return (BlockState) this.world.getBlockState(this.getPos());
     }
 
+    @Inject(method = "invalidate", at = @At("HEAD"))
+    private void onSpongeInvalidateHead(CallbackInfo ci) {
+        DeferredTileData.capture((net.minecraft.tileentity.TileEntity) (Object) this);
+    }
+
     @Inject(method = "invalidate", at = @At("RETURN"))
     public void onSpongeInvalidate(CallbackInfo ci) {
         this.setActiveChunk(null);
@@ -215,6 +222,12 @@ public void onWriteToNBT(NBTTagCompound compound, CallbackInfoReturnable<NBTTagC
      * @param compound The compound vanilla reads from (unused because we read from SpongeData)
      * @param ci (Unused) callback info
      */
+    @Inject(method = "Lnet/minecraft/tileentity/TileEntity;readFromNBT(Lnet/minecraft/nbt/NBTTagCompound;)V", at = @At("HEAD"))
+    private void onReadFromNBTHead(NBTTagCompound compound, CallbackInfo ci) {
+        // Snapshots still pointing at this tile want the data from before it is overwritten
+        DeferredTileData.capture((net.minecraft.tileentity.TileEntity) (Object) this);
+    }
+
     @Inject(method = "Lnet/minecraft/tileentity/TileEntity;readFromNBT(Lnet/minecraft/nbt/NBTTagCompound;)V", at = @At("RETURN"))
     public void onReadFromNBT(NBTTagCompound compound, CallbackInfo ci) {
         this.readFromNbt(this.getSpongeData());
@@ -320,4 +333,15 @@ public boolean shouldTick() {
 
         return true;
     }
+
+    @Nullable
+    @Override
+    public DeferredTileData getDeferredTileData() {
+        return this.deferredTileData;
+    }
+
+    @Override
+    public void setDeferredTileData(@Nullable DeferredTileData data) {
+        this.deferredTileData = data;
+    }
 }
@@ -50,6 +50,7 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.IMixinInventory;
@@ -138,7 +139,8 @@ private static boolean onIsInventoryEmpty(IInventory inventory, EnumFacing facin
         if (isInventoryEmpty(inventory, facing)) {
             return true;
         }
-        return SpongeCommonEventFactory.callTransferPre(toInventory(inventory), toInventory(hopper)).isCancelled();
+        return ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE
+                && SpongeCommonEventFactory.callTransferPre(toInventory(inventory), toInventory(hopper)).isCancelled();
     }
 
     @Redirect(method = "transferItemsOut", at = @At(value = "INVOKE",
@@ -147,7 +149,8 @@ private boolean onIsInventoryFull(TileEntityHopper hopper, IInventory inventory,
         if (this.isInventoryFull(inventory, enumfacing)) {
             return true;
         }
-        return SpongeCommonEventFactory.callTransferPre(toInventory(hopper), toInventory(inventory)).isCancelled();
+        return ShouldFire.CHANGE_INVENTORY_EVENT_TRANSFER_PRE
+                && SpongeCommonEventFactory.callTransferPre(toInventory(hopper), toInventory(inventory)).isCancelled();
     }
 
     // Capture Transactions
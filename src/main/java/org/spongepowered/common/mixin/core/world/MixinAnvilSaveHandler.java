@@ -33,7 +33,10 @@
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.common.interfaces.IMixinSaveHandler;
+import org.spongepowered.common.world.storage.SpongeRegionFileCache;
 
 import java.io.File;
 
@@ -61,4 +64,11 @@ public IChunkLoader getChunkLoader(WorldProvider provider) {
         // This allows users to remove our mod and maintain world compatibility.
         return new AnvilChunkLoader(((IMixinSaveHandler) this).getSpongeWorldDirectory(), this.dataFixer);
     }
+
+    // Every world has its own save handler, so only the region files of this world are closed
+    @Redirect(method = "flush",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/world/chunk/storage/RegionFileCache;clearRegionFileReferences()V"))
+    private void onClearRegionFileReferences() {
+        SpongeRegionFileCache.closeWorld(((IMixinSaveHandler) this).getSpongeWorldDirectory());
+    }
 }
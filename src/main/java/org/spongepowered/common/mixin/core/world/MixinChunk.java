@@ -93,7 +93,9 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.BlockUtil;
+import org.spongepowered.common.block.DeferredTileData;
 import org.spongepowered.common.entity.PlayerTracker;
+import org.spongepowered.common.event.ShouldFire;
 import org.spongepowered.common.event.SpongeCommonEventFactory;
 import org.spongepowered.common.event.tracking.PhaseTracker;
 import org.spongepowered.common.event.tracking.PhaseData;
@@ -103,7 +105,10 @@
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.interfaces.server.management.IMixinPlayerChunkMapEntry;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.metrics.ServerMetrics;
+import org.spongepowered.common.metrics.WorldMetrics;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
@@ -283,6 +288,10 @@ public void onLoadReturn(CallbackInfo ci) {
         SpongeImpl.postEvent(SpongeEventFactory.createLoadChunkEvent(Sponge.getCauseStackManager().getCurrentCause(), (Chunk) this));
         if (!this.world.isRemote) {
             SpongeHooks.logChunkLoad(this.world, this.chunkPos);
+            final WorldMetrics metrics = ServerMetrics.INSTANCE.getWorld(((IMixinWorldServer) this.world).getDimensionId());
+            if (metrics != null) {
+                metrics.onChunkLoad();
+            }
         }
     }
 
@@ -514,7 +523,7 @@ public void onGetEntitiesWithinAABBForEntity(Entity entityIn, AxisAlignedBB aabb
             return;
         }
 
-        if (listToFill.size() == 0) {
+        if (listToFill.size() == 0 || !ShouldFire.COLLIDE_ENTITY_EVENT) {
             return;
         }
 
@@ -537,7 +546,7 @@ public void onGetEntitiesOfTypeWithinAAAB(Class<? extends Entity> entityClass, A
             return;
         }
 
-        if (listToFill.size() == 0) {
+        if (listToFill.size() == 0 || !ShouldFire.COLLIDE_ENTITY_EVENT) {
             return;
         }
 
@@ -640,6 +649,10 @@ public IBlockState setBlockState(BlockPos pos, IBlockState newState, IBlockState
             if (!this.world.isRemote) {
                 // Sponge - Forge adds this change for block changes to only fire events when necessary
                 if (currentState.getBlock() != newState.getBlock()) {
+                    // Sponge - Write out tile data deferred by snapshots before the block can empty the tile
+                    if (SpongeImplHooks.hasBlockTileEntity(currentBlock, currentState)) {
+                        DeferredTileData.capture(this.getTileEntity(pos, EnumCreateEntityType.CHECK));
+                    }
                     currentBlock.breakBlock(this.world, pos, currentState);
                 }
                 // Sponge - Add several tile entity hook checks. Mainly for forge added hooks, but these
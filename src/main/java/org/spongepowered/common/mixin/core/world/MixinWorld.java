@@ -123,6 +123,7 @@
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
 import org.spongepowered.common.block.BlockUtil;
+import org.spongepowered.common.block.DeferredTileData;
 import org.spongepowered.common.block.SpongeBlockSnapshotBuilder;
 import org.spongepowered.common.data.type.SpongeTileEntityType;
 import org.spongepowered.common.entity.EntityUtil;
@@ -1588,6 +1589,7 @@ public void updateEntities() {
             // Sponge start - use forge hook
             for (Object tile : this.tileEntitiesToBeRemoved) {
                SpongeImplHooks.onTileChunkUnload(((net.minecraft.tileentity.TileEntity)tile));
+               DeferredTileData.capture((net.minecraft.tileentity.TileEntity) tile);
             }
             // Sponge end
 
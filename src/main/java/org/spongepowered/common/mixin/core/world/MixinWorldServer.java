@@ -46,7 +46,6 @@
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.init.Blocks;
 import net.minecraft.init.SoundEvents;
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.network.Packet;
 import net.minecraft.network.play.server.SPacketExplosion;
 import net.minecraft.profiler.Profiler;
@@ -145,6 +144,7 @@
 import org.spongepowered.asm.util.PrettyPrinter;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.block.DeferredTileData;
 import org.spongepowered.common.block.SpongeBlockSnapshot;
 import org.spongepowered.common.config.SpongeConfig;
 import org.spongepowered.common.config.type.WorldConfig;
@@ -180,6 +180,8 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
 import org.spongepowered.common.interfaces.world.gen.IPopulatorProvider;
+import org.spongepowered.common.metrics.ServerMetrics;
+import org.spongepowered.common.metrics.WorldMetrics;
 import org.spongepowered.common.mixin.plugin.entityactivation.interfaces.IModData_Activation;
 import org.spongepowered.common.mixin.plugin.entitycollisions.interfaces.IModData_Collisions;
 import org.spongepowered.common.registry.provider.DirectionFacingProvider;
@@ -1543,19 +1545,14 @@ private boolean forceSpawnEntity(net.minecraft.entity.Entity entity, int chunkX,
 
     @Override
     public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag) {
-        this.builder.reset();
-        this.builder.blockState((BlockState) state)
-                .extendedState((BlockState) extended)
-                .worldId(this.getUniqueId())
-                .position(VecHelper.toVector3i(pos));
-        Optional<UUID> creator = getCreator(pos.getX(), pos.getY(), pos.getZ());
-        Optional<UUID> notifier = getNotifier(pos.getX(), pos.getY(), pos.getZ());
-        if (creator.isPresent()) {
-            this.builder.creator(creator.get());
-        }
-        if (notifier.isPresent()) {
-            this.builder.notifier(notifier.get());
-        }
+        return this.createSpongeBlockSnapshot(state, extended, pos, updateFlag, false);
+    }
+
+    @Override
+    public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag,
+        boolean deferTileData) {
+        this.resetSnapshotBuilder(state, extended, pos, getCreator(pos.getX(), pos.getY(), pos.getZ()).orElse(null),
+                getNotifier(pos.getX(), pos.getY(), pos.getZ()).orElse(null));
         if (state.getBlock() instanceof ITileEntityProvider) {
             net.minecraft.tileentity.TileEntity te = getTileEntity(pos);
             if (te != null) {
@@ -1563,20 +1560,39 @@ public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockSt
                 for (DataManipulator<?, ?> manipulator : ((IMixinCustomDataHolder) tile).getCustomManipulators()) {
                     this.builder.add(manipulator);
                 }
-                NBTTagCompound nbt = new NBTTagCompound();
-                // Some mods like OpenComputers assert if attempting to save robot while moving
-                try {
-                    te.writeToNBT(nbt);
-                    this.builder.unsafeNbt(nbt);
-                }
-                catch(Throwable t) {
-                    // ignore
+                // Snapshots taken of the tile since it last changed share the same data, so it is only written once
+                final DeferredTileData tileData = DeferredTileData.of(te);
+                if (!deferTileData) {
+                    // The tile may well be changed or removed before the snapshot is looked at
+                    tileData.capture();
                 }
+                this.builder.deferredTileData(tileData);
             }
         }
         return new SpongeBlockSnapshot(this.builder, BlockChangeFlag.ALL.setUpdateNeighbors((updateFlag & 1) != 0), updateFlag);
     }
 
+    @Override
+    public SpongeBlockSnapshot createSpongeBlockSnapshot(IBlockState state, IBlockState extended, BlockPos pos, int updateFlag,
+        @Nullable UUID creator, @Nullable UUID notifier) {
+        this.resetSnapshotBuilder(state, extended, pos, creator, notifier);
+        return new SpongeBlockSnapshot(this.builder, BlockChangeFlag.ALL.setUpdateNeighbors((updateFlag & 1) != 0), updateFlag);
+    }
+
+    private void resetSnapshotBuilder(IBlockState state, IBlockState extended, BlockPos pos, @Nullable UUID creator, @Nullable UUID notifier) {
+        this.builder.reset();
+        this.builder.blockState((BlockState) state)
+                .extendedState((BlockState) extended)
+                .worldId(this.getUniqueId())
+                .position(VecHelper.toVector3i(pos));
+        if (creator != null) {
+            this.builder.creator(creator);
+        }
+        if (notifier != null) {
+            this.builder.notifier(notifier);
+        }
+    }
+
     /**
      * @author gabizou - September 10th, 2016
      * @author gabizou - September 21st, 2017 - Update for PhaseContext refactor.
@@ -2017,6 +2033,10 @@ public void startPendingTileEntityTimings() {
     public void endPendingTileEntities() {
         this.timings.tileEntityPending.stopTiming();
         TimingHistory.tileEntityTicks += this.loadedTileEntityList.size();
+        final WorldMetrics metrics = ServerMetrics.INSTANCE.getWorld(this.getDimensionId());
+        if (metrics != null) {
+            metrics.onEntitiesTicked(this.loadedEntityList.size(), this.loadedTileEntityList.size(), this.playerEntities.size());
+        }
     }
 
     @Inject(method = "tick", at = @At(value = "INVOKE_STRING", target = PROFILER_ESS, args = "ldc=tickPending") )
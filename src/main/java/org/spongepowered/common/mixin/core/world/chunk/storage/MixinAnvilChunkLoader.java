@@ -24,19 +24,23 @@
  */
 package org.spongepowered.common.mixin.core.world.chunk.storage;
 
+import co.aikar.timings.SpongeTimings;
 import com.flowpowered.math.vector.Vector3d;
 import com.google.common.collect.Maps;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityList;
 import net.minecraft.entity.item.EntityMinecart;
+import net.minecraft.nbt.CompressedStreamTools;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.datafix.DataFixer;
+import net.minecraft.util.datafix.FixTypes;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.World;
 import net.minecraft.world.chunk.Chunk;
 import net.minecraft.world.chunk.storage.AnvilChunkLoader;
-import net.minecraft.world.chunk.storage.RegionFileCache;
+import net.minecraft.world.chunk.storage.RegionFile;
 import net.minecraft.world.storage.ThreadedFileIOBase;
 import org.apache.logging.log4j.Logger;
 import org.spongepowered.api.Sponge;
@@ -62,17 +66,32 @@
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.common.SpongeImplHooks;
+import org.spongepowered.common.config.category.WorldCategory;
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.entity.PlayerTracker;
 import org.spongepowered.common.interfaces.IMixinChunk;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.registry.type.entity.EntityTypeRegistryModule;
 import org.spongepowered.common.util.QueuedChunk;
+import org.spongepowered.common.world.storage.ChunkCodec;
+import org.spongepowered.common.world.storage.ChunkLoadExecutor;
+import org.spongepowered.common.world.storage.ChunkLoadTask;
+import org.spongepowered.common.world.storage.ChunkSaveExecutor;
+import org.spongepowered.common.world.storage.SerializedChunk;
+import org.spongepowered.common.world.storage.SpongeRegionFileCache;
 
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+import java.util.zip.Deflater;
+
+import javax.annotation.Nullable;
 
 @Mixin(AnvilChunkLoader.class)
 @Implements(@Interface(iface = IMixinAnvilChunkLoader.class, prefix = "loader$"))
@@ -80,17 +99,63 @@ public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
 
     private ConcurrentLinkedQueue<QueuedChunk> queue = new ConcurrentLinkedQueue<>();
     private final Object lock = new Object();
+    private final Map<ChunkPos, ChunkLoadTask> pendingLoads = new ConcurrentHashMap<>();
+    // Replaces chunksToSave, holding the serialized chunks instead of their compound trees
+    private final Map<ChunkPos, SerializedChunk> pendingSaves = new ConcurrentHashMap<>();
+    // The chunk compression of the world, taken from its config on every save
+    private volatile ChunkCodec compressionCodec = ChunkCodec.ZLIB;
+    private volatile int compressionLevel = Deflater.DEFAULT_COMPRESSION;
 
     private static final String ENTITY_LIST_CREATE_FROM_NBT =
             "Lnet/minecraft/entity/EntityList;createEntityFromNBT(Lnet/minecraft/nbt/NBTTagCompound;Lnet/minecraft/world/World;)Lnet/minecraft/entity/Entity;";
 
     @Shadow @Final private static Logger LOGGER;
-    @Shadow @Final private Map<ChunkPos, NBTTagCompound> chunksToSave;
     @Shadow @Final private File chunkSaveLocation;
+    @Shadow @Final public DataFixer dataFixer;
     @Shadow private boolean flushing;
 
     @Shadow
-    public abstract void writeChunkData(ChunkPos pos, NBTTagCompound compound);
+    @Nullable
+    protected abstract Chunk checkedReadChunkFromNBT(World worldIn, int x, int z, NBTTagCompound compound);
+
+    @Inject(method = "loadChunk", at = @At("HEAD"), cancellable = true)
+    private void onLoadChunk(World worldIn, int x, int z, CallbackInfoReturnable<Chunk> cir) throws IOException {
+        // Sponge start - Use the compound of a chunk being read off the main thread, or read it now if no loader thread started yet
+        final ChunkPos pos = new ChunkPos(x, z);
+        final ChunkLoadTask task = this.pendingLoads.remove(pos);
+        SerializedChunk pending = this.pendingSaves.get(pos);
+        if (task == null && pending == null) {
+            return;
+        }
+        NBTTagCompound compound = null;
+        if (pending == null) {
+            compound = task.join();
+            // The chunk could have been saved again while it was read
+            pending = this.pendingSaves.get(pos);
+        }
+        // Chunks not written yet are read from the save queue
+        if (pending != null) {
+            compound = pending.read();
+        }
+        cir.setReturnValue(compound == null ? null : this.checkedReadChunkFromNBT(worldIn, x, z, compound));
+        // Sponge end
+    }
+
+    @Inject(method = "isChunkGeneratedAt", at = @At("HEAD"), cancellable = true)
+    private void onIsChunkGeneratedAt(int x, int z, CallbackInfoReturnable<Boolean> cir) {
+        if (this.pendingSaves.containsKey(new ChunkPos(x, z))) {
+            cir.setReturnValue(true);
+        }
+    }
+
+    @Inject(method = "saveChunk", at = @At("HEAD"))
+    private void onSaveChunk(World worldIn, net.minecraft.world.chunk.Chunk chunkIn, CallbackInfo ci) {
+        if (worldIn instanceof IMixinWorldServer) {
+            final WorldCategory category = ((IMixinWorldServer) worldIn).getActiveConfig().getConfig().getWorld();
+            this.compressionCodec = category.getChunkCompression();
+            this.compressionLevel = category.getChunkCompressionLevel();
+        }
+    }
 
     @Inject(method = "writeChunkToNBT", at = @At(value = "RETURN"))
     public void onWriteChunkToNBT(net.minecraft.world.chunk.Chunk chunkIn, World worldIn, NBTTagCompound compound, CallbackInfo ci) {
@@ -215,27 +280,36 @@ private static Entity onReadChunkEntity(NBTTagCompound compound, World world, Ch
         //         }
         //     }
         // }
-        if (this.chunksToSave.containsKey(chunkcoordintpair)) {
+        if (this.pendingSaves.containsKey(chunkcoordintpair)) {
             return true;
         }
         // Sponge end
 
-        return RegionFileCache.getChunkInputStream(this.chunkSaveLocation, x, z) != null;
+        // Sponge - Look at the region file header instead of reading the chunk, and don't create missing region files
+        final RegionFile regionFile = SpongeRegionFileCache.getRegionFileIfExists(this.chunkSaveLocation, x, z);
+        return regionFile != null && regionFile.isChunkSaved(x & 31, z & 31);
     }
 
     /**
      * @author aikar - February 19th, 2017
-     * @reason Chunk queue improvements.
+     * @reason Chunk queue improvements. The chunk is queued serialized,
+     * dropping its compound tree right away.
      *
      * @param pos The chunk position to queue
      * @param compound The NBTTagCompound containing chunk data
      */
     @Overwrite
     protected void addChunkToPending(ChunkPos pos, NBTTagCompound compound) {
+        final SerializedChunk chunk = SerializedChunk.of(compound);
         synchronized (this.lock) {
-            this.chunksToSave.put(pos, compound);
+            this.pendingSaves.put(pos, chunk);
+        }
+        // Sponge - Write on the chunk writer owning the region file, unless disabled
+        if (ChunkSaveExecutor.isEnabled()) {
+            ChunkSaveExecutor.submit(this.chunkSaveLocation, pos, () -> this.writeQueuedChunk(pos, chunk));
+            return;
         }
-        this.queue.add(new QueuedChunk(pos, compound));
+        this.queue.add(new QueuedChunk(pos, chunk));
 
         ThreadedFileIOBase.getThreadedIOInstance().queueIO((AnvilChunkLoader) (Object) this);
     }
@@ -250,55 +324,53 @@ public boolean writeNextIO() {
         QueuedChunk chunk = this.queue.poll();
         if (chunk == null) {
             if (this.flushing) {
+                // Sponge - Flushing has to wait for the chunk writers as well
+                ChunkSaveExecutor.flush();
                 LOGGER.info("ThreadedAnvilChunkStorage ({}): All chunks are saved", new Object[] {this.chunkSaveLocation.getName()});
             }
 
             return false;
         } else {
-            ChunkPos chunkpos = chunk.coords;
-            boolean lvt_3_1_;
+            this.writeQueuedChunk(chunk.coords, chunk.chunk);
+            return true;
+        }
+    }
 
+    private void writeQueuedChunk(ChunkPos chunkpos, SerializedChunk chunk) {
+        // Sponge - Skip writes already replaced by a newer version of the chunk, it is queued behind this one
+        if (this.pendingSaves.get(chunkpos) != chunk) {
+            return;
+        }
+        SpongeTimings.asyncChunkSaveTimer.startTimingIfSync();
+        int attempts = 0;
+        Exception laste = null;
+        while (attempts++ < 5) {
             try {
-                // this.field_193415_c.add(chunkpos);
-                NBTTagCompound nbttagcompound = chunk.compound;
-
-                if (nbttagcompound != null) {
-                    int attempts = 0;
-                    Exception laste = null;
-                    while (attempts++ < 5) {
-                        try {
-                            this.writeChunkData(chunkpos, nbttagcompound);
-                            laste = null;
-                            break;
-                        } catch (Exception exception) {
-                            // LOGGER.error((String)"Failed to save chunk",
-                            // (Throwable)exception);
-                            laste = exception;
-                        }
-                        try {
-                            Thread.sleep(10);
-                        } catch (InterruptedException e) {
-                            e.printStackTrace();
-                        }
-                    }
-                    if (laste != null) {
-                        laste.printStackTrace();
-                    }
-                }
-
-                synchronized (this.lock) {
-                    if (this.chunksToSave.get(chunkpos) == nbttagcompound) {
-                        this.chunksToSave.remove(chunkpos);
-                    }
-                }
-                // Sponge - This will not equal if a newer version is still
-                // pending
-                lvt_3_1_ = true;
-            } finally {
-                // this.field_193415_c.remove(chunkpos);
+                chunk.writeTo(SpongeRegionFileCache.getRegionFile(this.chunkSaveLocation, chunkpos.x, chunkpos.z), chunkpos.x, chunkpos.z,
+                        this.compressionCodec, this.compressionLevel);
+                laste = null;
+                break;
+            } catch (Exception exception) {
+                laste = exception;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
             }
+        }
+        SpongeTimings.asyncChunkSaveTimer.stopTimingIfSync();
+        if (laste != null) {
+            LOGGER.error("Failed to save chunk {} in {}", chunkpos, this.chunkSaveLocation, laste);
+            ChunkSaveExecutor.onWriteFailed();
+        }
 
-            return lvt_3_1_;
+        synchronized (this.lock) {
+            // Sponge - This will not equal if a newer version is still pending
+            if (this.pendingSaves.get(chunkpos) == chunk) {
+                this.pendingSaves.remove(chunkpos);
+            }
         }
     }
 
@@ -307,4 +379,38 @@ public Path getWorldDir() {
         return this.chunkSaveLocation.toPath();
     }
 
+    @Override
+    @Nullable
+    public NBTTagCompound readChunkCompound(int x, int z) throws IOException {
+        final SerializedChunk pending = this.pendingSaves.get(new ChunkPos(x, z));
+        if (pending != null) {
+            return pending.read();
+        }
+        final RegionFile regionFile = SpongeRegionFileCache.getRegionFileIfExists(this.chunkSaveLocation, x, z);
+        if (regionFile == null) {
+            return null;
+        }
+        try (DataInputStream stream = regionFile.getChunkDataInputStream(x & 31, z & 31)) {
+            if (stream == null) {
+                return null;
+            }
+            return this.dataFixer.process(FixTypes.CHUNK, CompressedStreamTools.read(stream));
+        }
+    }
+
+    @Override
+    public ChunkLoadTask loadChunkAsync(int x, int z, Consumer<ChunkLoadTask> onRead) {
+        return this.pendingLoads.computeIfAbsent(new ChunkPos(x, z), pos -> {
+            final ChunkLoadTask task = new ChunkLoadTask(this, x, z, onRead);
+            ChunkLoadExecutor.submit(task);
+            return task;
+        });
+    }
+
+    @Override
+    @Nullable
+    public ChunkLoadTask getPendingLoad(int x, int z) {
+        return this.pendingLoads.get(new ChunkPos(x, z));
+    }
+
 }
@@ -0,0 +1,150 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world.chunk.storage;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import org.spongepowered.asm.mixin.Final;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.interfaces.world.IMixinRegionFile;
+import org.spongepowered.common.world.storage.ChunkCodec;
+import org.spongepowered.common.world.storage.ChunkCompression;
+import org.spongepowered.common.world.storage.SpongeRegionFileCache;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.channels.ClosedChannelException;
+import java.util.List;
+
+import javax.annotation.Nullable;
+
+@Mixin(RegionFile.class)
+public abstract class MixinRegionFile implements IMixinRegionFile {
+
+    @Shadow private RandomAccessFile dataFile;
+    @Shadow private List<Boolean> sectorFree;
+    @Shadow @Final private File fileName;
+
+    // The codec id written in front of the chunk being written, only changed while holding the lock of the region file
+    private ChunkCodec writeCodec = ChunkCodec.ZLIB;
+    // Set while holding the lock of the region file, once closed by the region file cache
+    private volatile boolean closed;
+
+    @Shadow protected abstract void write(int x, int z, byte[] data, int length);
+
+    @Shadow private boolean outOfBounds(int x, int z) {
+        return false; // Shadowed
+    }
+
+    @Shadow private int getOffset(int x, int z) {
+        return 0; // Shadowed
+    }
+
+    // Reads chunks of every codec, decompressing with the inflater of the thread instead of a new one per chunk
+    @Inject(method = "getChunkDataInputStream", at = @At("HEAD"), cancellable = true)
+    private void onGetChunkDataInputStream(int x, int z, CallbackInfoReturnable<DataInputStream> cir) {
+        byte[] data = null;
+        try {
+            data = SpongeRegionFileCache.withRegionFile((RegionFile) (Object) this, regionFile -> ((IMixinRegionFile) regionFile).readChunk(x, z));
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Failed to read chunk {}, {} of region file {}", x, z, this.fileName, e);
+        }
+        cir.setReturnValue(data == null ? null : new DataInputStream(new ByteArrayInputStream(data)));
+    }
+
+    @Redirect(method = "write(I[BI)V", at = @At(value = "INVOKE", target = "Ljava/io/RandomAccessFile;writeByte(I)V"))
+    private void onWriteCodecId(RandomAccessFile file, int id) throws IOException {
+        file.writeByte(this.writeCodec.getId());
+    }
+
+    @Inject(method = "close", at = @At("HEAD"))
+    private void onClose(CallbackInfo ci) {
+        this.closed = true;
+    }
+
+    @Override
+    public File getFile() {
+        return this.fileName;
+    }
+
+    @Override
+    @Nullable
+    public synchronized byte[] readChunk(int x, int z) throws IOException {
+        if (this.closed) {
+            throw new ClosedChannelException();
+        }
+        if (this.outOfBounds(x, z)) {
+            return null;
+        }
+        final int offset = this.getOffset(x, z);
+        if (offset == 0) {
+            return null;
+        }
+        final int sector = offset >> 8;
+        final int sectors = offset & 255;
+        if (sector + sectors > this.sectorFree.size()) {
+            return null;
+        }
+        this.dataFile.seek(sector * 4096L);
+        final int length = this.dataFile.readInt();
+        if (length <= 0 || length > sectors * 4096) {
+            return null;
+        }
+        final int id = this.dataFile.readByte();
+        final ChunkCodec codec = ChunkCodec.byId(id);
+        if (codec == null) {
+            throw new IOException("Unknown chunk compression " + id);
+        }
+        final byte[] data = new byte[length - 1];
+        this.dataFile.readFully(data);
+        return ChunkCompression.decompress(codec, data);
+    }
+
+    @Override
+    public synchronized void writeChunk(int x, int z, byte[] data, int length, ChunkCodec codec) throws IOException {
+        if (this.closed) {
+            throw new ClosedChannelException();
+        }
+        if (!ChunkCompression.fits(length)) {
+            // RegionFile#write would silently skip it, losing the chunk
+            throw new IOException("Chunk " + x + ", " + z + " of region file " + this.fileName + " is too large to be saved (" + length + " bytes)");
+        }
+        this.writeCodec = codec;
+        try {
+            this.write(x, z, data, length);
+        } finally {
+            this.writeCodec = ChunkCodec.ZLIB;
+        }
+    }
+}
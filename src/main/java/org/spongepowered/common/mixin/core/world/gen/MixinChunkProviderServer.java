@@ -26,6 +26,7 @@
 
 import com.flowpowered.math.vector.Vector3i;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
 import net.minecraft.util.math.ChunkPos;
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.Chunk;
@@ -61,15 +62,21 @@
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.metrics.ServerMetrics;
+import org.spongepowered.common.metrics.WorldMetrics;
 import org.spongepowered.common.util.CachedLong2ObjectMap;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.SpongeEmptyChunk;
+import org.spongepowered.common.world.storage.ChunkLoadExecutor;
+import org.spongepowered.common.world.storage.ChunkLoadTask;
 import org.spongepowered.common.world.storage.SpongeChunkDataStream;
 import org.spongepowered.common.world.storage.WorldStorageUtil;
 
 import java.util.Iterator;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 @Mixin(ChunkProviderServer.class)
 public abstract class MixinChunkProviderServer implements WorldStorage, IMixinChunkProviderServer {
@@ -79,6 +86,12 @@ public abstract class MixinChunkProviderServer implements WorldStorage, IMixinCh
     private boolean forceChunkRequests = false;
     private long chunkUnloadDelay = 15000;
     private int maxChunkUnloads = 100;
+    // Chunks read off the main thread, waiting to be added to the world
+    private final Queue<ChunkLoadTask> readChunkLoads = new ConcurrentLinkedQueue<>();
+    // Chunks left to check in the current incremental auto-save round
+    private final LongArrayFIFOQueue autoSaveQueue = new LongArrayFIFOQueue();
+    private int autoSavePerTick;
+    private boolean autoSavingIncrementally;
 
     @Shadow @Final public WorldServer world;
     @Shadow @Final private IChunkLoader chunkLoader;
@@ -266,18 +279,20 @@ public long getChunkUnloadDelay() {
      * @author blood - October 20th, 2016
      * @reason Refactors entire method to not use the droppedChunksSet by
      * simply looping through all loaded chunks and determining whether it
-     * can unload or not.
+     * can unload or not. Also adds the chunks read off the main thread to
+     * the world.
      *
      * @return true if unload queue was processed
      */
     @Overwrite
     public boolean tick()
     {
+        this.finishChunkLoads();
+        int chunksUnloaded = 0;
         if (!this.world.disableLevelSaving)
         {
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.startTiming();
             Iterator<Chunk> iterator = this.id2ChunkMap.values().iterator();
-            int chunksUnloaded = 0;
             long now = System.currentTimeMillis();
             while (chunksUnloaded < this.maxChunkUnloads && iterator.hasNext()) {
                 Chunk chunk = iterator.next();
@@ -298,11 +313,101 @@ public boolean tick()
             }
             ((IMixinWorldServer) this.world).getTimingsHandler().doChunkUnload.stopTiming();
         }
+        // Published even if saving is disabled, the loaded chunks still change
+        final WorldMetrics metrics = ServerMetrics.INSTANCE.getWorld(((IMixinWorldServer) this.world).getDimensionId());
+        if (metrics != null) {
+            metrics.onChunksUnloaded(chunksUnloaded, this.id2ChunkMap.size());
+        }
 
         this.chunkLoader.chunkTick();
         return false;
     }
 
+    @Override
+    public boolean loadChunkAsync(int x, int z) {
+        if (!ChunkLoadExecutor.isEnabled() || !(this.chunkLoader instanceof IMixinAnvilChunkLoader)
+                || this.id2ChunkMap.containsKey(ChunkPos.asLong(x, z))) {
+            return false;
+        }
+        final IMixinAnvilChunkLoader loader = (IMixinAnvilChunkLoader) this.chunkLoader;
+        if (loader.getPendingLoad(x, z) == null) {
+            if (!loader.chunkExists(this.world, x, z)) {
+                return false;
+            }
+            loader.loadChunkAsync(x, z, this.readChunkLoads::add);
+        }
+        return true;
+    }
+
+    private void finishChunkLoads() {
+        if (this.readChunkLoads.isEmpty()) {
+            return;
+        }
+        ((IMixinWorldServer) this.world).getTimingsHandler().asyncChunkLoadFinishTimer.startTiming();
+        final IMixinAnvilChunkLoader loader = (IMixinAnvilChunkLoader) this.chunkLoader;
+        final long deadline = System.nanoTime() + ChunkLoadExecutor.getMainThreadBudgetNanos();
+        ChunkLoadTask task;
+        // At least one chunk is added every tick, so loading always progresses
+        while ((task = this.readChunkLoads.poll()) != null) {
+            // Chunks requested synchronously in the meantime were already added
+            if (loader.getPendingLoad(task.getX(), task.getZ()) == task) {
+                final Chunk chunk = this.loadChunk(task.getX(), task.getZ());
+                if (chunk != null && !this.world.getPlayerChunkMap().contains(task.getX(), task.getZ())) {
+                    // No player is waiting for the chunk anymore
+                    this.queueUnload(chunk);
+                }
+            }
+            if (System.nanoTime() >= deadline) {
+                break;
+            }
+        }
+        ((IMixinWorldServer) this.world).getTimingsHandler().asyncChunkLoadFinishTimer.stopTiming();
+    }
+
+    @Override
+    public void saveChunksIncrementally(int interval) {
+        if (this.autoSaveQueue.isEmpty()) {
+            // Start the next round, checking all chunks loaded now over the interval
+            for (Chunk chunk : this.id2ChunkMap.values()) {
+                this.autoSaveQueue.enqueue(ChunkPos.asLong(chunk.x, chunk.z));
+            }
+            this.autoSavePerTick = (this.autoSaveQueue.size() + interval - 1) / interval;
+        }
+        for (int i = 0; i < this.autoSavePerTick && !this.autoSaveQueue.isEmpty(); i++) {
+            // Chunks unloaded in the meantime were saved when they unloaded
+            final Chunk chunk = this.id2ChunkMap.get(this.autoSaveQueue.dequeueLong());
+            if (chunk != null) {
+                this.saveChunkExtraData(chunk);
+                if (chunk.needsSaving(true)) {
+                    this.saveChunkData(chunk);
+                    chunk.setModified(false);
+                }
+            }
+        }
+        final WorldMetrics metrics = ServerMetrics.INSTANCE.getWorld(((IMixinWorldServer) this.world).getDimensionId());
+        if (metrics != null) {
+            metrics.onAutoSave(this.autoSaveQueue.size());
+        }
+    }
+
+    @Override
+    public int getAutoSaveBacklog() {
+        return this.autoSaveQueue.size();
+    }
+
+    @Override
+    public void setAutoSavingIncrementally(boolean autoSaving) {
+        this.autoSavingIncrementally = autoSaving;
+    }
+
+    @Inject(method = "saveChunks", at = @At("HEAD"), cancellable = true)
+    private void onSaveChunks(boolean all, CallbackInfoReturnable<Boolean> cir) {
+        // Incremental auto-saves save the chunks spread over the interval instead
+        if (this.autoSavingIncrementally) {
+            cir.setReturnValue(true);
+        }
+    }
+
     // Copy of getLoadedChunk without marking chunk active.
     // This allows the chunk to unload if currently queued.
     @Override
@@ -24,6 +24,7 @@
  */
 package org.spongepowered.common.mixin.optimization.world;
 
+import co.aikar.timings.SpongeTimings;
 import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import net.minecraft.block.state.IBlockState;
 import net.minecraft.util.EnumFacing;
@@ -251,7 +252,9 @@ public boolean updateLightAsync(EnumSkyBlock lightType, BlockPos pos, @Nullable
         //System.out.println("size = " + ((ThreadPoolExecutor) this.lightExecutorService).getQueue().size());
         if (SpongeImpl.getServer().isCallingFromMinecraftThread()) {
             this.lightExecutorService.execute(() -> {
+                SpongeTimings.asyncLightingTimer.startTimingIfSync();
                 this.checkLightAsync(lightType, pos, chunk, neighbors);
+                SpongeTimings.asyncLightingTimer.stopTimingIfSync();
             });
         } else {
             this.checkLightAsync(lightType, pos, chunk, neighbors);
@@ -24,12 +24,12 @@
  */
 package org.spongepowered.common.scheduler;
 
-import org.spongepowered.api.scheduler.Task;
+import com.google.common.collect.Sets;
+import org.spongepowered.api.Sponge;
 import org.spongepowered.common.SpongeImpl;
 
 import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
@@ -39,12 +39,13 @@ public class AsyncScheduler extends SchedulerBase {
 
     // Adjustable timeout for pending Tasks
     private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
     // Locking mechanism
     private final Lock lock = new ReentrantLock();
     private final Condition condition = this.lock.newCondition();
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private final ExecutorService executor = Executors.newCachedThreadPool();
+    // The shared pool running the asynchronous tasks of all plugins.
+    private final AsyncTaskExecutor executor = new AsyncTaskExecutor(SpongeImpl.getGlobalConfig().getConfig().getScheduler());
+    // Tasks submitted on the main thread while their plugin's queue was full, which may not be turned away
+    private final Set<ScheduledTask> overflowTasks = Sets.newConcurrentHashSet();
 
     AsyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
@@ -55,61 +56,24 @@ public class AsyncScheduler extends SchedulerBase {
         thread.start();
     }
 
-    ExecutorService getExecutor() {
+    AsyncTaskExecutor getExecutor() {
         return this.executor;
     }
 
     private void mainLoop() {
-        this.lastProcessingTimestamp = System.nanoTime();
         while (true) {
-            recalibrateMinimumTimeout();
             this.runTick();
         }
     }
 
-    private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            Set<Task> tasks = this.getScheduledTasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            long now = System.nanoTime();
-            for (Task tmpTask : tasks) {
-                ScheduledTask task = (ScheduledTask) tmpTask;
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.offset == 0 && task.period == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
-
-                if (task.offset > 0 && task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an offset and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.offset - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.period > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.period - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                long latency = System.nanoTime() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
-            }
-        } finally {
-            this.lock.unlock();
-        }
-    }
-
     @Override
     protected void preTick() {
         this.lock.lock();
         try {
-            this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
+            // Tasks are only added while holding the lock, so none can slip in unnoticed between this check and waiting
+            if (!this.hasAddedTasks()) {
+                this.condition.await(this.minimumTimeout, TimeUnit.NANOSECONDS);
+            }
         } catch (InterruptedException ignored) {
             // The taskMap has been modified; there is work to do.
             // Continue on without handling the Exception.
@@ -118,23 +82,56 @@ protected void preTick() {
         }
     }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.nanoTime();
-    }
-
     @Override
     protected void finallyPostTick() {
+        // Sleep until the nearest task may be due, or until a task is added
+        this.minimumTimeout = this.getTimeUntilNextTask();
         this.lock.unlock();
     }
 
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
-        this.executor.submit(runnable);
+        if (this.overflowTasks.remove(task)) {
+            this.executor.executeOverCapacity(task.getOwner(), runnable);
+            return;
+        }
+        try {
+            this.executor.execute(task.getOwner(), runnable);
+        } catch (RejectedExecutionException e) {
+            if (task.period != 0L) {
+                // The next period runs it again, running it here would hold up the tasks of every other plugin
+                SpongeImpl.getLogger().warn("Skipped a run of the asynchronous task {} as {} has too many tasks waiting.", task.getName(),
+                        task.getOwner().getId());
+                if (task.getState() == ScheduledTask.ScheduledTaskState.SWITCHING) {
+                    task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
+                }
+            } else if (this.executor.callerRunsWhenFull()) {
+                // Accepted long before the queue filled up, so it is run late rather than not at all
+                this.executor.executeOverCapacity(task.getOwner(), runnable);
+            } else {
+                SpongeImpl.getLogger().error("Cancelled the delayed asynchronous task {} as {} has too many tasks waiting.", task.getName(),
+                        task.getOwner().getId());
+                task.cancel();
+            }
+        }
     }
 
     @Override
     protected void addTask(ScheduledTask task) {
+        if (task.offset == 0L && task.period == 0L && this.executor.isFull(task.getOwner())) {
+            // Push back on the submitting plugin, before the task even reaches the scheduler
+            if (!this.executor.callerRunsWhenFull()) {
+                throw new RejectedExecutionException("Too many waiting asynchronous tasks of " + task.getOwner().getId());
+            }
+            if (Sponge.isServerAvailable() && Sponge.getServer().isMainThread()) {
+                // Never run it on the main thread, whatever it blocks on would stall the tick.
+                // The lane holds it past its capacity instead, so the submission still succeeds.
+                this.overflowTasks.add(task);
+            } else {
+                this.runTask(task);
+                return;
+            }
+        }
         this.lock.lock();
         try {
             super.addTask(task);
@@ -144,4 +141,23 @@ protected void addTask(ScheduledTask task) {
         }
     }
 
+    @Override
+    protected void removeTask(ScheduledTask task) {
+        super.removeTask(task);
+        this.overflowTasks.remove(task);
+    }
+
+    private void runTask(ScheduledTask task) {
+        // Still tracked while it runs, so that it can be looked up and cancelled like any other task
+        this.trackTask(task);
+        try {
+            if (task.getState() != ScheduledTask.ScheduledTaskState.CANCELED) {
+                task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+                this.createTaskRunnable(task).run();
+            }
+        } finally {
+            this.removeTask(task);
+        }
+    }
+
 }
@@ -0,0 +1,245 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import com.google.common.collect.ImmutableMap;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.SchedulerCategory;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the asynchronous tasks of all plugins on one shared work-stealing
+ * pool. Every plugin has a {@link Lane} limiting how many of its tasks run
+ * at the same time, holding back the rest, and how many may wait at all.
+ */
+public final class AsyncTaskExecutor {
+
+    private final ForkJoinPool pool;
+    private final int defaultParallelism;
+    private final Map<String, Integer> pluginParallelism;
+    private final int queueCapacity;
+    private final boolean callerRuns;
+    private final Map<PluginContainer, Lane> lanes = new ConcurrentHashMap<>();
+
+    AsyncTaskExecutor(SchedulerCategory config) {
+        final int threads = config.getAsyncThreads() > 0 ? config.getAsyncThreads() : Runtime.getRuntime().availableProcessors() * 2;
+        final AtomicInteger threadCount = new AtomicInteger();
+        this.pool = new ForkJoinPool(threads, pool -> {
+            final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("Sponge - Async Task Thread #" + threadCount.getAndIncrement());
+            thread.setContextClassLoader(AsyncTaskExecutor.class.getClassLoader());
+            return thread;
+        }, (thread, throwable) -> SpongeImpl.getLogger().error("Uncaught exception in " + thread.getName(), throwable), true);
+        this.defaultParallelism = config.getDefaultPluginParallelism() > 0 ? config.getDefaultPluginParallelism() : Math.max(1, threads / 2);
+        this.pluginParallelism = ImmutableMap.copyOf(config.getPluginParallelism());
+        this.queueCapacity = config.getPluginQueueCapacity() > 0 ? config.getPluginQueueCapacity() : Integer.MAX_VALUE;
+        this.callerRuns = config.callerRunsWhenFull();
+    }
+
+    /**
+     * Gets whether a plugin submitting a task to a full queue runs it itself,
+     * rather than having the submission rejected. On the main thread, the task
+     * is queued past the capacity instead.
+     *
+     * @return True if the caller runs the task
+     */
+    boolean callerRunsWhenFull() {
+        return this.callerRuns;
+    }
+
+    /**
+     * Gets whether the given plugin has as many tasks waiting as it may.
+     *
+     * @param plugin The plugin
+     * @return True if no further tasks of the plugin are accepted
+     */
+    boolean isFull(PluginContainer plugin) {
+        return getLane(plugin).queued.get() >= this.queueCapacity;
+    }
+
+    /**
+     * Runs the task of the plugin as soon as the plugin has a free slot.
+     *
+     * @param plugin The plugin owning the task
+     * @param task The task
+     * @throws RejectedExecutionException If the plugin's queue is full
+     */
+    void execute(PluginContainer plugin, Runnable task) {
+        getLane(plugin).submit(task, false);
+    }
+
+    /**
+     * Runs the task of the plugin as soon as the plugin has a free slot, even
+     * if the plugin's queue is full already.
+     *
+     * @param plugin The plugin owning the task
+     * @param task The task
+     */
+    void executeOverCapacity(PluginContainer plugin, Runnable task) {
+        getLane(plugin).submit(task, true);
+    }
+
+    /**
+     * Gets the lanes of every plugin that submitted an asynchronous task.
+     *
+     * @return The lanes, by plugin
+     */
+    public Map<PluginContainer, Lane> getLanes() {
+        return ImmutableMap.copyOf(this.lanes);
+    }
+
+    private Lane getLane(PluginContainer plugin) {
+        return this.lanes.computeIfAbsent(plugin, p -> new Lane(this.pluginParallelism.getOrDefault(p.getId(), this.defaultParallelism)));
+    }
+
+    /**
+     * The tasks of a single plugin, along with their metrics.
+     */
+    public final class Lane {
+
+        private final int parallelism;
+        // Tasks held back while the plugin has all of its slots taken, guarded by the lane
+        private final Deque<Job> held = new ArrayDeque<>();
+        private int dispatched;
+        // Tasks accepted but not started yet, wherever they are waiting
+        final AtomicInteger queued = new AtomicInteger();
+        private final AtomicInteger active = new AtomicInteger();
+        private volatile long completed;
+        private volatile long rejected;
+        private volatile long totalWaitNanos;
+        private volatile long maxWaitNanos;
+
+        Lane(int parallelism) {
+            this.parallelism = parallelism <= 0 ? Integer.MAX_VALUE : parallelism;
+        }
+
+        void submit(Runnable task, boolean overCapacity) {
+            if (this.queued.incrementAndGet() > AsyncTaskExecutor.this.queueCapacity && !overCapacity) {
+                this.queued.decrementAndGet();
+                synchronized (this) {
+                    this.rejected++;
+                }
+                throw new RejectedExecutionException("Too many waiting asynchronous tasks");
+            }
+            final Job job = new Job(task);
+            synchronized (this) {
+                if (this.dispatched >= this.parallelism) {
+                    this.held.add(job);
+                    return;
+                }
+                this.dispatched++;
+            }
+            AsyncTaskExecutor.this.pool.execute(job);
+        }
+
+        void finish() {
+            final Job next;
+            synchronized (this) {
+                next = this.held.poll();
+                if (next == null) {
+                    this.dispatched--;
+                    return;
+                }
+            }
+            // Hand the slot straight over to the next held back task
+            AsyncTaskExecutor.this.pool.execute(next);
+        }
+
+        synchronized void record(long waitNanos) {
+            this.completed++;
+            this.totalWaitNanos += waitNanos;
+            if (waitNanos > this.maxWaitNanos) {
+                this.maxWaitNanos = waitNanos;
+            }
+        }
+
+        public int getParallelism() {
+            return this.parallelism;
+        }
+
+        public int getActive() {
+            return this.active.get();
+        }
+
+        public int getQueued() {
+            return this.queued.get();
+        }
+
+        public long getCompleted() {
+            return this.completed;
+        }
+
+        public long getRejected() {
+            return this.rejected;
+        }
+
+        /**
+         * Gets the average time the completed tasks waited before they started.
+         *
+         * @return The time, in nanoseconds
+         */
+        public long getAverageWaitNanos() {
+            final long completed = this.completed;
+            return completed == 0 ? 0 : this.totalWaitNanos / completed;
+        }
+
+        public long getMaxWaitNanos() {
+            return this.maxWaitNanos;
+        }
+
+        private final class Job implements Runnable {
+
+            private final Runnable task;
+            private final long submitTime = System.nanoTime();
+
+            Job(Runnable task) {
+                this.task = task;
+            }
+
+            @Override
+            public void run() {
+                final long waitNanos = System.nanoTime() - this.submitTime;
+                Lane.this.queued.decrementAndGet();
+                Lane.this.active.incrementAndGet();
+                try {
+                    this.task.run();
+                } finally {
+                    Lane.this.active.decrementAndGet();
+                    Lane.this.record(waitNanos);
+                    Lane.this.finish();
+                }
+            }
+        }
+    }
+}
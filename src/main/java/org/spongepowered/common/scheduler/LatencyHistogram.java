@@ -0,0 +1,100 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of durations in nanoseconds, counting them in fixed power of
+ * two buckets. Recording is lock free and allocation free, so it is safe to
+ * do from any thread on every task run.
+ */
+public final class LatencyHistogram {
+
+    // Bucket i counts the values below 2^i, and at least 2^(i - 1)
+    private static final int BUCKETS = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    public void record(long nanos) {
+        final long value = Math.max(0L, nanos);
+        this.buckets.incrementAndGet(Math.min(BUCKETS - 1, 64 - Long.numberOfLeadingZeros(value)));
+        this.count.increment();
+        this.total.add(value);
+        this.max.accumulateAndGet(value, Math::max);
+    }
+
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    /**
+     * Gets the sum of all recorded values.
+     *
+     * @return The sum in nanoseconds
+     */
+    public long getTotal() {
+        return this.total.sum();
+    }
+
+    public long getMax() {
+        return this.max.get();
+    }
+
+    public long getMean() {
+        final long count = this.count.sum();
+        return count == 0 ? 0L : this.total.sum() / count;
+    }
+
+    /**
+     * Gets an upper bound of the given percentile of the recorded values,
+     * which is at most twice the actual value.
+     *
+     * @param percentile The percentile, between 0 and 1
+     * @return The value in nanoseconds
+     */
+    public long getPercentile(double percentile) {
+        final long count = this.count.sum();
+        if (count == 0) {
+            return 0L;
+        }
+        final long rank = Math.max(1L, (long) Math.ceil(percentile * count));
+        long seen = 0L;
+        for (int i = 0; i < BUCKETS; i++) {
+            seen += this.buckets.get(i);
+            if (seen >= rank) {
+                // Never report more than the largest value seen
+                return i == 0 ? 0L : Math.min(this.max.get(), (1L << i) - 1);
+            }
+        }
+        return this.max.get();
+    }
+
+}
@@ -33,9 +33,12 @@
 import org.spongepowered.api.scheduler.Task;
 
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.concurrent.TimeUnit;
 
+import javax.annotation.Nullable;
+
 /**
  * An internal representation of a {@link Task} created by a plugin.
  */
@@ -54,6 +57,24 @@ public class ScheduledTask implements Task {
     private final TaskSynchronicity syncType;
     private final String stringRepresentation;
     private Timing taskTimer;
+    @Nullable private SchedulerBase scheduler;
+    private final TaskStatistics statistics = new TaskStatistics();
+    // The runs of the task going on right now, more than one if they overlap
+    final AtomicInteger running = new AtomicInteger();
+    // How late the run being started is, in nanoseconds
+    long lateness;
+
+    // Timing wheel links, only touched by the thread ticking the scheduler
+    @Nullable TimingWheel wheel;
+    @Nullable ScheduledTask wheelPrev;
+    @Nullable ScheduledTask wheelNext;
+    long wheelDeadline;
+    int wheelLevel;
+    int wheelSlot;
+
+    // Sliced run state, only touched by the thread ticking the scheduler
+    boolean slicing;
+    long sliceDebt;
 
     // Internal Task state. Not for user-service use.
     public enum ScheduledTaskState {
@@ -133,6 +154,9 @@ public boolean cancel() {
             success = true;
         }
         this.setState(ScheduledTask.ScheduledTaskState.CANCELED);
+        if (this.scheduler != null) {
+            this.scheduler.cancelTask(this);
+        }
         return success;
     }
 
@@ -141,6 +165,14 @@ public Consumer<Task> getConsumer() {
         return this.consumer;
     }
 
+    public TaskStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    boolean isSliced() {
+        return this.consumer instanceof SlicedTask;
+    }
+
     @Override
     public UUID getUniqueId() {
         return this.id;
@@ -178,6 +210,10 @@ void setTimestamp(long timestamp) {
         this.timestamp = timestamp;
     }
 
+    void setScheduler(SchedulerBase scheduler) {
+        this.scheduler = scheduler;
+    }
+
     ScheduledTaskState getState() {
         return this.state;
     }
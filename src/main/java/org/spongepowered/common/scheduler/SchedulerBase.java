@@ -33,17 +33,35 @@
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.common.SpongeImpl;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Queue;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
 
 abstract class SchedulerBase {
 
-    // The simple queue of all pending (and running) ScheduledTasks
+    // Real time is kept in the wheel at this resolution, tasks are due at the start of the next step after their time
+    private static final long TIME_WHEEL_RESOLUTION_NS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    // All pending (and running) ScheduledTasks, by id
     private final Map<UUID, ScheduledTask> taskMap = Maps.newConcurrentMap();
+    // Tasks added and cancelled from any thread, handed to the wheel on the next tick
+    private final Queue<ScheduledTask> addedTasks = new ConcurrentLinkedQueue<>();
+    private final Queue<ScheduledTask> cancelledTasks = new ConcurrentLinkedQueue<>();
+    // The wheel of tasks timed in real time, in steps of TIME_WHEEL_RESOLUTION_NS since timeOrigin
+    private final long timeOrigin = System.nanoTime();
+    private final TimingWheel timeWheel = new TimingWheel(0L);
+    private final List<ScheduledTask> dueTasks = new ArrayList<>();
     private long sequenceNumber = 0L;
     private final String taskNameFmt;
+    private final Map<String, TaskStatistics> pluginStatistics = new ConcurrentHashMap<>();
 
     protected SchedulerBase(ScheduledTask.TaskSynchronicity type) {
         this.taskNameFmt = "%s-" + (type == ScheduledTask.TaskSynchronicity.SYNCHRONOUS ? "S" : "A") + "-%d";
@@ -75,7 +93,19 @@ protected long getTimestamp(ScheduledTask task) {
      * @param task The task to add
      */
     protected void addTask(ScheduledTask task) {
+        this.trackTask(task);
+        this.addedTasks.add(task);
+    }
+
+    /**
+     * Adds the task to the task map only, for a task run outside of
+     * {@link #runTick}. It has to be removed again once it has run.
+     *
+     * @param task The task to track
+     */
+    protected void trackTask(ScheduledTask task) {
         task.setTimestamp(this.getTimestamp(task));
+        task.setScheduler(this);
         this.taskMap.put(task.getUniqueId(), task);
     }
 
@@ -88,6 +118,21 @@ protected void removeTask(ScheduledTask task) {
         this.taskMap.remove(task.getUniqueId());
     }
 
+    /**
+     * Removes the cancelled task from the task map right away, and from the
+     * wheel on the next tick.
+     *
+     * @param task The cancelled task
+     */
+    void cancelTask(ScheduledTask task) {
+        this.removeTask(task);
+        this.cancelledTasks.add(task);
+    }
+
+    protected boolean hasAddedTasks() {
+        return !this.addedTasks.isEmpty();
+    }
+
     protected Optional<Task> getTask(UUID id) {
         return Optional.<Task>ofNullable(this.taskMap.get(id));
     }
@@ -99,15 +144,35 @@ protected Set<Task> getScheduledTasks() {
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     protected final void runTick() {
         this.preTick();
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.startTimingIfSync();
+        int processed = 0;
         try {
-            this.taskMap.values().forEach(this::processTask);
+            ScheduledTask task;
+            while ((task = this.cancelledTasks.poll()) != null) {
+                if (task.wheel != null) {
+                    task.wheel.remove(task);
+                }
+            }
+            while ((task = this.addedTasks.poll()) != null) {
+                if (task.getState() != ScheduledTask.ScheduledTaskState.CANCELED) {
+                    this.scheduleTask(task);
+                }
+            }
+            this.collectDueTasks(this.dueTasks);
+            for (; processed < this.dueTasks.size(); processed++) {
+                this.processTask(this.dueTasks.get(processed));
+            }
             this.postTick();
         } finally {
+            // Tasks not reached due to an error are still due, and get another go with the next tick
+            for (int i = processed; i < this.dueTasks.size(); i++) {
+                this.scheduleTask(this.dueTasks.get(i));
+            }
+            this.dueTasks.clear();
             this.finallyPostTick();
         }
         TimingsManager.PLUGIN_SCHEDULER_HANDLER.stopTimingIfSync();
@@ -133,7 +198,100 @@ protected void finallyPostTick() {
     }
 
     /**
-     * Processes the task.
+     * Puts the task in the wheel it is timed by, to be due once its delay,
+     * or its interval if it has run already, has passed since its timestamp.
+     *
+     * @param task The task to schedule
+     */
+    protected void scheduleTask(ScheduledTask task) {
+        this.timeWheel.add(task, this.toWheelTime(this.getDeadline(task), true));
+    }
+
+    /**
+     * Advances the wheels to now, collecting the tasks that have become due.
+     *
+     * @param dueTasks The list to add the due tasks to
+     */
+    protected void collectDueTasks(List<ScheduledTask> dueTasks) {
+        this.timeWheel.advance(this.toWheelTime(System.nanoTime(), false), dueTasks);
+    }
+
+    /**
+     * Gets the time until the next task in the real time wheel may be due.
+     *
+     * @return The time in nanoseconds, or {@link Long#MAX_VALUE} if there are
+     *     no such tasks
+     */
+    protected long getTimeUntilNextTask() {
+        final long next = this.timeWheel.nextExpiry();
+        if (next == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, this.timeOrigin + next * TIME_WHEEL_RESOLUTION_NS - System.nanoTime());
+    }
+
+    /**
+     * Converts time elapsed for the task, as measured by
+     * {@link #getTimestamp}, to nanoseconds.
+     *
+     * @param task The task
+     * @param elapsed The elapsed time
+     * @return The elapsed time in nanoseconds
+     */
+    protected long toNanos(ScheduledTask task, long elapsed) {
+        return elapsed;
+    }
+
+    /**
+     * Gets the statistics of the tasks of each plugin, by plugin id.
+     *
+     * @return The statistics
+     */
+    Map<String, TaskStatistics> getPluginStatistics() {
+        return Collections.unmodifiableMap(this.pluginStatistics);
+    }
+
+    protected final void recordLateness(ScheduledTask task, long nanos) {
+        task.getStatistics().getLateness().record(nanos);
+        this.getPluginStatistics(task).getLateness().record(nanos);
+    }
+
+    protected final void recordDuration(ScheduledTask task, long nanos) {
+        task.getStatistics().getDuration().record(nanos);
+        this.getPluginStatistics(task).getDuration().record(nanos);
+    }
+
+    protected final void recordRun(ScheduledTask task) {
+        task.getStatistics().recordRun();
+        this.getPluginStatistics(task).recordRun();
+    }
+
+    protected final void recordOverlap(ScheduledTask task) {
+        task.getStatistics().recordOverlap();
+        this.getPluginStatistics(task).recordOverlap();
+    }
+
+    private TaskStatistics getPluginStatistics(ScheduledTask task) {
+        return this.pluginStatistics.computeIfAbsent(task.getOwner().getId(), id -> new TaskStatistics());
+    }
+
+    protected final long getDeadline(ScheduledTask task) {
+        final long threshold = task.getState() == ScheduledTask.ScheduledTaskState.WAITING ? task.offset : task.period;
+        final long deadline = task.getTimestamp() + threshold;
+        // Saturate rather than wrap around into the past for absurdly long delays
+        return deadline < task.getTimestamp() ? Long.MAX_VALUE : deadline;
+    }
+
+    private long toWheelTime(long nanoTime, boolean roundUp) {
+        if (nanoTime == Long.MAX_VALUE) {
+            return Long.MAX_VALUE;
+        }
+        final long elapsed = nanoTime - this.timeOrigin;
+        return roundUp ? -Math.floorDiv(-elapsed, TIME_WHEEL_RESOLUTION_NS) : Math.floorDiv(elapsed, TIME_WHEEL_RESOLUTION_NS);
+    }
+
+    /**
+     * Processes a task taken out of the wheel.
      *
      * @param task The task to process
      */
@@ -160,14 +318,20 @@ protected void processTask(ScheduledTask task) {
         // If the task has a period of 0 (zero) this task will not repeat, and
         // is removed after we start it.
         if (threshold <= (now - task.getTimestamp())) {
+            task.lateness = this.toNanos(task, now - task.getTimestamp() - threshold);
             task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
             task.setTimestamp(this.getTimestamp(task));
             startTask(task);
             // If task is one time shot, remove it from the map.
             if (task.period == 0L) {
                 this.removeTask(task);
+                return;
             }
         }
+        // Wait for the next run, unless the task was cancelled in the meantime
+        if (task.getState() != ScheduledTask.ScheduledTaskState.CANCELED) {
+            this.scheduleTask(task);
+        }
     }
 
     /**
@@ -176,7 +340,26 @@ protected void processTask(ScheduledTask task) {
      * @param task The task to start
      */
     protected void startTask(final ScheduledTask task) {
-        this.executeTaskRunnable(task, () -> {
+        this.executeTaskRunnable(task, this.createTaskRunnable(task));
+    }
+
+    /**
+     * Creates the runnable running the task once, catching and logging any
+     * exceptions.
+     *
+     * @param task The task to run
+     * @return The runnable
+     */
+    protected Runnable createTaskRunnable(final ScheduledTask task) {
+        final long lateness = task.lateness;
+        final long dispatched = System.nanoTime();
+        return () -> {
+            final long start = System.nanoTime();
+            // Time spent waiting for an asynchronous thread makes the run later still
+            this.recordLateness(task, lateness + start - dispatched);
+            if (task.running.getAndIncrement() > 0) {
+                this.recordOverlap(task);
+            }
             task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
             if(!task.isAsynchronous()) {
                 Sponge.getCauseStackManager().pushCause(task.getOwner());
@@ -192,7 +375,10 @@ protected void startTask(final ScheduledTask task) {
                 Sponge.getCauseStackManager().popCause();
             }
             task.getTimingsHandler().stopTimingIfSync();
-        });
+            task.running.decrementAndGet();
+            this.recordDuration(task, System.nanoTime() - start);
+            this.recordRun(task);
+        };
     }
 
     /**
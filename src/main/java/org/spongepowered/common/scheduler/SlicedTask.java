@@ -0,0 +1,64 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import org.spongepowered.api.scheduler.Task;
+
+import java.util.function.Consumer;
+
+/**
+ * A task consumer doing its work in slices, spread over as many ticks as it
+ * takes. Passing one to {@link Task.Builder#execute(Consumer)} of a
+ * synchronous task makes the scheduler give it a share of the per tick
+ * sliced task budget until it reports that its work is done.
+ *
+ * <p>A slice should return once the given budget has been used up. The
+ * scheduler can't interrupt a slice, but a slice overrunning its budget has
+ * the overrun taken off its next slices.</p>
+ *
+ * <p>A repeating sliced task doesn't start its next run while its previous
+ * run still has work pending. Asynchronous tasks run all slices at once.</p>
+ */
+@FunctionalInterface
+public interface SlicedTask extends Consumer<Task> {
+
+    /**
+     * Runs the next slice of work.
+     *
+     * @param task The task being run
+     * @param budgetNanos The time in nanoseconds this slice may take
+     * @return True if there is more work pending for the next tick, false if
+     *     this run of the task is done
+     */
+    boolean runSlice(Task task, long budgetNanos);
+
+    @Override
+    default void accept(Task task) {
+        while (this.runSlice(task, Long.MAX_VALUE)) {
+            // Keep going until all work is done
+        }
+    }
+
+}
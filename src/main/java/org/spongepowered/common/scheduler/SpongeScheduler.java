@@ -36,8 +36,10 @@
 import org.spongepowered.api.scheduler.SpongeExecutorService;
 import org.spongepowered.api.scheduler.Task;
 import org.spongepowered.api.util.Functional;
+import org.spongepowered.common.SpongeImpl;
 
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -183,6 +185,20 @@ public void tickSyncScheduler() {
     }
 
     public <T> CompletableFuture<T> submitAsyncTask(Callable<T> callable) {
-        return Functional.asyncFailableFuture(callable, this.asyncScheduler.getExecutor());
+        return Functional.asyncFailableFuture(callable, runnable -> this.asyncScheduler.getExecutor().execute(SpongeImpl.getPlugin(), runnable));
+    }
+
+    /**
+     * Gets the statistics of the tasks of each plugin, by plugin id.
+     *
+     * @param async Whether to get the statistics of asynchronous tasks
+     * @return The statistics
+     */
+    public Map<String, TaskStatistics> getPluginStatistics(boolean async) {
+        return async ? this.asyncScheduler.getPluginStatistics() : this.syncScheduler.getPluginStatistics();
+    }
+
+    public AsyncTaskExecutor getAsyncTaskExecutor() {
+        return this.asyncScheduler.getExecutor();
     }
 }
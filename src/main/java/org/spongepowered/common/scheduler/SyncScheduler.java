@@ -24,13 +24,30 @@
  */
 package org.spongepowered.common.scheduler;
 
+import co.aikar.timings.TimingsManager;
+
+import org.spongepowered.api.Sponge;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.SchedulerCategory;
 import org.spongepowered.common.event.tracking.phase.plugin.BasicPluginContext;
 import org.spongepowered.common.event.tracking.phase.plugin.PluginPhase;
 
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
 public class SyncScheduler extends SchedulerBase {
 
+    private static final long NANOS_PER_MILLI = TimeUnit.MILLISECONDS.toNanos(1);
+    private static final long TICK_DURATION_NS = TimeUnit.MILLISECONDS.toNanos(50);
+
     // The number of ticks elapsed since this scheduler began.
     private volatile long counter = 0L;
+    // The wheel of tasks timed in ticks
+    private final TimingWheel tickWheel = new TimingWheel(0L);
+    // The sliced tasks with work pending, in the order they get their next slice
+    private final Deque<ScheduledTask> slicedTasks = new ArrayDeque<>();
 
     SyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.SYNCHRONOUS);
@@ -62,6 +79,121 @@ protected long getTimestamp(ScheduledTask task) {
         return 0L;
     }
 
+    @Override
+    protected void scheduleTask(ScheduledTask task) {
+        final boolean isTicks = task.getState() == ScheduledTask.ScheduledTaskState.WAITING ? task.delayIsTicks : task.intervalIsTicks;
+        if (isTicks) {
+            this.tickWheel.add(task, this.getDeadline(task));
+        } else {
+            super.scheduleTask(task);
+        }
+    }
+
+    @Override
+    protected long toNanos(ScheduledTask task, long elapsed) {
+        final boolean isTicks = task.getState() == ScheduledTask.ScheduledTaskState.WAITING ? task.delayIsTicks : task.intervalIsTicks;
+        return isTicks ? elapsed * TICK_DURATION_NS : elapsed;
+    }
+
+    @Override
+    protected void collectDueTasks(List<ScheduledTask> dueTasks) {
+        this.tickWheel.advance(this.counter, dueTasks);
+        super.collectDueTasks(dueTasks);
+    }
+
+    @Override
+    protected void startTask(ScheduledTask task) {
+        if (!task.isSliced()) {
+            super.startTask(task);
+            return;
+        }
+        if (!task.slicing) {
+            task.slicing = true;
+            this.slicedTasks.add(task);
+            this.recordLateness(task, task.lateness);
+        } else {
+            this.recordOverlap(task);
+        }
+        // A run still in progress just carries on instead of starting over
+        task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
+    }
+
+    @Override
+    protected void postTick() {
+        if (this.slicedTasks.isEmpty()) {
+            return;
+        }
+        final long budgetEnd = System.nanoTime() + this.getSlicedTaskBudget();
+        for (int remaining = this.slicedTasks.size(); remaining > 0; remaining--) {
+            final ScheduledTask task = this.slicedTasks.poll();
+            if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+                task.slicing = false;
+                continue;
+            }
+            // Split what is left evenly, so time left over by tasks finishing early goes to the tasks after them
+            final long start = System.nanoTime();
+            final long share = Math.max(0L, budgetEnd - start) / remaining;
+            if (task.sliceDebt >= share) {
+                task.sliceDebt -= share;
+                this.slicedTasks.add(task);
+                continue;
+            }
+            final long slice = share - task.sliceDebt;
+            final boolean pending = this.runSlice(task, slice);
+            final long took = System.nanoTime() - start;
+            this.recordDuration(task, took);
+            final long overrun = took - slice;
+            task.sliceDebt = Math.max(0L, overrun);
+            if (pending && task.getState() != ScheduledTask.ScheduledTaskState.CANCELED) {
+                this.slicedTasks.add(task);
+            } else {
+                if (!pending) {
+                    this.recordRun(task);
+                }
+                task.slicing = false;
+                task.sliceDebt = 0L;
+            }
+        }
+    }
+
+    /**
+     * Gets the time the sliced tasks may take together this tick. The
+     * configured budget shrinks to what is left of the current tick, and in
+     * proportion to how long the last tick ran over.
+     *
+     * @return The budget in nanoseconds
+     */
+    private long getSlicedTaskBudget() {
+        final SchedulerCategory config = SpongeImpl.getGlobalConfig().getConfig().getScheduler();
+        long budget = (long) (config.getSlicedTaskBudget() * NANOS_PER_MILLI);
+        budget = Math.min(budget, TICK_DURATION_NS - TimingsManager.FULL_SERVER_TICK.getTickElapsedNanos());
+        final long lastTick = TimingsManager.FULL_SERVER_TICK.getLastTickNanos();
+        if (lastTick > TICK_DURATION_NS) {
+            budget = budget * TICK_DURATION_NS / lastTick;
+        }
+        return Math.max(budget, (long) (config.getSlicedTaskMinBudget() * NANOS_PER_MILLI));
+    }
+
+    private boolean runSlice(ScheduledTask task, long budget) {
+        final SlicedTask consumer = (SlicedTask) task.getConsumer();
+        boolean pending = false;
+        try (BasicPluginContext context = PluginPhase.State.SCHEDULED_TASK.createPhaseContext()
+                .source(task)
+                .buildAndSwitch()) {
+            Sponge.getCauseStackManager().pushCause(task.getOwner());
+            task.getTimingsHandler().startTimingIfSync();
+            try {
+                pending = consumer.runSlice(task, budget);
+            } catch (Throwable t) {
+                SpongeImpl.getLogger().error("The Scheduler tried to run a slice of the task {} owned by {}, but an error occured.",
+                        task.getName(), task.getOwner(), t);
+            }
+            task.getTimingsHandler().stopTimingIfSync();
+            Sponge.getCauseStackManager().popCause();
+        }
+        return pending;
+    }
+
     @Override
     protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         try (BasicPluginContext context = PluginPhase.State.SCHEDULED_TASK.createPhaseContext()
@@ -0,0 +1,86 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The statistics of the runs of a task, or of all tasks of a plugin.
+ */
+public final class TaskStatistics {
+
+    private final LatencyHistogram lateness = new LatencyHistogram();
+    private final LatencyHistogram duration = new LatencyHistogram();
+    private final LongAdder runs = new LongAdder();
+    private final LongAdder overlaps = new LongAdder();
+
+    /**
+     * Gets how late runs started, compared to when they were due. For
+     * asynchronous tasks this includes the time spent waiting for a thread.
+     *
+     * @return The lateness histogram
+     */
+    public LatencyHistogram getLateness() {
+        return this.lateness;
+    }
+
+    /**
+     * Gets how long the runs took. Sliced tasks record every slice on its
+     * own, so the count of this histogram isn't the amount of runs.
+     *
+     * @return The duration histogram
+     */
+    public LatencyHistogram getDuration() {
+        return this.duration;
+    }
+
+    /**
+     * Gets how many runs were completed. A run of a sliced task only counts
+     * once its last slice is done.
+     *
+     * @return The amount of completed runs
+     */
+    public long getRuns() {
+        return this.runs.sum();
+    }
+
+    /**
+     * Gets how often a run started while the previous run was still going.
+     *
+     * @return The amount of overlapping runs
+     */
+    public long getOverlaps() {
+        return this.overlaps.sum();
+    }
+
+    void recordRun() {
+        this.runs.increment();
+    }
+
+    void recordOverlap() {
+        this.overlaps.increment();
+    }
+
+}
@@ -0,0 +1,237 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import java.util.Collection;
+
+/**
+ * A hierarchical timing wheel of {@link ScheduledTask}s, keyed by an abstract
+ * unit of time such as ticks or milliseconds.
+ *
+ * <p>Each level has 64 slots, and every slot of a level spans a whole
+ * revolution of the level below it. Tasks are put in the lowest level that
+ * can hold their deadline and move down a level each time the wheel reaches
+ * their slot, so advancing the wheel only touches tasks that are due or about
+ * to be moved closer. Tasks are linked into their slot directly, making
+ * removal constant time.</p>
+ *
+ * <p>The wheel is not thread safe, it must only be used from the thread
+ * ticking its scheduler.</p>
+ */
+final class TimingWheel {
+
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 6;
+    // Anything further away is parked at the furthest slot, and placed again once it is reached
+    private static final long MAX_DELTA = (1L << (SLOT_BITS * LEVELS)) - 1;
+
+    private final ScheduledTask[][] slots = new ScheduledTask[LEVELS][SLOTS];
+    // One bit per slot for every level, set if the slot holds any task
+    private final long[] occupied = new long[LEVELS];
+    // The next unit of time to be processed
+    private long current;
+    private int size;
+
+    TimingWheel(long start) {
+        this.current = start;
+    }
+
+    /**
+     * Adds the task to expire once the wheel is advanced to the given
+     * deadline. A deadline that has already passed expires with the next
+     * advance.
+     *
+     * @param task The task, not already in a wheel
+     * @param deadline The deadline
+     */
+    void add(ScheduledTask task, long deadline) {
+        task.wheel = this;
+        task.wheelDeadline = deadline;
+        link(task);
+        this.size++;
+    }
+
+    /**
+     * Removes the task, if it is in this wheel.
+     *
+     * @param task The task
+     */
+    void remove(ScheduledTask task) {
+        if (task.wheel != this) {
+            return;
+        }
+        unlink(task);
+        task.wheel = null;
+        this.size--;
+    }
+
+    /**
+     * Advances the wheel up to and including the given time, removing every
+     * task whose deadline has been reached.
+     *
+     * @param now The time to advance to
+     * @param expired The collection to add the expired tasks to
+     */
+    void advance(long now, Collection<ScheduledTask> expired) {
+        while (this.size != 0) {
+            final long time = this.nextEvent(this.current);
+            if (time > now) {
+                break;
+            }
+            this.current = time;
+            final int slot = (int) time & SLOT_MASK;
+            if (slot == 0) {
+                cascade();
+            }
+            ScheduledTask task = this.slots[0][slot];
+            if (task != null) {
+                this.slots[0][slot] = null;
+                this.occupied[0] &= ~(1L << slot);
+                while (task != null) {
+                    final ScheduledTask next = task.wheelNext;
+                    task.wheel = null;
+                    task.wheelPrev = null;
+                    task.wheelNext = null;
+                    this.size--;
+                    expired.add(task);
+                    task = next;
+                }
+            }
+            this.current = time + 1;
+        }
+        // Nothing else happens up to now, and a task may still be added for any time after it
+        this.current = Math.max(this.current, now + 1);
+    }
+
+    /**
+     * Gets the earliest time at which the wheel could have expired tasks, which
+     * may be early if the nearest tasks are still waiting in a higher level.
+     *
+     * @return The time, or {@link Long#MAX_VALUE} if the wheel is empty
+     */
+    long nextExpiry() {
+        if (this.size == 0) {
+            return Long.MAX_VALUE;
+        }
+        return this.nextEvent(this.current);
+    }
+
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * Gets the first time from the given time on at which either a slot of the
+     * lowest level expires, or a slot of a higher level is moved down.
+     */
+    private long nextEvent(long from) {
+        long next = Long.MAX_VALUE;
+        for (int level = 0; level < LEVELS; level++) {
+            final long occupied = this.occupied[level];
+            if (occupied == 0L) {
+                continue;
+            }
+            final int shift = SLOT_BITS * level;
+            // The first revolution of the level below starting from the given time on
+            final long revolution = (from + (1L << shift) - 1) >>> shift;
+            final int index = (int) revolution & SLOT_MASK;
+            final int ahead = Long.numberOfTrailingZeros(Long.rotateRight(occupied, index));
+            next = Math.min(next, (revolution + ahead) << shift);
+        }
+        return next;
+    }
+
+    private void cascade() {
+        // Find how many levels complete a revolution at this time, then move their
+        // current slots down, starting from the highest
+        int top = 1;
+        while (top < LEVELS - 1 && ((this.current >>> (SLOT_BITS * top)) & SLOT_MASK) == 0) {
+            top++;
+        }
+        for (int level = top; level >= 1; level--) {
+            final int slot = (int) (this.current >>> (SLOT_BITS * level)) & SLOT_MASK;
+            ScheduledTask task = this.slots[level][slot];
+            if (task == null) {
+                continue;
+            }
+            this.slots[level][slot] = null;
+            this.occupied[level] &= ~(1L << slot);
+            while (task != null) {
+                final ScheduledTask next = task.wheelNext;
+                task.wheelPrev = null;
+                task.wheelNext = null;
+                link(task);
+                task = next;
+            }
+        }
+    }
+
+    private void link(ScheduledTask task) {
+        long deadline = task.wheelDeadline;
+        long delta = deadline - this.current;
+        if (delta < 0) {
+            deadline = this.current;
+            delta = 0;
+        } else if (delta > MAX_DELTA) {
+            deadline = this.current + MAX_DELTA;
+            delta = MAX_DELTA;
+        }
+        int level = 0;
+        while (delta >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        final int slot = (int) (deadline >>> (SLOT_BITS * level)) & SLOT_MASK;
+        final ScheduledTask head = this.slots[level][slot];
+        task.wheelLevel = level;
+        task.wheelSlot = slot;
+        task.wheelPrev = null;
+        task.wheelNext = head;
+        if (head != null) {
+            head.wheelPrev = task;
+        }
+        this.slots[level][slot] = task;
+        this.occupied[level] |= 1L << slot;
+    }
+
+    private void unlink(ScheduledTask task) {
+        final ScheduledTask prev = task.wheelPrev;
+        final ScheduledTask next = task.wheelNext;
+        if (next != null) {
+            next.wheelPrev = prev;
+        }
+        if (prev != null) {
+            prev.wheelNext = next;
+        } else {
+            this.slots[task.wheelLevel][task.wheelSlot] = next;
+            if (next == null) {
+                this.occupied[task.wheelLevel] &= ~(1L << task.wheelSlot);
+            }
+        }
+        task.wheelPrev = null;
+        task.wheelNext = null;
+    }
+}
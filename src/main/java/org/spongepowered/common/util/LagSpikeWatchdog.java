@@ -0,0 +1,320 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.util;
+
+import co.aikar.timings.FullServerTickHandler;
+import co.aikar.timings.TimingsManager;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.LagSpikeCategory;
+import org.spongepowered.common.event.tracking.PhaseData;
+import org.spongepowered.common.event.tracking.PhaseTracker;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+
+import javax.annotation.Nullable;
+
+/**
+ * Watches the server thread for ticks taking longer than the configured
+ * threshold. While such a tick runs, the stack of the server thread is
+ * sampled until the tick ends, and the samples are merged into a call tree
+ * written to the lag spike directory.
+ *
+ * <p>While ticks are fast, the watchdog only wakes up once per tick to find
+ * out when the tick would become slow.</p>
+ */
+public final class LagSpikeWatchdog implements Runnable {
+
+    private static final DateTimeFormatter FILE_DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd_HH.mm.ss");
+    private static final String FILE_PREFIX = "spike-";
+    // Frames with fewer samples than this share of the spike are left out of the tree
+    private static final double TREE_CUTOFF = 0.005;
+
+    private static final Deque<LagSpike> SPIKES = new ConcurrentLinkedDeque<>();
+    @Nullable private static Thread thread;
+
+    private final LagSpikeCategory config;
+    private final long threshold;
+    private final long sampleInterval;
+
+    private LagSpikeWatchdog(LagSpikeCategory config) {
+        this.config = config;
+        this.threshold = TimeUnit.MILLISECONDS.toNanos(Math.max(1, config.getThreshold()));
+        this.sampleInterval = Math.max(1, config.getSampleInterval());
+    }
+
+    public static synchronized void start() {
+        final LagSpikeCategory config = SpongeImpl.getGlobalConfig().getConfig().getLagSpikeWatchdog();
+        if (!config.isEnabled() || thread != null) {
+            return;
+        }
+        thread = new Thread(new LagSpikeWatchdog(config), "Sponge - Lag Spike Watchdog");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    public static synchronized void stop() {
+        if (thread != null) {
+            thread.interrupt();
+            thread = null;
+        }
+    }
+
+    /**
+     * Gets the recent lag spikes, oldest first.
+     *
+     * @return The lag spikes
+     */
+    public static Collection<LagSpike> getSpikes() {
+        return Collections.unmodifiableCollection(new ArrayList<>(SPIKES));
+    }
+
+    @Override
+    public void run() {
+        final FullServerTickHandler tick = TimingsManager.FULL_SERVER_TICK;
+        // Ticks normally start every 50ms, so there is no point in looking more often in between
+        final long idleSleep = Math.min(TimeUnit.NANOSECONDS.toMillis(this.threshold), 50L);
+        long sampledTick = 0L;
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final long tickStart = tick.getTickStartNanos();
+                final Thread tickThread = tick.getTickThread();
+                if (!tick.isTicking() || tickThread == null || tickStart == sampledTick) {
+                    Thread.sleep(idleSleep);
+                    continue;
+                }
+                final long elapsed = System.nanoTime() - tickStart;
+                if (elapsed < this.threshold) {
+                    TimeUnit.NANOSECONDS.sleep(this.threshold - elapsed);
+                    continue;
+                }
+                sampledTick = tickStart;
+                this.sample(tick, tickThread, tickStart);
+            }
+        } catch (InterruptedException e) {
+            // Stopped along with the server
+        }
+    }
+
+    private void sample(FullServerTickHandler tick, Thread tickThread, long tickStart) throws InterruptedException {
+        final String phase = describePhase();
+        final StackNode root = new StackNode("Server tick");
+        while (tick.isTicking() && tick.getTickStartNanos() == tickStart && root.samples < this.config.getMaxSamples()) {
+            root.add(tickThread.getStackTrace());
+            Thread.sleep(this.sampleInterval);
+        }
+        if (root.samples == 0) {
+            return;
+        }
+        final LagSpike spike = new LagSpike(LocalDateTime.now(), System.nanoTime() - tickStart, root.samples, phase, root.getHotFrame());
+        SPIKES.addLast(spike);
+        while (SPIKES.size() > Math.max(1, this.config.getSpikesKept())) {
+            SPIKES.pollFirst();
+        }
+        try {
+            spike.file = this.write(spike, root);
+            SpongeImpl.getLogger().warn("A server tick took {}ms, its stack samples were written to {}",
+                    TimeUnit.NANOSECONDS.toMillis(spike.duration), spike.file);
+        } catch (IOException e) {
+            SpongeImpl.getLogger().error("Could not write the stack samples of a lag spike", e);
+        }
+    }
+
+    /**
+     * Describes the phase the server thread is in. The phase stack is read
+     * while the server thread may change it, so this is a best effort.
+     */
+    private static String describePhase() {
+        try {
+            final PhaseData data = PhaseTracker.getInstance().getCurrentPhaseData();
+            return data.state + " (" + data.context + ")";
+        } catch (Throwable t) {
+            return "Unknown, changed while being read";
+        }
+    }
+
+    private Path write(LagSpike spike, StackNode root) throws IOException {
+        final Path directory = SpongeImpl.getGameDir().resolve(this.config.getDirectory());
+        Files.createDirectories(directory);
+        final Path file = directory.resolve(FILE_PREFIX + FILE_DATE_FORMAT.format(spike.time) + ".txt");
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(file, StandardCharsets.UTF_8))) {
+            writer.println("Time: " + spike.time);
+            writer.println("Tick duration: " + TimeUnit.NANOSECONDS.toMillis(spike.duration) + "ms");
+            writer.println("Samples: " + spike.samples + ", every " + this.sampleInterval + "ms");
+            writer.println("Phase when the tick became slow: " + spike.phase);
+            writer.println();
+            writer.println("Call tree (samples, share of the spike):");
+            root.print(writer, 0, root.samples);
+            writer.println();
+            writer.println("Collapsed stacks, for flame graph tools:");
+            root.printCollapsed(writer, new StringBuilder());
+        }
+
+        // File names sort by the time they were written
+        final List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, FILE_PREFIX + "*.txt")) {
+            stream.forEach(files::add);
+        }
+        Collections.sort(files);
+        for (int i = 0; i < files.size() - Math.max(1, this.config.getSpikesKept()); i++) {
+            Files.deleteIfExists(files.get(i));
+        }
+        return file;
+    }
+
+    public static final class LagSpike {
+
+        final LocalDateTime time;
+        final long duration;
+        final int samples;
+        final String phase;
+        final String hotFrame;
+        @Nullable volatile Path file;
+
+        LagSpike(LocalDateTime time, long duration, int samples, String phase, String hotFrame) {
+            this.time = time;
+            this.duration = duration;
+            this.samples = samples;
+            this.phase = phase;
+            this.hotFrame = hotFrame;
+        }
+
+        public LocalDateTime getTime() {
+            return this.time;
+        }
+
+        public long getDurationNanos() {
+            return this.duration;
+        }
+
+        public int getSamples() {
+            return this.samples;
+        }
+
+        public String getPhase() {
+            return this.phase;
+        }
+
+        /**
+         * Gets the innermost frame most samples passed through.
+         *
+         * @return The frame
+         */
+        public String getHotFrame() {
+            return this.hotFrame;
+        }
+
+        @Nullable
+        public Path getFile() {
+            return this.file;
+        }
+    }
+
+    private static final class StackNode {
+
+        final String frame;
+        final Map<String, StackNode> children = new HashMap<>();
+        int samples;
+
+        StackNode(String frame) {
+            this.frame = frame;
+        }
+
+        void add(StackTraceElement[] stack) {
+            this.samples++;
+            StackNode node = this;
+            // Stack traces start with the innermost frame
+            for (int i = stack.length - 1; i >= 0; i--) {
+                node = node.children.computeIfAbsent(stack[i].toString(), StackNode::new);
+                node.samples++;
+            }
+        }
+
+        List<StackNode> getSortedChildren() {
+            final List<StackNode> children = new ArrayList<>(this.children.values());
+            children.sort((a, b) -> Integer.compare(b.samples, a.samples));
+            return children;
+        }
+
+        String getHotFrame() {
+            StackNode node = this;
+            while (!node.children.isEmpty()) {
+                final StackNode hottest = node.getSortedChildren().get(0);
+                // Stop where the samples split up, or where they end
+                if (hottest.samples * 2 < this.samples) {
+                    break;
+                }
+                node = hottest;
+            }
+            return node.frame;
+        }
+
+        void print(PrintWriter writer, int depth, int total) {
+            for (int i = 0; i < depth; i++) {
+                writer.print("  ");
+            }
+            writer.printf("%s (%d, %.1f%%)%n", this.frame, this.samples, 100.0 * this.samples / total);
+            for (StackNode child : this.getSortedChildren()) {
+                if (child.samples >= total * TREE_CUTOFF) {
+                    child.print(writer, depth + 1, total);
+                }
+            }
+        }
+
+        void printCollapsed(Writer writer, StringBuilder path) throws IOException {
+            final int length = path.length();
+            if (length > 0) {
+                path.append(';');
+            }
+            path.append(this.frame);
+            int own = this.samples;
+            for (StackNode child : this.children.values()) {
+                own -= child.samples;
+                child.printCollapsed(writer, path);
+            }
+            if (own > 0) {
+                writer.write(path + " " + own + System.lineSeparator());
+            }
+            path.setLength(length);
+        }
+    }
+
+}
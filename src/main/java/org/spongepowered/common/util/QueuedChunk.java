@@ -24,15 +24,15 @@
  */
 package org.spongepowered.common.util;
 
-import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.common.world.storage.SerializedChunk;
 
 public class QueuedChunk {
     public ChunkPos coords;
-    public NBTTagCompound compound;
+    public SerializedChunk chunk;
 
-    public QueuedChunk(ChunkPos coords, NBTTagCompound compound) {
+    public QueuedChunk(ChunkPos coords, SerializedChunk chunk) {
         this.coords = coords;
-        this.compound = compound;
+        this.chunk = chunk;
     }
 }
@@ -28,6 +28,7 @@
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.item.EntityItem;
@@ -45,7 +46,6 @@
 import org.spongepowered.api.Sponge;
 import org.spongepowered.api.block.BlockSnapshot;
 import org.spongepowered.api.block.BlockType;
-import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.entity.living.player.User;
 import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.plugin.PluginContainer;
@@ -170,22 +170,22 @@ public static void logBlockTrack(World world, Block block, BlockPos pos, User us
         }
     }
 
-    public static void logBlockAction(World world, @Nullable BlockChange type, Transaction<BlockSnapshot> transaction) {
-        if (world.isRemote) {
+    public static void logBlockAction(World world, @Nullable BlockChange type, IBlockState originalState, IBlockState newState) {
+        if (world.isRemote || type == null) {
             return;
         }
 
         SpongeConfig<?> config = getActiveConfig((WorldServer) world);
-        Optional<User> user = Sponge.getCauseStackManager().getCurrentCause().first(User.class);
         LoggingCategory logging = config.getConfig().getLogging();
-        if (type != null && type.allowsLogging(logging)) {
+        if (type.allowsLogging(logging)) {
+            Optional<User> user = Sponge.getCauseStackManager().getCurrentCause().first(User.class);
             logInfo("Block " + type.name() + " [RootCause: {0}][User: {1}][World: {2}][DimId: {3}][OriginalState: {4}][NewState: {5}]",
                     getFriendlyCauseName(Sponge.getCauseStackManager().getCurrentCause()),
                     user.isPresent() ? user.get().getName() : "None",
                     world.getWorldInfo().getWorldName(),
                     ((IMixinWorldServer) world).getDimensionId(),
-                    transaction.getOriginal().getState(),
-                    transaction.getFinal().getState());
+                    originalState,
+                    newState);
             logStack(config);
         }
     }
@@ -0,0 +1,282 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
+import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.common.SpongeImpl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+/**
+ * Attributes the time spent ticking entities, tile entities and blocks to
+ * their chunk and to the type ticked, over the last minute. The costs are
+ * kept per second in a ring buffer, so old seconds simply get overwritten.
+ *
+ * <p>Only ever touched by the server thread.</p>
+ */
+public final class ChunkTickCosts {
+
+    public static final int WINDOW_SECONDS = 60;
+
+    public enum Kind {
+        ENTITY,
+        TILE_ENTITY,
+        BLOCK
+    }
+
+    private static final Int2ObjectMap<Long2ObjectMap<Cost>> CHUNKS = new Int2ObjectOpenHashMap<>();
+    private static final Map<String, Cost> TYPES = new HashMap<>();
+    private static long lastPrune;
+
+    private ChunkTickCosts() {
+    }
+
+    public static boolean isEnabled() {
+        return SpongeImpl.getGlobalConfig().getConfig().getTickCosts().isEnabled();
+    }
+
+    /**
+     * Records one tick of something in a chunk.
+     *
+     * @param dimensionId The dimension of the chunk
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @param kind What was ticked
+     * @param typeId The id of the type ticked, starting with the id of the
+     *     plugin or mod owning it
+     * @param nanos The time the tick took
+     * @param capturedBlocks The amount of block changes captured by the tick
+     */
+    public static void record(int dimensionId, int chunkX, int chunkZ, Kind kind, String typeId, long nanos, int capturedBlocks) {
+        final long second = SpongeImpl.getServer().getTickCounter() / 20;
+        Long2ObjectMap<Cost> chunks = CHUNKS.get(dimensionId);
+        if (chunks == null) {
+            chunks = new Long2ObjectOpenHashMap<>();
+            CHUNKS.put(dimensionId, chunks);
+        }
+        final long key = ChunkPos.asLong(chunkX, chunkZ);
+        Cost chunk = chunks.get(key);
+        if (chunk == null) {
+            chunk = new Cost();
+            chunks.put(key, chunk);
+        }
+        chunk.add(second, kind, nanos, capturedBlocks);
+        Cost type = TYPES.get(typeId);
+        if (type == null) {
+            type = new Cost();
+            TYPES.put(typeId, type);
+        }
+        type.add(second, kind, nanos, capturedBlocks);
+
+        if (second - lastPrune >= WINDOW_SECONDS) {
+            lastPrune = second;
+            prune(second);
+        }
+    }
+
+    private static void prune(long second) {
+        for (Long2ObjectMap<Cost> chunks : CHUNKS.values()) {
+            chunks.values().removeIf(cost -> cost.isStale(second));
+        }
+        TYPES.values().removeIf(cost -> cost.isStale(second));
+    }
+
+    /**
+     * Gets the chunks that took the most time to tick in the last minute.
+     *
+     * @param dimensionId The dimension to look at, or null for all
+     * @param limit The maximum amount of chunks
+     * @return The chunks, most expensive first
+     */
+    public static List<Summary> getTopChunks(@Nullable Integer dimensionId, int limit) {
+        final long second = currentSecond();
+        final List<Summary> summaries = new ArrayList<>();
+        for (Int2ObjectMap.Entry<Long2ObjectMap<Cost>> dimension : CHUNKS.int2ObjectEntrySet()) {
+            if (dimensionId != null && dimension.getIntKey() != dimensionId) {
+                continue;
+            }
+            for (Long2ObjectMap.Entry<Cost> entry : dimension.getValue().long2ObjectEntrySet()) {
+                final int x = (int) entry.getLongKey();
+                final int z = (int) (entry.getLongKey() >>> 32);
+                final Summary summary = new Summary("DIM" + dimension.getIntKey() + " [" + x + ", " + z + "]", dimension.getIntKey(), x, z);
+                entry.getValue().sumInto(summary, second);
+                summaries.add(summary);
+            }
+        }
+        return top(summaries, limit);
+    }
+
+    /**
+     * Gets the plugins and mods whose entities, tile entities and blocks took
+     * the most time to tick in the last minute.
+     *
+     * @param limit The maximum amount of owners
+     * @return The owners, most expensive first
+     */
+    public static List<Summary> getTopOwners(int limit) {
+        final long second = currentSecond();
+        final Map<String, Summary> owners = new HashMap<>();
+        for (Map.Entry<String, Cost> entry : TYPES.entrySet()) {
+            final int separator = entry.getKey().indexOf(':');
+            final String owner = separator == -1 ? "minecraft" : entry.getKey().substring(0, separator);
+            entry.getValue().sumInto(owners.computeIfAbsent(owner, key -> new Summary(key, 0, 0, 0)), second);
+        }
+        return top(new ArrayList<>(owners.values()), limit);
+    }
+
+    private static List<Summary> top(List<Summary> summaries, int limit) {
+        summaries.removeIf(summary -> summary.nanos == 0);
+        summaries.sort((a, b) -> Long.compare(b.nanos, a.nanos));
+        return summaries.size() > limit ? new ArrayList<>(summaries.subList(0, limit)) : summaries;
+    }
+
+    private static long currentSecond() {
+        return SpongeImpl.getServer().getTickCounter() / 20;
+    }
+
+    public static final class Summary {
+
+        final String name;
+        final int dimensionId;
+        final int chunkX;
+        final int chunkZ;
+        long nanos;
+        int entityTicks;
+        int tileEntityTicks;
+        int blockTicks;
+        int capturedBlocks;
+
+        Summary(String name, int dimensionId, int chunkX, int chunkZ) {
+            this.name = name;
+            this.dimensionId = dimensionId;
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+        }
+
+        public String getName() {
+            return this.name;
+        }
+
+        public int getDimensionId() {
+            return this.dimensionId;
+        }
+
+        public int getChunkX() {
+            return this.chunkX;
+        }
+
+        public int getChunkZ() {
+            return this.chunkZ;
+        }
+
+        public long getNanos() {
+            return this.nanos;
+        }
+
+        public int getEntityTicks() {
+            return this.entityTicks;
+        }
+
+        public int getTileEntityTicks() {
+            return this.tileEntityTicks;
+        }
+
+        public int getBlockTicks() {
+            return this.blockTicks;
+        }
+
+        public int getCapturedBlocks() {
+            return this.capturedBlocks;
+        }
+    }
+
+    private static final class Cost {
+
+        // The second each slot currently holds the costs of
+        private final long[] seconds = new long[WINDOW_SECONDS];
+        private final long[] nanos = new long[WINDOW_SECONDS];
+        private final int[] entityTicks = new int[WINDOW_SECONDS];
+        private final int[] tileEntityTicks = new int[WINDOW_SECONDS];
+        private final int[] blockTicks = new int[WINDOW_SECONDS];
+        private final int[] capturedBlocks = new int[WINDOW_SECONDS];
+        private long lastSecond = -1;
+
+        Cost() {
+            Arrays.fill(this.seconds, -1);
+        }
+
+        void add(long second, Kind kind, long nanos, int capturedBlocks) {
+            final int slot = (int) (second % WINDOW_SECONDS);
+            if (this.seconds[slot] != second) {
+                this.seconds[slot] = second;
+                this.nanos[slot] = 0;
+                this.entityTicks[slot] = 0;
+                this.tileEntityTicks[slot] = 0;
+                this.blockTicks[slot] = 0;
+                this.capturedBlocks[slot] = 0;
+            }
+            this.lastSecond = second;
+            this.nanos[slot] += nanos;
+            this.capturedBlocks[slot] += capturedBlocks;
+            switch (kind) {
+                case ENTITY:
+                    this.entityTicks[slot]++;
+                    break;
+                case TILE_ENTITY:
+                    this.tileEntityTicks[slot]++;
+                    break;
+                default:
+                    this.blockTicks[slot]++;
+            }
+        }
+
+        boolean isStale(long second) {
+            return second - this.lastSecond >= WINDOW_SECONDS;
+        }
+
+        void sumInto(Summary summary, long second) {
+            for (int slot = 0; slot < WINDOW_SECONDS; slot++) {
+                if (second - this.seconds[slot] < WINDOW_SECONDS && this.seconds[slot] != -1) {
+                    summary.nanos += this.nanos[slot];
+                    summary.entityTicks += this.entityTicks[slot];
+                    summary.tileEntityTicks += this.tileEntityTicks[slot];
+                    summary.blockTicks += this.blockTicks[slot];
+                    summary.capturedBlocks += this.capturedBlocks[slot];
+                }
+            }
+        }
+    }
+
+}
@@ -75,6 +75,7 @@
 import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 import org.spongepowered.common.interfaces.world.IMixinWorldSettings;
 import org.spongepowered.common.interfaces.world.gen.IMixinChunkProviderServer;
+import org.spongepowered.common.metrics.ServerMetrics;
 import org.spongepowered.common.util.SpongeHooks;
 
 import java.io.DataInputStream;
@@ -512,6 +513,7 @@ public static boolean unloadWorld(WorldServer worldServer, boolean checkConfig)
                 worldByDimensionId.remove(dimensionId);
                 weakWorldByWorld.remove(worldServer);
                 ((IMixinMinecraftServer) server).removeWorldTickTimes(dimensionId);
+                ServerMetrics.INSTANCE.removeWorld(dimensionId);
                 SpongeImpl.getLogger().info("Unloading world [{}] (DIM{})", worldServer.getWorldInfo().getWorldName(), dimensionId);
                 reorderWorldsVanillaFirst();
             }
@@ -801,6 +803,7 @@ public static WorldServer createWorldFromProperties(int dimensionId, ISaveHandle
         weakWorldByWorld.put(worldServer, worldServer);
 
         ((IMixinMinecraftServer) SpongeImpl.getServer()).putWorldTickTimes(dimensionId, new long[100]);
+        ServerMetrics.INSTANCE.addWorld(worldServer.getWorldInfo().getWorldName(), dimensionId);
 
         // Set the worlds on the Minecraft server
         reorderWorldsVanillaFirst();
@@ -823,6 +826,7 @@ public static void forceAddWorld(int dimensionId, WorldServer worldServer) {
         weakWorldByWorld.put(worldServer, worldServer);
 
         ((IMixinMinecraftServer) SpongeImpl.getServer()).putWorldTickTimes(dimensionId, new long[100]);
+        ServerMetrics.INSTANCE.addWorld(worldServer.getWorldInfo().getWorldName(), dimensionId);
     }
 
     public static void reorderWorldsVanillaFirst() {
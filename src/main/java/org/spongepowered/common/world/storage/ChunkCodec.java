@@ -0,0 +1,96 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import javax.annotation.Nullable;
+
+/**
+ * The compression of a chunk within a region file, stored by its id in
+ * front of the chunk data. Chunks of a region file may use different
+ * codecs, reading always goes by the id the chunk was written with.
+ */
+public enum ChunkCodec {
+
+    /**
+     * Gzip, never written by the game but readable.
+     */
+    GZIP(1, "gzip"),
+
+    /**
+     * Zlib, the compression the game writes.
+     */
+    ZLIB(2, "zlib"),
+
+    /**
+     * Uncompressed, under the id later game versions use for it. Servers of
+     * this version can not read these chunks without Sponge.
+     */
+    NONE(3, "none");
+
+    private final int id;
+    private final String name;
+
+    ChunkCodec(int id, String name) {
+        this.id = id;
+        this.name = name;
+    }
+
+    public int getId() {
+        return this.id;
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    /**
+     * Gets whether chunks are written with this codec, gzip is only read.
+     *
+     * @return Whether this codec is written
+     */
+    public boolean isWritable() {
+        return this != GZIP;
+    }
+
+    @Nullable
+    public static ChunkCodec byId(int id) {
+        for (ChunkCodec codec : values()) {
+            if (codec.id == id) {
+                return codec;
+            }
+        }
+        return null;
+    }
+
+    @Nullable
+    public static ChunkCodec byName(String name) {
+        for (ChunkCodec codec : values()) {
+            if (codec.name.equalsIgnoreCase(name)) {
+                return codec;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.io.ByteStreams;
+import net.minecraft.world.chunk.storage.RegionFile;
+import org.spongepowered.common.interfaces.world.IMixinRegionFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * Compresses and decompresses the chunks of region files. Every thread
+ * reuses its own deflater, inflater and buffers instead of creating them
+ * for each chunk, their native memory is only freed once finalized.
+ */
+public final class ChunkCompression {
+
+    private static final ThreadLocal<Buffers> BUFFERS = ThreadLocal.withInitial(Buffers::new);
+
+    private ChunkCompression() {
+    }
+
+    /**
+     * Compresses chunk data and writes it into its region file.
+     *
+     * @param regionFile The region file of the chunk
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param data The uncompressed chunk data
+     * @param length The length of the data
+     * @param codec The codec to compress with
+     * @param level The zlib compression level
+     * @throws IOException If the chunk could not be written
+     */
+    public static void write(RegionFile regionFile, int x, int z, byte[] data, int length, ChunkCodec codec, int level) throws IOException {
+        // Chunks too large to be stored uncompressed are compressed after all, rather than not written
+        if (codec == ChunkCodec.NONE && fits(length)) {
+            writeChunk(regionFile, x, z, data, length, codec);
+            return;
+        }
+        final Buffers buffers = BUFFERS.get();
+        final int compressed = buffers.deflate(data, length, level);
+        writeChunk(regionFile, x, z, buffers.deflated, compressed, ChunkCodec.ZLIB);
+    }
+
+    /**
+     * Gets whether chunk data of the given length fits into the sectors a
+     * region file allows a single chunk, larger chunks are not written.
+     *
+     * @param length The length of the data, as written
+     * @return True if it fits
+     */
+    public static boolean fits(int length) {
+        // Mirrors the check of RegionFile#write, including the length and codec id in front of the data
+        return (length + 5) / 4096 + 1 < 256;
+    }
+
+    private static void writeChunk(RegionFile regionFile, int x, int z, byte[] data, int length, ChunkCodec codec) throws IOException {
+        SpongeRegionFileCache.withRegionFile(regionFile, file -> {
+            ((IMixinRegionFile) file).writeChunk(x & 31, z & 31, data, length, codec);
+            return null;
+        });
+    }
+
+    /**
+     * Decompresses chunk data as read from a region file.
+     *
+     * @param codec The codec the data was written with
+     * @param data The compressed chunk data
+     * @return The uncompressed chunk data
+     * @throws IOException If the data is corrupt
+     */
+    public static byte[] decompress(ChunkCodec codec, byte[] data) throws IOException {
+        switch (codec) {
+            case NONE:
+                return data;
+            case ZLIB:
+                return BUFFERS.get().inflate(data);
+            default:
+                return ByteStreams.toByteArray(new GZIPInputStream(new ByteArrayInputStream(data)));
+        }
+    }
+
+    /**
+     * Rewrites a chunk of a region file with another codec or level.
+     *
+     * @param regionFile The region file of the chunk
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param codec The codec to compress with
+     * @param level The zlib compression level
+     * @return Whether the chunk is saved and got rewritten, not if it is too
+     *     large to be stored with the codec
+     * @throws IOException If the chunk could not be read
+     */
+    public static boolean recompress(RegionFile regionFile, int x, int z, ChunkCodec codec, int level) throws IOException {
+        return SpongeRegionFileCache.withRegionFile(regionFile, file -> {
+            // Held between reading and writing, so a newer version of the chunk saved meanwhile is not overwritten
+            synchronized (file) {
+                final byte[] data = ((IMixinRegionFile) file).readChunk(x & 31, z & 31);
+                if (data == null || codec == ChunkCodec.NONE && !fits(data.length)) {
+                    return false;
+                }
+                write(file, x, z, data, data.length, codec, level);
+                return true;
+            }
+        });
+    }
+
+    private static final class Buffers {
+
+        private final Deflater deflater = new Deflater();
+        private final Inflater inflater = new Inflater();
+        private int level = Deflater.DEFAULT_COMPRESSION;
+        byte[] deflated = new byte[16 * 1024];
+        private byte[] inflated = new byte[64 * 1024];
+
+        int deflate(byte[] data, int length, int level) {
+            if (level != this.level) {
+                this.deflater.setLevel(level);
+                this.level = level;
+            }
+            this.deflater.reset();
+            this.deflater.setInput(data, 0, length);
+            this.deflater.finish();
+            int compressed = 0;
+            while (!this.deflater.finished()) {
+                if (compressed == this.deflated.length) {
+                    this.deflated = Arrays.copyOf(this.deflated, this.deflated.length * 2);
+                }
+                compressed += this.deflater.deflate(this.deflated, compressed, this.deflated.length - compressed);
+            }
+            return compressed;
+        }
+
+        byte[] inflate(byte[] data) throws IOException {
+            this.inflater.reset();
+            this.inflater.setInput(data);
+            int length = 0;
+            try {
+                while (!this.inflater.finished()) {
+                    if (length == this.inflated.length) {
+                        this.inflated = Arrays.copyOf(this.inflated, this.inflated.length * 2);
+                    }
+                    final int inflated = this.inflater.inflate(this.inflated, length, this.inflated.length - length);
+                    if (inflated == 0 && !this.inflater.finished() && (this.inflater.needsInput() || this.inflater.needsDictionary())) {
+                        throw new ZipException("Truncated chunk data");
+                    }
+                    length += inflated;
+                }
+            } catch (DataFormatException e) {
+                throw new ZipException(e.getMessage());
+            }
+            return Arrays.copyOf(this.inflated, length);
+        }
+    }
+}
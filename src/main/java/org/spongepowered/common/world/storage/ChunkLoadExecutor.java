@@ -0,0 +1,101 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.scheduler.LatencyHistogram;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.annotation.Nullable;
+
+/**
+ * Runs {@link ChunkLoadTask}s on the chunk loader threads.
+ */
+public final class ChunkLoadExecutor {
+
+    private static final AtomicInteger PENDING = new AtomicInteger();
+    // From being requested to being read
+    private static final LatencyHistogram LATENCY = new LatencyHistogram();
+    private static final LatencyHistogram READ_DURATION = new LatencyHistogram();
+
+    @Nullable private static volatile ExecutorService loaders;
+
+    private ChunkLoadExecutor() {
+    }
+
+    public static boolean isEnabled() {
+        return SpongeImpl.getGlobalConfig().getConfig().getChunkLoad().getLoaderThreads() > 0;
+    }
+
+    public static long getMainThreadBudgetNanos() {
+        return TimeUnit.MILLISECONDS.toNanos(SpongeImpl.getGlobalConfig().getConfig().getChunkLoad().getMainThreadBudget());
+    }
+
+    public static void submit(ChunkLoadTask task) {
+        PENDING.incrementAndGet();
+        getLoaders().execute(task);
+    }
+
+    static void onRead(long waitedNanos, long readNanos) {
+        PENDING.decrementAndGet();
+        LATENCY.record(waitedNanos + readNanos);
+        READ_DURATION.record(readNanos);
+    }
+
+    public static int getQueueDepth() {
+        return PENDING.get();
+    }
+
+    public static LatencyHistogram getLatency() {
+        return LATENCY;
+    }
+
+    public static LatencyHistogram getReadDuration() {
+        return READ_DURATION;
+    }
+
+    private static ExecutorService getLoaders() {
+        ExecutorService loaders = ChunkLoadExecutor.loaders;
+        if (loaders == null) {
+            synchronized (ChunkLoadExecutor.class) {
+                loaders = ChunkLoadExecutor.loaders;
+                if (loaders == null) {
+                    final int threads = Math.max(1, SpongeImpl.getGlobalConfig().getConfig().getChunkLoad().getLoaderThreads());
+                    loaders = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                            .setNameFormat("Sponge - Chunk Loader #%d")
+                            .setDaemon(true)
+                            .build());
+                    ChunkLoadExecutor.loaders = loaders;
+                }
+            }
+        }
+        return loaders;
+    }
+}
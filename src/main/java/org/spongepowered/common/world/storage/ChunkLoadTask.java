@@ -0,0 +1,110 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import co.aikar.timings.SpongeTimings;
+import net.minecraft.nbt.NBTTagCompound;
+import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads a saved chunk off the main thread. Whichever thread runs the task
+ * first reads the chunk, so a main thread in need of the chunk right away
+ * takes over reads no loader thread started yet instead of waiting for them.
+ */
+public final class ChunkLoadTask implements Runnable {
+
+    private final IMixinAnvilChunkLoader loader;
+    private final int x;
+    private final int z;
+    private final Consumer<ChunkLoadTask> onRead;
+    private final long queued = System.nanoTime();
+    private final AtomicBoolean claimed = new AtomicBoolean();
+    private final CompletableFuture<NBTTagCompound> compound = new CompletableFuture<>();
+
+    public ChunkLoadTask(IMixinAnvilChunkLoader loader, int x, int z, Consumer<ChunkLoadTask> onRead) {
+        this.loader = loader;
+        this.x = x;
+        this.z = z;
+        this.onRead = onRead;
+    }
+
+    public int getX() {
+        return this.x;
+    }
+
+    public int getZ() {
+        return this.z;
+    }
+
+    @Override
+    public void run() {
+        if (!this.claimed.compareAndSet(false, true)) {
+            return;
+        }
+        final long start = System.nanoTime();
+        SpongeTimings.asyncChunkLoadTimer.startTimingIfSync();
+        try {
+            this.compound.complete(this.loader.readChunkCompound(this.x, this.z));
+        } catch (Throwable t) {
+            this.compound.completeExceptionally(t);
+        } finally {
+            SpongeTimings.asyncChunkLoadTimer.stopTimingIfSync();
+        }
+        ChunkLoadExecutor.onRead(start - this.queued, System.nanoTime() - start);
+        this.onRead.accept(this);
+    }
+
+    /**
+     * Gets the read chunk, reading it on the current thread if no loader
+     * thread started yet or waiting for the loader thread reading it.
+     *
+     * @return The compound of the chunk, or null if it was never saved
+     * @throws IOException If the chunk could not be read
+     */
+    @Nullable
+    public NBTTagCompound join() throws IOException {
+        this.run();
+        try {
+            return this.compound.join();
+        } catch (CompletionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.util.math.ChunkPos;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.scheduler.LatencyHistogram;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.Nullable;
+
+/**
+ * Writes saved chunks on several threads instead of the single vanilla file
+ * IO thread. The chunks of a region file are always written by the same
+ * thread, in the order they were saved, so no two threads ever touch the
+ * same region file.
+ */
+public final class ChunkSaveExecutor {
+
+    private static final ThreadLocal<Boolean> WRITER_THREAD = ThreadLocal.withInitial(() -> false);
+    private static final AtomicInteger PENDING = new AtomicInteger();
+    private static final LongAdder FAILURES = new LongAdder();
+    // From being saved to being written
+    private static final LatencyHistogram LATENCY = new LatencyHistogram();
+    private static final LatencyHistogram WRITE_DURATION = new LatencyHistogram();
+
+    @Nullable private static volatile ExecutorService[] writers;
+
+    private ChunkSaveExecutor() {
+    }
+
+    public static boolean isEnabled() {
+        return SpongeImpl.getGlobalConfig().getConfig().getChunkSave().getWriterThreads() > 0;
+    }
+
+    /**
+     * Queues the write of a saved chunk on the writer of its region file.
+     *
+     * @param worldDir The directory of the world of the chunk
+     * @param pos The position of the chunk
+     * @param write Writes the chunk
+     */
+    public static void submit(File worldDir, ChunkPos pos, Runnable write) {
+        final ExecutorService[] writers = getWriters();
+        final int hash = (worldDir.hashCode() * 31 + (pos.x >> 5)) * 31 + (pos.z >> 5);
+        final ExecutorService writer = writers[Math.floorMod(hash ^ (hash >>> 16), writers.length)];
+        final long queued = System.nanoTime();
+        PENDING.incrementAndGet();
+        writer.execute(() -> {
+            final long start = System.nanoTime();
+            try {
+                write.run();
+            } catch (Throwable t) {
+                SpongeImpl.getLogger().error("Could not save chunk {} in {}", pos, worldDir, t);
+                FAILURES.increment();
+            } finally {
+                final long end = System.nanoTime();
+                WRITE_DURATION.record(end - start);
+                LATENCY.record(end - queued);
+                PENDING.decrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * Waits for all chunks saved so far to be written. Used when a world is
+     * unloaded or the server stops.
+     */
+    public static void flush() {
+        final ExecutorService[] writers = ChunkSaveExecutor.writers;
+        if (writers == null || WRITER_THREAD.get()) {
+            return;
+        }
+        // Every writer runs its queue in order, so once a task queued now ran the earlier ones did too
+        final List<Future<?>> barriers = new ArrayList<>(writers.length);
+        for (ExecutorService writer : writers) {
+            barriers.add(writer.submit(() -> { }));
+        }
+        boolean interrupted = false;
+        for (Future<?> barrier : barriers) {
+            while (true) {
+                try {
+                    barrier.get();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                } catch (ExecutionException e) {
+                    break;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    public static void onWriteFailed() {
+        FAILURES.increment();
+    }
+
+    public static int getQueueDepth() {
+        return PENDING.get();
+    }
+
+    public static long getFailures() {
+        return FAILURES.sum();
+    }
+
+    public static LatencyHistogram getLatency() {
+        return LATENCY;
+    }
+
+    public static LatencyHistogram getWriteDuration() {
+        return WRITE_DURATION;
+    }
+
+    private static ExecutorService[] getWriters() {
+        ExecutorService[] writers = ChunkSaveExecutor.writers;
+        if (writers == null) {
+            synchronized (ChunkSaveExecutor.class) {
+                writers = ChunkSaveExecutor.writers;
+                if (writers == null) {
+                    final int threads = Math.max(1, SpongeImpl.getGlobalConfig().getConfig().getChunkSave().getWriterThreads());
+                    final ThreadFactory factory = new ThreadFactoryBuilder()
+                            .setNameFormat("Sponge - Chunk Writer #%d")
+                            .setDaemon(true)
+                            .build();
+                    writers = new ExecutorService[threads];
+                    for (int i = 0; i < threads; i++) {
+                        writers[i] = Executors.newSingleThreadExecutor(runnable -> factory.newThread(() -> {
+                            WRITER_THREAD.set(true);
+                            runnable.run();
+                        }));
+                    }
+                    ChunkSaveExecutor.writers = writers;
+                }
+            }
+        }
+        return writers;
+    }
+}
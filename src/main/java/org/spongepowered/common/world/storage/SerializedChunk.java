@@ -0,0 +1,94 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.chunk.storage.RegionFile;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+/**
+ * A saved chunk waiting to be written, held as its uncompressed NBT bytes
+ * instead of the compound tree, which is dropped right after saving. The
+ * thread writing the chunk compresses it into its region file with the
+ * {@link ChunkCompression} of the world.
+ */
+public final class SerializedChunk {
+
+    private static final ThreadLocal<ByteArrayOutputStream> SERIALIZE_BUFFER = ThreadLocal.withInitial(() -> new ByteArrayOutputStream(64 * 1024));
+
+    private final byte[] data;
+
+    private SerializedChunk(byte[] data) {
+        this.data = data;
+    }
+
+    public static SerializedChunk of(NBTTagCompound compound) {
+        final ByteArrayOutputStream buffer = SERIALIZE_BUFFER.get();
+        buffer.reset();
+        try {
+            CompressedStreamTools.write(compound, new DataOutputStream(buffer));
+        } catch (IOException e) {
+            // Never thrown writing to memory
+            throw new UncheckedIOException(e);
+        }
+        return new SerializedChunk(buffer.toByteArray());
+    }
+
+    public int getSize() {
+        return this.data.length;
+    }
+
+    /**
+     * Reads the compound back, for chunks loaded again before they were
+     * written.
+     *
+     * @return A new compound of the chunk
+     * @throws IOException If the data is corrupt
+     */
+    public NBTTagCompound read() throws IOException {
+        return CompressedStreamTools.read(new DataInputStream(new ByteArrayInputStream(this.data)));
+    }
+
+    /**
+     * Compresses the chunk and writes it into its region file.
+     *
+     * @param regionFile The region file of the chunk
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param codec The codec to compress with
+     * @param level The zlib compression level
+     * @throws IOException If the chunk could not be written
+     */
+    public void writeTo(RegionFile regionFile, int x, int z, ChunkCodec codec, int level) throws IOException {
+        ChunkCompression.write(regionFile, x, z, this.data, this.data.length, codec, level);
+    }
+}
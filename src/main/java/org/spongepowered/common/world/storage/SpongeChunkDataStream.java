@@ -25,7 +25,6 @@
 package org.spongepowered.common.world.storage;
 
 import com.google.common.collect.Sets;
-import net.minecraft.world.chunk.storage.RegionFile;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.api.world.storage.ChunkDataStream;
 
@@ -39,16 +38,17 @@ public class SpongeChunkDataStream implements ChunkDataStream {
 
     private static class RegionFileItr {
 
-        private final RegionFile file;
+        // Looked up through the cache on every use, as it may be closed once evicted
+        private final Path file;
         public int index;
 
-        public RegionFileItr(RegionFile regionFile) {
+        public RegionFileItr(Path regionFile) {
             this.file = regionFile;
         }
 
         public int getNext() {
             int index = this.index;
-            int[] offsets = this.file.offsets;
+            int[] offsets = WorldStorageUtil.getRegionFile(this.file).offsets;
             while (index != -1 && index < offsets.length && offsets[index] == 0) {
                 index++;
             }
@@ -61,7 +61,7 @@ public int getNext() {
         public DataInputStream getStreamAt(int index) {
             int x = index & 31;
             int z = index >>> 5;
-            return this.file.getChunkDataInputStream(x, z);
+            return WorldStorageUtil.getRegionFile(this.file).getChunkDataInputStream(x, z);
         }
 
     }
@@ -81,7 +81,7 @@ private boolean itrAvailable() {
         Iterable<Path> files = WorldStorageUtil.listRegionFiles(this.worldDir);
         for (Path file : files) {
             if (!this.openedFiles.contains(file)) {
-                this.regionFileItr = new RegionFileItr(WorldStorageUtil.getRegionFile(file));
+                this.regionFileItr = new RegionFileItr(file);
                 this.openedFiles.add(file);
                 return true;
             }
@@ -0,0 +1,325 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.world.chunk.storage.RegionFile;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.RegionFileCacheCategory;
+import org.spongepowered.common.interfaces.world.IMixinRegionFile;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+/**
+ * Keeps the least recently used region files open, up to a limit for all
+ * worlds together and optionally per world, instead of closing every open
+ * region file once 256 are open like {@link RegionFileCache} does. Shared by
+ * the chunk loaders, the chunk data streams and {@link WorldStorageUtil}.
+ *
+ * <p>Evicted region files are closed by a background thread. A region file
+ * requested again before it got closed is simply put back into the cache.
+ * Everything is guarded by the {@link RegionFileCache} class lock, like the
+ * vanilla cache, so both can be used side by side. The files open are also
+ * kept in {@link RegionFileCache#REGIONS_BY_FILE}.</p>
+ *
+ * <p>A region file is only closed while holding its lock, so reads and
+ * writes going on finish first. Reads and writes on a region file closed
+ * while someone still held on to it fail with a
+ * {@link ClosedChannelException}, see {@link #withRegionFile} to carry on
+ * with the file opened anew.</p>
+ */
+public final class SpongeRegionFileCache {
+
+    // How often an operation is moved over to a reopened region file before giving up
+    private static final int MAX_REOPEN_ATTEMPTS = 5;
+
+    // The open region files, least recently used first
+    private static final LinkedHashMap<File, Entry> OPEN_FILES = new LinkedHashMap<>(256, 0.75f, true);
+    private static final Map<File, WorldCache> WORLDS = new HashMap<>();
+    private static final Map<File, RegionFile> PENDING_CLOSE = new HashMap<>();
+    private static final ExecutorService CLOSER = Executors.newSingleThreadExecutor(new ThreadFactoryBuilder()
+            .setNameFormat("Sponge - Region File Closer")
+            .setDaemon(true)
+            .build());
+
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+    private static final LongAdder EVICTIONS = new LongAdder();
+
+    private SpongeRegionFileCache() {
+    }
+
+    /**
+     * Gets the region file holding a chunk, opening or creating it if
+     * needed.
+     *
+     * @param worldDir The directory of the world
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The region file
+     */
+    public static RegionFile getRegionFile(File worldDir, int chunkX, int chunkZ) {
+        return getRegionFile(worldDir, getFile(worldDir, chunkX, chunkZ), true);
+    }
+
+    /**
+     * Gets the region file holding a chunk, if it exists.
+     *
+     * @param worldDir The directory of the world
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The region file, or null if it does not exist
+     */
+    @Nullable
+    public static RegionFile getRegionFileIfExists(File worldDir, int chunkX, int chunkZ) {
+        return getRegionFile(worldDir, getFile(worldDir, chunkX, chunkZ), false);
+    }
+
+    /**
+     * Gets a region file by its path within the region directory of a world.
+     *
+     * @param regionFilePath The path of the region file
+     * @return The region file
+     */
+    public static RegionFile getRegionFile(Path regionFilePath) {
+        return getRegionFile(regionFilePath.toFile());
+    }
+
+    private static RegionFile getRegionFile(File file) {
+        return getRegionFile(file.getParentFile().getParentFile(), file, true);
+    }
+
+    /**
+     * Runs an operation on a region file. If the cache closed the region
+     * file while the operation was using it, the operation is run again on
+     * the region file opened anew.
+     *
+     * @param regionFile The region file
+     * @param operation The operation
+     * @param <T> The type of the result
+     * @return The result of the operation
+     * @throws IOException If the operation failed
+     */
+    public static <T> T withRegionFile(RegionFile regionFile, RegionFileOperation<T> operation) throws IOException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return operation.apply(regionFile);
+            } catch (ClosedChannelException e) {
+                if (attempt == MAX_REOPEN_ATTEMPTS) {
+                    throw e;
+                }
+                regionFile = getRegionFile(((IMixinRegionFile) regionFile).getFile());
+            }
+        }
+    }
+
+    private static File getFile(File worldDir, int chunkX, int chunkZ) {
+        return new File(new File(worldDir, "region"), "r." + (chunkX >> 5) + "." + (chunkZ >> 5) + ".mca");
+    }
+
+    @Nullable
+    private static RegionFile getRegionFile(File worldDir, File file, boolean create) {
+        synchronized (RegionFileCache.class) {
+            final Entry entry = OPEN_FILES.get(file);
+            if (entry != null) {
+                HITS.increment();
+                return entry.regionFile;
+            }
+            // Not closed yet, or opened by a vanilla path not going through here
+            RegionFile regionFile = PENDING_CLOSE.remove(file);
+            if (regionFile == null) {
+                regionFile = RegionFileCache.REGIONS_BY_FILE.get(file);
+            }
+            if (regionFile != null) {
+                HITS.increment();
+            } else {
+                if (!create && !file.exists()) {
+                    return null;
+                }
+                MISSES.increment();
+                file.getParentFile().mkdirs();
+                regionFile = new RegionFile(file);
+            }
+            final RegionFileCacheCategory config = SpongeImpl.getGlobalConfig().getConfig().getRegionFileCache();
+            WorldCache world = WORLDS.get(worldDir);
+            if (world == null) {
+                world = new WorldCache(config.getWorldLimit(worldDir.getName()));
+                WORLDS.put(worldDir, world);
+            }
+            RegionFileCache.REGIONS_BY_FILE.put(file, regionFile);
+            OPEN_FILES.put(file, new Entry(worldDir, world, regionFile));
+            if (++world.open > world.limit) {
+                evictEldest(e -> e.worldDir.equals(worldDir));
+            }
+            if (OPEN_FILES.size() > config.getMaxOpenFiles()) {
+                evictEldest(e -> true);
+            }
+            return regionFile;
+        }
+    }
+
+    /**
+     * Closes the open region files of a world, as done when the world is
+     * unloaded.
+     *
+     * @param worldDir The directory of the world
+     */
+    public static void closeWorld(File worldDir) {
+        close(file -> file.getParentFile().getParentFile().equals(worldDir));
+    }
+
+    /**
+     * Closes all open region files, as done when the server stops.
+     */
+    public static void closeAll() {
+        close(file -> true);
+    }
+
+    private static void close(Predicate<File> filter) {
+        final Map<File, RegionFile> closing = new HashMap<>();
+        synchronized (RegionFileCache.class) {
+            final Iterator<Map.Entry<File, Entry>> iterator = OPEN_FILES.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<File, Entry> entry = iterator.next();
+                if (filter.test(entry.getKey())) {
+                    iterator.remove();
+                    remove(entry.getKey(), entry.getValue());
+                }
+            }
+            for (Map.Entry<File, RegionFile> entry : PENDING_CLOSE.entrySet()) {
+                if (filter.test(entry.getKey())) {
+                    closing.put(entry.getKey(), entry.getValue());
+                }
+            }
+        }
+        // Closed right away, but like evicted files only while no longer requested again
+        for (Map.Entry<File, RegionFile> entry : closing.entrySet()) {
+            closeIfPending(entry.getKey(), entry.getValue());
+        }
+    }
+
+    public static long getHits() {
+        return HITS.sum();
+    }
+
+    public static long getMisses() {
+        return MISSES.sum();
+    }
+
+    public static long getEvictions() {
+        return EVICTIONS.sum();
+    }
+
+    public static int getOpenFiles() {
+        synchronized (RegionFileCache.class) {
+            return OPEN_FILES.size();
+        }
+    }
+
+    private static void evictEldest(Predicate<Entry> filter) {
+        final Iterator<Map.Entry<File, Entry>> iterator = OPEN_FILES.entrySet().iterator();
+        while (iterator.hasNext()) {
+            final Map.Entry<File, Entry> entry = iterator.next();
+            if (filter.test(entry.getValue())) {
+                iterator.remove();
+                remove(entry.getKey(), entry.getValue());
+                EVICTIONS.increment();
+                CLOSER.execute(() -> closeIfPending(entry.getKey(), entry.getValue().regionFile));
+                return;
+            }
+        }
+    }
+
+    private static void remove(File file, Entry entry) {
+        entry.world.open--;
+        RegionFileCache.REGIONS_BY_FILE.remove(file, entry.regionFile);
+        PENDING_CLOSE.put(file, entry.regionFile);
+    }
+
+    private static void closeIfPending(File file, RegionFile regionFile) {
+        // Holding the region file lock makes reads and writes still going on finish first
+        synchronized (regionFile) {
+            synchronized (RegionFileCache.class) {
+                if (!PENDING_CLOSE.remove(file, regionFile)) {
+                    // Requested again in the meantime, or closed already
+                    return;
+                }
+            }
+            try {
+                regionFile.close();
+            } catch (IOException e) {
+                SpongeImpl.getLogger().error("Could not close region file", e);
+            }
+        }
+    }
+
+    /**
+     * An operation on a region file.
+     *
+     * @param <T> The type of the result
+     */
+    @FunctionalInterface
+    public interface RegionFileOperation<T> {
+
+        T apply(RegionFile regionFile) throws IOException;
+    }
+
+    private static final class Entry {
+
+        final File worldDir;
+        final WorldCache world;
+        final RegionFile regionFile;
+
+        Entry(File worldDir, WorldCache world, RegionFile regionFile) {
+            this.worldDir = worldDir;
+            this.world = world;
+            this.regionFile = regionFile;
+        }
+    }
+
+    private static final class WorldCache {
+
+        final int limit;
+        int open;
+
+        WorldCache(int limit) {
+            this.limit = limit;
+        }
+    }
+}
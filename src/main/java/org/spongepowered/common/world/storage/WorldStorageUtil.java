@@ -31,12 +31,13 @@
 import net.minecraft.world.WorldServer;
 import net.minecraft.world.chunk.storage.IChunkLoader;
 import net.minecraft.world.chunk.storage.RegionFile;
-import net.minecraft.world.chunk.storage.RegionFileCache;
 import org.spongepowered.api.data.DataContainer;
 import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.common.config.category.WorldCategory;
 import org.spongepowered.common.data.persistence.NbtTranslator;
 import org.spongepowered.common.data.util.NbtDataUtil;
 import org.spongepowered.common.interfaces.world.IMixinAnvilChunkLoader;
+import org.spongepowered.common.interfaces.world.IMixinWorldServer;
 
 import java.io.DataInputStream;
 import java.io.File;
@@ -68,7 +69,8 @@ public static CompletableFuture<Optional<DataContainer>> getChunkData(WorldServe
         }
         File worldDir = ((IMixinAnvilChunkLoader) chunkLoader).getWorldDir().toFile();
         return SpongeImpl.getScheduler().submitAsyncTask(() -> {
-            DataInputStream stream = RegionFileCache.getChunkInputStream(worldDir, x, z);
+            RegionFile regionFile = SpongeRegionFileCache.getRegionFileIfExists(worldDir, x, z);
+            DataInputStream stream = regionFile == null ? null : regionFile.getChunkDataInputStream(x & 31, z & 31);
             return Optional.ofNullable(readDataFromRegion(stream));
         });
     }
@@ -99,20 +101,48 @@ public static Iterable<Path> listRegionFiles(Path worldDir) {
         }
     }
 
+    /**
+     * Rewrites every saved chunk of a world with the chunk compression the
+     * world is configured to use, off the main thread. Chunks saved while
+     * rewriting are kept.
+     *
+     * @param world The world
+     * @return The number of chunks rewritten
+     */
+    public static CompletableFuture<Integer> recompressRegions(WorldServer world) {
+        final IChunkLoader chunkLoader = world.getChunkProvider().chunkLoader;
+        if (!(chunkLoader instanceof IMixinAnvilChunkLoader)) {
+            return CompletableFuture.completedFuture(0);
+        }
+        final Path worldDir = ((IMixinAnvilChunkLoader) chunkLoader).getWorldDir();
+        final WorldCategory category = ((IMixinWorldServer) world).getActiveConfig().getConfig().getWorld();
+        final ChunkCodec codec = category.getChunkCompression();
+        final int level = category.getChunkCompressionLevel();
+        return SpongeImpl.getScheduler().submitAsyncTask(() -> {
+            int chunks = 0;
+            for (Path regionFilePath : listRegionFiles(worldDir)) {
+                for (int x = 0; x < 32; x++) {
+                    for (int z = 0; z < 32; z++) {
+                        // Looked up again for every chunk, the cache may close it in between
+                        final RegionFile regionFile = getRegionFile(regionFilePath);
+                        try {
+                            if (ChunkCompression.recompress(regionFile, x, z, codec, level)) {
+                                chunks++;
+                            }
+                        } catch (IOException e) {
+                            SpongeImpl.getLogger().error("Failed to recompress chunk {}, {} of region file {}", x, z, regionFilePath, e);
+                        }
+                    }
+                }
+            }
+            return chunks;
+        });
+    }
+
     // Similar to RegionFileCache#createOrLoadRegionFile except this uses direct
     // file name instead of x,z
     public static RegionFile getRegionFile(Path regionFilePath) {
-        File file = regionFilePath.toFile();
-        RegionFile regionFile = RegionFileCache.REGIONS_BY_FILE.get(file);
-        if (regionFile != null) {
-            return regionFile;
-        }
-        if (RegionFileCache.REGIONS_BY_FILE.size() >= 256) {
-            RegionFileCache.clearRegionFileReferences();
-        }
-        regionFile = new RegionFile(file);
-        RegionFileCache.REGIONS_BY_FILE.put(file, regionFile);
-        return regionFile;
+        return SpongeRegionFileCache.getRegionFile(regionFilePath);
     }
 
 }
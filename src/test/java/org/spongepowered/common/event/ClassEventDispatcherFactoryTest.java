@@ -0,0 +1,174 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.event.entity.SpawnEntityEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.common.InjectedTest;
+import org.spongepowered.common.SpongeImpl;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class ClassEventDispatcherFactoryTest extends InjectedTest {
+
+    private SpongeEventManager eventManager;
+    private Object plugin;
+    private PluginContainer container;
+
+    @Before
+    public void init() throws Exception {
+        PluginManager manager = Mockito.mock(PluginManager.class);
+        this.eventManager = new SpongeEventManager(this.logger, manager);
+
+        this.plugin = new Object();
+        this.container = Mockito.mock(PluginContainer.class);
+        Mockito.when(manager.fromInstance(this.plugin)).thenReturn(Optional.of(this.container));
+    }
+
+    private EventDispatcher createDispatcher(SpawnEntityEvent event) throws Exception {
+        EventDispatcher dispatcher = this.eventManager.getDispatcherFactory().create(this.eventManager.getHandlerCache(event).getListeners());
+        Assert.assertNotNull(dispatcher);
+        return dispatcher;
+    }
+
+    @Test
+    public void testDispatcherCallsListenersInOrder() throws Exception {
+        List<String> calls = new ArrayList<>();
+        this.eventManager.registerListeners(this.plugin, new LateListener(calls));
+        this.eventManager.registerListeners(this.plugin, new EarlyListener(calls));
+
+        SpawnEntityEvent event = Mockito.mock(SpawnEntityEvent.class);
+        createDispatcher(event).dispatch(event);
+
+        // The failing listener must not keep the later ones from being called
+        Assert.assertEquals(Arrays.asList("pre", "first", "failing", "default", "last"), calls);
+    }
+
+    @Test
+    public void testDispatcherDefersPluginCause() throws Exception {
+        CauseListener listener = new CauseListener();
+        this.eventManager.registerListeners(this.plugin, listener);
+
+        SpawnEntityEvent event = Mockito.mock(SpawnEntityEvent.class);
+        EventDispatcher dispatcher = createDispatcher(event);
+
+        final SpongeCauseStackManager causeStackManager = SpongeImpl.getCauseStackManager();
+        try (SpongeCauseStackManager.StackFrame frame = causeStackManager.pushCauseFrame()) {
+            causeStackManager.pushCause(this);
+            dispatcher.dispatch(event);
+
+            // Every listener which reads the cause sees the plugin on top of
+            // the cause of the poster, the cause of an earlier listener is gone
+            Assert.assertEquals(2, listener.causes.size());
+            for (Cause cause : listener.causes) {
+                Assert.assertSame(this.container, cause.root());
+                Assert.assertEquals(Arrays.asList(this.container, this), cause.all());
+            }
+
+            // Deferred and pushed causes are both popped again after the listeners
+            Assert.assertSame(this, causeStackManager.getCurrentCause().root());
+            Assert.assertEquals(1, causeStackManager.getCurrentCause().all().size());
+        }
+    }
+
+    public static class EarlyListener {
+
+        private final List<String> calls;
+
+        EarlyListener(List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Listener(order = Order.PRE)
+        public void onPre(SpawnEntityEvent event) {
+            this.calls.add("pre");
+        }
+
+        @Listener(order = Order.FIRST)
+        public void onFirst(SpawnEntityEvent event) {
+            this.calls.add("first");
+        }
+
+        @Listener(order = Order.EARLY)
+        public void onEarly(SpawnEntityEvent event) {
+            this.calls.add("failing");
+            throw new IllegalStateException("Expected by the test");
+        }
+    }
+
+    public static class LateListener {
+
+        private final List<String> calls;
+
+        LateListener(List<String> calls) {
+            this.calls = calls;
+        }
+
+        @Listener(order = Order.LAST)
+        public void onLast(SpawnEntityEvent event) {
+            this.calls.add("last");
+        }
+
+        @Listener
+        public void onDefault(SpawnEntityEvent event) {
+            this.calls.add("default");
+        }
+    }
+
+    public static class CauseListener {
+
+        final List<Cause> causes = new ArrayList<>();
+
+        @Listener(order = Order.FIRST)
+        public void onFirst(SpawnEntityEvent event) {
+            this.causes.add(SpongeImpl.getCauseStackManager().getCurrentCause());
+        }
+
+        @Listener
+        public void onDefault(SpawnEntityEvent event) {
+            // Doesn't touch the cause stack, so nothing should be pushed for it
+        }
+
+        @Listener(order = Order.LAST)
+        public void onLast(SpawnEntityEvent event) {
+            this.causes.add(SpongeImpl.getCauseStackManager().getCurrentCause());
+        }
+    }
+
+}
@@ -25,14 +25,29 @@
 package org.spongepowered.common.event;
 
 import org.junit.Assert;
+import org.junit.Assume;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.Mockito;
+import org.spongepowered.api.block.BlockSnapshot;
+import org.spongepowered.api.data.Transaction;
 import org.spongepowered.api.entity.living.player.User;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.SpongeEventFactory;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.cause.Cause;
 import org.spongepowered.api.event.cause.EventContextKeys;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.common.SpongeImpl;
 import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
 
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
 @RunWith(LaunchWrapperTestRunner.class)
 public class PhaseStackManagerTest {
 
@@ -90,4 +105,97 @@ public void testPoppingFrameRemovesFrameContexts() throws Exception {
         Assert.assertFalse(causeStackManager.getContext(EventContextKeys.OWNER).isPresent());
     }
 
+    @Test
+    public void testFrameWithContextBarelyAllocates() throws Exception {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported());
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        final SpongeCauseStackManager causeStackManager = SpongeImpl.getCauseStackManager();
+
+        final User user = Mockito.mock(User.class);
+        final User user2 = Mockito.mock(User.class);
+
+        final SpongeCauseStackManager.StackFrame outer = causeStackManager.pushCauseFrame();
+        causeStackManager.addContext(EventContextKeys.OWNER, user);
+        final int frames = 100000;
+        // Warm up first, so that neither class loading nor the growth of the undo trail is measured
+        pushFramesWithContext(causeStackManager, user2, frames);
+
+        final long threadId = Thread.currentThread().getId();
+        final long before = threadBean.getThreadAllocatedBytes(threadId);
+        pushFramesWithContext(causeStackManager, user2, frames);
+        final long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+        causeStackManager.popCauseFrame(outer);
+
+        // Only the frame object itself is left, restoring the context of a frame should not allocate anything
+        Assert.assertTrue("Allocated " + allocated / frames + " bytes per frame", allocated / frames < 64);
+        Assert.assertFalse(causeStackManager.getContext(EventContextKeys.OWNER).isPresent());
+    }
+
+    @Test
+    public void testChangeBlockEventPostAllocations() throws Exception {
+        final ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        Assume.assumeTrue(bean instanceof com.sun.management.ThreadMXBean
+                && ((com.sun.management.ThreadMXBean) bean).isThreadAllocatedMemorySupported());
+        final com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) bean;
+        threadBean.setThreadAllocatedMemoryEnabled(true);
+        final SpongeCauseStackManager causeStackManager = SpongeImpl.getCauseStackManager();
+
+        final PluginManager pluginManager = Mockito.mock(PluginManager.class);
+        final SpongeEventManager eventManager = new SpongeEventManager(SpongeImpl.getLogger(), pluginManager);
+        final Object plugin = new Object();
+        Mockito.when(pluginManager.fromInstance(plugin)).thenReturn(Optional.of(Mockito.mock(PluginContainer.class)));
+        final BreakListener listener = new BreakListener();
+        eventManager.registerListeners(plugin, listener);
+
+        try (SpongeCauseStackManager.StackFrame frame = causeStackManager.pushCauseFrame()) {
+            causeStackManager.pushCause(this);
+            causeStackManager.addContext(EventContextKeys.OWNER, Mockito.mock(User.class));
+            // As long as the stack doesn't change, every event gets the same cause
+            final Cause cause = causeStackManager.getCurrentCause();
+            Assert.assertSame(cause, causeStackManager.getCurrentCause());
+            Assert.assertSame(cause.getContext(), causeStackManager.getCurrentContext());
+
+            final int posts = 100000;
+            // Warm up first, so that neither class loading nor the listener cache baking is measured
+            postChangeBlockEvents(causeStackManager, eventManager, posts);
+
+            final long threadId = Thread.currentThread().getId();
+            final long before = threadBean.getThreadAllocatedBytes(threadId);
+            postChangeBlockEvents(causeStackManager, eventManager, posts);
+            final long allocated = threadBean.getThreadAllocatedBytes(threadId) - before;
+
+            Assert.assertEquals(2 * posts, listener.events);
+            // What is left is the event itself, its frame and the cause rebuilt after the plugin cause was popped again
+            Assert.assertTrue("Allocated " + allocated / posts + " bytes per post", allocated / posts < 1024);
+        }
+    }
+
+    private static void postChangeBlockEvents(SpongeCauseStackManager causeStackManager, SpongeEventManager eventManager, int posts) {
+        final List<Transaction<BlockSnapshot>> transactions = Collections.emptyList();
+        for (int i = 0; i < posts; i++) {
+            eventManager.post(SpongeEventFactory.createChangeBlockEventBreak(causeStackManager.getCurrentCause(), transactions));
+        }
+    }
+
+    private static void pushFramesWithContext(SpongeCauseStackManager causeStackManager, User user, int frames) {
+        for (int i = 0; i < frames; i++) {
+            try (SpongeCauseStackManager.StackFrame frame = causeStackManager.pushCauseFrame()) {
+                frame.addContext(EventContextKeys.OWNER, user);
+            }
+        }
+    }
+
+    public static class BreakListener {
+
+        int events;
+
+        @Listener
+        public void onBreak(ChangeBlockEvent.Break event) {
+            this.events++;
+        }
+    }
+
 }
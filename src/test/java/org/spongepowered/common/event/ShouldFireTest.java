@@ -30,6 +30,7 @@
 import org.mockito.Mockito;
 import org.spongepowered.api.event.EventManager;
 import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
 import org.spongepowered.api.event.entity.SpawnEntityEvent;
 import org.spongepowered.api.plugin.PluginContainer;
 import org.spongepowered.api.plugin.PluginManager;
@@ -70,14 +71,59 @@ public void testSpawn() {
         SpawnListener listener = new SpawnListener();
 
         Assert.assertFalse("SPAWN_ENTITY_EVENT is not false!", ShouldFire.SPAWN_ENTITY_EVENT);
-        Assert.assertFalse("SPAWN_ENTITY_EVENT_CHUNKLOAD is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNKLOAD);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT_CHUNK_LOAD is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNK_LOAD);
         this.eventManager.registerListeners(this.plugin, listener);
         Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
-        Assert.assertFalse("SPAWN_ENTITY_EVENT_CHUNKLOAD is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNKLOAD);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_CHUNK_LOAD is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNK_LOAD);
 
         this.eventManager.unregisterListeners(listener);
         Assert.assertFalse("SPAWN_ENTITY_EVENT is not false!", ShouldFire.SPAWN_ENTITY_EVENT);
-        Assert.assertFalse("SPAWN_ENTITY_EVENT_CHUNKLOAD is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNKLOAD);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT_CHUNK_LOAD is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNK_LOAD);
+    }
+
+    @Test
+    public void testSubtypeOnlyListener() {
+        SubListener listener = new SubListener();
+
+        this.eventManager.registerListeners(this.plugin, listener);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_CUSTOM is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT_CHUNK_LOAD is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CHUNK_LOAD);
+
+        this.eventManager.unregisterListeners(listener);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT is not false!", ShouldFire.SPAWN_ENTITY_EVENT);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+    }
+
+    @Test
+    public void testBaseTypeListenerEnablesSubtypes() {
+        ChangeBlockListener listener = new ChangeBlockListener();
+
+        this.eventManager.registerListeners(this.plugin, listener);
+        Assert.assertTrue("CHANGE_BLOCK_EVENT is not true!", ShouldFire.CHANGE_BLOCK_EVENT);
+        Assert.assertTrue("CHANGE_BLOCK_EVENT_BREAK is not true!", ShouldFire.CHANGE_BLOCK_EVENT_BREAK);
+        Assert.assertTrue("CHANGE_BLOCK_EVENT_PLACE is not true!", ShouldFire.CHANGE_BLOCK_EVENT_PLACE);
+        Assert.assertTrue("CHANGE_BLOCK_EVENT_PRE is not true!", ShouldFire.CHANGE_BLOCK_EVENT_PRE);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT is not false!", ShouldFire.SPAWN_ENTITY_EVENT);
+
+        this.eventManager.unregisterListeners(listener);
+        Assert.assertFalse("CHANGE_BLOCK_EVENT is not false!", ShouldFire.CHANGE_BLOCK_EVENT);
+        Assert.assertFalse("CHANGE_BLOCK_EVENT_BREAK is not false!", ShouldFire.CHANGE_BLOCK_EVENT_BREAK);
+    }
+
+    @Test
+    public void testListenersOfSameType() {
+        SpawnListener first = new SpawnListener();
+        SpawnListener second = new SpawnListener();
+
+        this.eventManager.registerListeners(this.plugin, first);
+        this.eventManager.registerListeners(this.plugin, second);
+        this.eventManager.unregisterListeners(second);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_CUSTOM is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+
+        this.eventManager.unregisterListeners(first);
+        Assert.assertFalse("SPAWN_ENTITY_EVENT is not false!", ShouldFire.SPAWN_ENTITY_EVENT);
     }
 
     @Test
@@ -88,20 +134,21 @@ public void testMultipleListeners() {
         Assert.assertFalse("SPAWN_ENTITY_EVENT is not false!", ShouldFire.SPAWN_ENTITY_EVENT);
         Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
 
-        this.eventManager.registerListeners(this.plugin, first);
+        this.eventManager.registerListeners(this.plugin, second);
 
         Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
-        Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_CUSTOM is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
 
-        this.eventManager.registerListeners(this.plugin, second);
+        this.eventManager.registerListeners(this.plugin, first);
 
         Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
         Assert.assertTrue("SPAWN_ENTITY_EVENT_CUSTOM is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
 
         this.eventManager.unregisterListeners(second);
 
+        // Custom spawns are still delivered to the listener of every spawn
         Assert.assertTrue("SPAWN_ENTITY_EVENT is not true!", ShouldFire.SPAWN_ENTITY_EVENT);
-        Assert.assertFalse("SPAWN_ENTITY_EVENT_CUSTOM is not false!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
+        Assert.assertTrue("SPAWN_ENTITY_EVENT_CUSTOM is not true!", ShouldFire.SPAWN_ENTITY_EVENT_CUSTOM);
 
         this.eventManager.unregisterListeners(first);
 
@@ -121,4 +168,10 @@ private static class SubListener {
         public void onCustom(SpawnEntityEvent.Custom event) {}
     }
 
+    private static class ChangeBlockListener {
+
+        @Listener
+        public void onChangeBlock(ChangeBlockEvent event) {}
+    }
+
 }
@@ -0,0 +1,142 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Listener;
+import org.spongepowered.api.event.Order;
+import org.spongepowered.api.event.block.ChangeBlockEvent;
+import org.spongepowered.api.event.entity.SpawnEntityEvent;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+import org.spongepowered.common.InjectedTest;
+import org.spongepowered.lwts.runner.LaunchWrapperTestRunner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+@RunWith(LaunchWrapperTestRunner.class)
+public class SpongeEventManagerTest extends InjectedTest {
+
+    private SpongeEventManager eventManager;
+    private Object plugin;
+
+    @Before
+    public void init() throws Exception {
+        PluginManager manager = Mockito.mock(PluginManager.class);
+        this.eventManager = new SpongeEventManager(this.logger, manager);
+
+        this.plugin = new Object();
+        PluginContainer container = Mockito.mock(PluginContainer.class);
+        Mockito.when(manager.fromInstance(this.plugin)).thenReturn(Optional.of(container));
+    }
+
+    @Test
+    public void testUnrelatedRegistrationKeepsCache() {
+        SpawnEntityEvent.Custom event = Mockito.mock(SpawnEntityEvent.Custom.class);
+        RegisteredListener.Cache cache = this.eventManager.getHandlerCache(event);
+        Assert.assertTrue(cache.getListeners().isEmpty());
+
+        this.eventManager.registerListeners(this.plugin, new BreakListener());
+        Assert.assertSame("Unrelated event type was rebaked!", cache, this.eventManager.getHandlerCache(event));
+    }
+
+    @Test
+    public void testSupertypeRegistrationRebakesSubtypes() {
+        SpawnEntityEvent.Custom event = Mockito.mock(SpawnEntityEvent.Custom.class);
+        Assert.assertTrue(this.eventManager.getHandlerCache(event).getListeners().isEmpty());
+
+        SpawnListener listener = new SpawnListener();
+        this.eventManager.registerListeners(this.plugin, listener);
+        Assert.assertEquals(1, this.eventManager.getHandlerCache(event).getListeners().size());
+
+        this.eventManager.unregisterListeners(listener);
+        Assert.assertTrue(this.eventManager.getHandlerCache(event).getListeners().isEmpty());
+    }
+
+    @Test
+    public void testPostAsyncKeepsOrder() throws Exception {
+        OrderListener listener = new OrderListener();
+        this.eventManager.registerListeners(this.plugin, listener);
+
+        List<SpawnEntityEvent> events = new ArrayList<>();
+        List<CompletableFuture<Boolean>> futures = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            SpawnEntityEvent event = Mockito.mock(SpawnEntityEvent.class);
+            events.add(event);
+            futures.add(this.eventManager.postAsync(event));
+        }
+        for (CompletableFuture<Boolean> future : futures) {
+            Assert.assertFalse(future.get(10, TimeUnit.SECONDS));
+        }
+
+        // The listeners run on the poster threads, where failed assertions would only be logged
+        Assert.assertTrue("Order was not kept for " + listener.outOfOrder, listener.outOfOrder.isEmpty());
+        Assert.assertEquals(events, listener.first);
+        Assert.assertEquals(events, listener.last);
+    }
+
+    public static class OrderListener {
+
+        final List<Event> first = Collections.synchronizedList(new ArrayList<>());
+        final List<Event> last = Collections.synchronizedList(new ArrayList<>());
+        final List<Event> outOfOrder = Collections.synchronizedList(new ArrayList<>());
+
+        @Listener(order = Order.FIRST)
+        public void onFirst(SpawnEntityEvent event) {
+            this.first.add(event);
+        }
+
+        @Listener(order = Order.LAST)
+        public void onLast(SpawnEntityEvent event) {
+            if (!this.first.contains(event)) {
+                this.outOfOrder.add(event);
+            }
+            this.last.add(event);
+        }
+    }
+
+    private static class SpawnListener {
+
+        @Listener
+        public void onSpawn(SpawnEntityEvent event) {}
+    }
+
+    private static class BreakListener {
+
+        @Listener
+        public void onBreak(ChangeBlockEvent.Break event) {}
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TimingWheelTest {
+
+    private static ScheduledTask task() {
+        return new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, t -> { }, "test", 0, true, 0, true, null);
+    }
+
+    @Test
+    public void testExpiresAtDeadline() {
+        final TimingWheel wheel = new TimingWheel(0L);
+        final long[] deadlines = {0, 1, 63, 64, 65, 4095, 4096, 100000, 5000000};
+        final List<ScheduledTask> tasks = new ArrayList<>();
+        for (long deadline : deadlines) {
+            final ScheduledTask task = task();
+            tasks.add(task);
+            wheel.add(task, deadline);
+        }
+        final List<ScheduledTask> expired = new ArrayList<>();
+        int next = 0;
+        for (long now = 0; now <= 5000000; now++) {
+            wheel.advance(now, expired);
+            if (next < deadlines.length && deadlines[next] == now) {
+                assertEquals(1, expired.size());
+                assertTrue(expired.get(0) == tasks.get(next));
+                next++;
+            } else {
+                assertEquals(0, expired.size());
+            }
+            expired.clear();
+        }
+        assertEquals(deadlines.length, next);
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void testLargeAdvance() {
+        final TimingWheel wheel = new TimingWheel(0L);
+        wheel.add(task(), 10);
+        wheel.add(task(), 70000);
+        wheel.add(task(), Long.MAX_VALUE);
+        final List<ScheduledTask> expired = new ArrayList<>();
+        wheel.advance(69999, expired);
+        assertEquals(1, expired.size());
+        wheel.advance(1L << 40, expired);
+        assertEquals(2, expired.size());
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    public void testPastDeadlineExpiresNext() {
+        final TimingWheel wheel = new TimingWheel(0L);
+        final List<ScheduledTask> expired = new ArrayList<>();
+        wheel.advance(100, expired);
+        wheel.add(task(), 50);
+        wheel.advance(100, expired);
+        assertEquals(0, expired.size());
+        wheel.advance(101, expired);
+        assertEquals(1, expired.size());
+    }
+
+    @Test
+    public void testRemove() {
+        final TimingWheel wheel = new TimingWheel(0L);
+        final ScheduledTask first = task();
+        final ScheduledTask second = task();
+        final ScheduledTask third = task();
+        wheel.add(first, 200);
+        wheel.add(second, 200);
+        wheel.add(third, 200);
+        wheel.remove(second);
+        wheel.remove(second);
+        final List<ScheduledTask> expired = new ArrayList<>();
+        wheel.advance(200, expired);
+        assertEquals(2, expired.size());
+        assertTrue(expired.contains(first));
+        assertTrue(expired.contains(third));
+        assertEquals(0, wheel.size());
+    }
+}